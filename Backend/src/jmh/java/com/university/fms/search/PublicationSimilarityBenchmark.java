@@ -0,0 +1,97 @@
+package com.university.fms.search;
+
+import com.university.fms.entity.Publication;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+// findRelated() latency over a seeded synthetic corpus. Each publication is written around one of TOPICS
+// subjects: most of its words come from that topic's vocabulary, the rest from a Zipf-distributed general one,
+// so neighbours are meaningful and common words carry low IDF as in real abstracts. SampleTime reports the
+// percentiles as well as the mean.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgs = {"-Xms4g", "-Xmx4g"})
+public class PublicationSimilarityBenchmark {
+
+    private static final int TOPICS = 400;
+    private static final int TOPIC_WORDS = 80;
+    private static final int GENERAL_WORDS = 30_000;
+    private static final int TITLE_LENGTH = 10;
+    private static final int ABSTRACT_LENGTH = 180;
+    private static final double ON_TOPIC = 0.6;
+
+    @Param({"60000", "200000"})
+    public int publications;
+
+    @Param({"10"})
+    public int k;
+
+    private PublicationSimilarityIndex index;
+    private SplittableRandom queries;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42L);
+        String[] general = words(GENERAL_WORDS, 0);
+        String[][] topics = new String[TOPICS][];
+        for (int topic = 0; topic < TOPICS; topic++) {
+            topics[topic] = words(TOPIC_WORDS, GENERAL_WORDS + topic * TOPIC_WORDS);
+        }
+        double[] zipf = new double[GENERAL_WORDS];
+        double total = 0;
+        for (int rank = 0; rank < GENERAL_WORDS; rank++) {
+            total += 1.0 / (rank + 1);
+            zipf[rank] = total;
+        }
+
+        index = new PublicationSimilarityIndex();
+        for (long id = 1; id <= publications; id++) {
+            String[] topic = topics[random.nextInt(TOPICS)];
+            Publication publication = new Publication();
+            publication.setId(id);
+            publication.setTitle(text(TITLE_LENGTH, topic, general, zipf, random));
+            publication.setJournalName("Journal of " + general[random.nextInt(200)]);
+            publication.setAbstractText(text(ABSTRACT_LENGTH, topic, general, zipf, random));
+            index.onSaved(publication);
+        }
+        queries = new SplittableRandom(7L);
+    }
+
+    @Benchmark
+    public Object findRelated() {
+        return index.findRelated(1L + queries.nextInt(publications), k);
+    }
+
+    private static String text(int length, String[] topic, String[] general, double[] zipf, SplittableRandom random) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < length; i++) {
+            if (random.nextDouble() < ON_TOPIC) {
+                text.append(topic[random.nextInt(topic.length)]);
+            } else {
+                int rank = Arrays.binarySearch(zipf, random.nextDouble() * zipf[zipf.length - 1]);
+                text.append(general[rank >= 0 ? rank : Math.min(-rank - 1, general.length - 1)]);
+            }
+            text.append(' ');
+        }
+        return text.toString();
+    }
+
+    // Distinct letter-only words, so the analyzer keeps each one as a single token
+    private static String[] words(int count, int offset) {
+        String[] words = new String[count];
+        for (int i = 0; i < count; i++) {
+            StringBuilder word = new StringBuilder("q");
+            for (int n = offset + i; n > 0 || word.length() < 3; n /= 26) {
+                word.append((char) ('a' + n % 26));
+            }
+            words[i] = word.toString();
+        }
+        return words;
+    }
+}
@@ -0,0 +1,71 @@
+package com.university.fms.security;
+
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.security.Key;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Tokens verified per second on one thread: the filter's former validate-then-read-subject path, which decoded
+// the secret and parsed the token twice, against the single-parse verifyJwtToken() with its preloaded key ring
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(1)
+public class JwtVerifyBenchmark {
+
+    // Same value as app.jwt.secret
+    private static final String SECRET = "mySecretKey12345678901234567890123456789012345678901234567890";
+    private static final String KEY_ID = "primary";
+
+    private JwtUtils jwtUtils;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtUtils = new JwtUtils();
+        ReflectionTestUtils.setField(jwtUtils, "jwtSecret", SECRET);
+        ReflectionTestUtils.setField(jwtUtils, "jwtKeyId", KEY_ID);
+        ReflectionTestUtils.setField(jwtUtils, "retiredKeys", "");
+        ReflectionTestUtils.setField(jwtUtils, "jwtExpirationMs", 86400000);
+        jwtUtils.init();
+
+        token = Jwts.builder()
+                .setHeaderParam(JwsHeader.KEY_ID, KEY_ID)
+                .setSubject("jdoe")
+                .claim(JwtClaims.USER_ID, 42L)
+                .claim(JwtClaims.EMAIL, "jdoe@example.edu")
+                .claim(JwtClaims.ROLES, List.of("ROLE_FACULTY"))
+                .claim(JwtClaims.TOKEN_VERSION, 0)
+                .setIssuedAt(new Date())
+                .setExpiration(new Date(System.currentTimeMillis() + 86400000L))
+                .signWith(key(), SignatureAlgorithm.HS256)
+                .compact();
+    }
+
+    @Benchmark
+    public String before() {
+        Jwts.parserBuilder().setSigningKey(key()).build().parse(token);
+        return Jwts.parserBuilder().setSigningKey(key()).build().parseClaimsJws(token).getBody().getSubject();
+    }
+
+    @Benchmark
+    public JwtClaims after() {
+        return jwtUtils.verifyJwtToken(token);
+    }
+
+    // What JwtUtils.key() did on every call before the key was decoded once at startup
+    private static Key key() {
+        return Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET));
+    }
+}
@@ -0,0 +1,110 @@
+package com.university.fms.service;
+
+import com.university.fms.entity.Course;
+import com.university.fms.entity.DegreeProgram;
+import com.university.fms.entity.DegreeRequirement;
+import com.university.fms.entity.Department;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+// Seeded synthetic cohort for DegreeAuditBenchmark: a catalogue of courses spread over ten departments (every
+// eleventh course has none), a program using every requirement type, and AUDIT rows ordered by student as
+// StudentEnrollmentRepository.streamAuditRows() returns them. Grades include failing, withdrawn, pass/no-pass
+// and unnormalised values so every branch of the evaluation is taken.
+final class AuditCohortGenerator {
+
+    static final int COURSES = 300;
+    static final int DEPARTMENTS = 10;
+
+    private static final int[] CORE = {1, 2, 3, 70, 130};
+
+    // Mostly passing, so a fair share of the cohort completes the program
+    private static final String[] GRADES = {"A", "A", "B+", "B", "B", "C", "C", "D-", "F", "P", "NP", "W", "a "};
+
+    private final Course[] courses = new Course[COURSES + 1];
+    private final Long[] departmentIds = new Long[COURSES + 1];
+    private final Department[] departments = new Department[DEPARTMENTS + 1];
+
+    AuditCohortGenerator(long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        for (int d = 1; d <= DEPARTMENTS; d++) {
+            departments[d] = new Department("Department " + d, null);
+            departments[d].setId((long) d);
+        }
+        for (int c = 1; c <= COURSES; c++) {
+            departmentIds[c] = c % 11 == 0 ? null : (long) (c % DEPARTMENTS + 1);
+            Department department = departmentIds[c] != null ? departments[departmentIds[c].intValue()] : null;
+            courses[c] = new Course("Course " + c, String.format("CRS%03d", c), null, 1 + random.nextInt(4),
+                    department);
+            courses[c].setId((long) c);
+        }
+    }
+
+    // 100 credits overall, 12 in department 3, five core courses, 3 courses from one pool and 6 credits from
+    // another, and a 2.3 GPA
+    DegreeProgram program() {
+        DegreeProgram program = new DegreeProgram("BSc Synthetic", null);
+        program.setId(1L);
+
+        DegreeRequirement total = requirement(program, 1, "Total credits", DegreeRequirement.Type.TOTAL_CREDITS);
+        total.setMinCredits(100);
+
+        DegreeRequirement department = requirement(program, 2, "Department credits",
+                DegreeRequirement.Type.DEPARTMENT_CREDITS);
+        department.setDepartment(departments[3]);
+        department.setMinCredits(12);
+
+        DegreeRequirement core = requirement(program, 3, "Core", DegreeRequirement.Type.REQUIRED_COURSES);
+        for (int c : CORE) {
+            core.getCourses().add(courses[c]);
+        }
+
+        DegreeRequirement electives = requirement(program, 4, "Electives", DegreeRequirement.Type.ELECTIVE_POOL);
+        for (int c = 10; c <= 90; c++) {
+            electives.getCourses().add(courses[c]);
+        }
+        electives.setMinCourses(3);
+
+        DegreeRequirement seminars = requirement(program, 5, "Seminars", DegreeRequirement.Type.ELECTIVE_POOL);
+        for (int c = 40; c <= 60; c++) {
+            seminars.getCourses().add(courses[c]);
+        }
+        seminars.setMinCredits(6);
+
+        DegreeRequirement gpa = requirement(program, 6, "Minimum GPA", DegreeRequirement.Type.MIN_GPA);
+        gpa.setMinGpa(2.3);
+        return program;
+    }
+
+    // {studentId, courseId, departmentId, credits, grade}: the core courses plus 30 to 69 random enrollments
+    // per student, repeats included
+    List<Object[]> rows(int students, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        List<Object[]> rows = new ArrayList<>(students * 55);
+        for (long student = 1; student <= students; student++) {
+            for (int c : CORE) {
+                rows.add(row(student, c, random));
+            }
+            int enrollments = 30 + random.nextInt(40);
+            for (int i = 0; i < enrollments; i++) {
+                rows.add(row(student, 1 + random.nextInt(COURSES), random));
+            }
+        }
+        return rows;
+    }
+
+    private Object[] row(long student, int c, SplittableRandom random) {
+        return new Object[]{student, (long) c, departmentIds[c], courses[c].getCredits(),
+                GRADES[random.nextInt(GRADES.length)]};
+    }
+
+    private static DegreeRequirement requirement(DegreeProgram program, long id, String name,
+                                                 DegreeRequirement.Type type) {
+        DegreeRequirement requirement = new DegreeRequirement(program, name, type);
+        requirement.setId(id);
+        program.getRequirements().add(requirement);
+        return requirement;
+    }
+}
@@ -0,0 +1,61 @@
+package com.university.fms.service;
+
+import com.university.fms.dto.response.DegreeAuditRun;
+import com.university.fms.entity.DegreeProgram;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Whole-cohort audit time for the AuditCohortGenerator program, from rows already in memory; the database
+// read that feeds the engine in production is left out. parallelism 0 uses one worker per CPU, as in
+// app.audits.parallelism.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgs = {"-Xms2g", "-Xmx2g"})
+public class DegreeAuditBenchmark {
+
+    @Param({"30000"})
+    public int students;
+
+    @Param({"1", "0"})
+    public int parallelism;
+
+    @Param({"1000"})
+    public int batchSize;
+
+    private DegreeAuditEngine engine;
+    private DegreeProgram program;
+    private List<Object[]> rows;
+
+    @Setup
+    public void setUp() {
+        AuditCohortGenerator generator = new AuditCohortGenerator(7L);
+        program = generator.program();
+        rows = generator.rows(students, 11L);
+
+        engine = new DegreeAuditEngine();
+        ReflectionTestUtils.setField(engine, "parallelism", parallelism);
+        ReflectionTestUtils.setField(engine, "batchSize", batchSize);
+        engine.init();
+    }
+
+    @TearDown
+    public void tearDown() {
+        engine.shutdown();
+    }
+
+    @Benchmark
+    public DegreeAuditRun auditCohort() {
+        return engine.audit(program, rows.stream(), null, false);
+    }
+
+    @Benchmark
+    public DegreeAuditRun auditCohortIncompleteOnly() {
+        return engine.audit(program, rows.stream(), null, true);
+    }
+}
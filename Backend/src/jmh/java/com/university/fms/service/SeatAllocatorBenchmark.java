@@ -0,0 +1,59 @@
+package com.university.fms.service;
+
+import com.university.fms.repository.StudentEnrollmentRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+// Reservation latency on one hot section, alone and with 64 callers hammering it. Each call takes a seat and
+// hands it straight back, so the section never fills and every call walks the compare-and-set path; outside a
+// transaction both settle immediately. SampleTime reports the percentiles the concurrency tests used to assert.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SeatAllocatorBenchmark {
+
+    private static final Long COURSE_ID = 1L;
+    private static final String SEMESTER = "Fall";
+    private static final Integer YEAR = 2024;
+    // Above the thread count, so a reservation never fails for lack of seats
+    private static final int CAPACITY = 100;
+
+    private SeatAllocator seatAllocator;
+
+    @Setup
+    public void setUp() {
+        StudentEnrollmentRepository enrollmentRepository = mock(StudentEnrollmentRepository.class);
+        when(enrollmentRepository.countByCourseIdAndSemesterAndYear(any(), any(), any())).thenReturn(0L);
+        seatAllocator = new SeatAllocator();
+        ReflectionTestUtils.setField(seatAllocator, "enrollmentRepository", enrollmentRepository);
+        // Count the section once here, so the mocked repository stays off the measured path
+        seatAllocator.available(COURSE_ID, SEMESTER, YEAR, CAPACITY);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public boolean uncontended() {
+        return reserveAndRelease();
+    }
+
+    @Benchmark
+    @Threads(64)
+    public boolean contended() {
+        return reserveAndRelease();
+    }
+
+    private boolean reserveAndRelease() {
+        boolean reserved = seatAllocator.tryReserve(COURSE_ID, SEMESTER, YEAR, CAPACITY);
+        seatAllocator.release(COURSE_ID, SEMESTER, YEAR);
+        return reserved;
+    }
+}
@@ -0,0 +1,204 @@
+package com.university.fms.admission;
+
+import com.university.fms.dto.response.AdmissionStatus;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+
+// Admission control for enrollment writes. Up to `limit` requests run at once; the rest get a signed queue
+// ticket and poll until their number comes up. The limit follows AIMD on the latency of admitted requests
+// (which is dominated by the database), and each tick admits as many waiting tickets as that limit and
+// latency can serve in one tick. An admitted ticket gets in once, and only within ticket-ttl of being
+// admitted; after that the holder queues again like a new client.
+@Component
+public class AdmissionGate {
+
+    private static final int SIGNATURE_BYTES = 16;
+
+    @Autowired
+    private AdmissionState state;
+
+    @Value("${app.jwt.secret}")
+    private String secret;
+
+    @Value("${app.admission.initial-limit}")
+    private int initialLimit;
+
+    @Value("${app.admission.min-limit}")
+    private int minLimit;
+
+    @Value("${app.admission.max-limit}")
+    private int maxLimit;
+
+    @Value("${app.admission.target-latency}")
+    private long targetLatencyMs;
+
+    @Value("${app.admission.tick-interval}")
+    private long tickIntervalMs;
+
+    @Value("${app.admission.ticket-ttl}")
+    private long ticketTtlMs;
+
+    private SecretKeySpec signingKey;
+
+    private volatile int limit;
+    private volatile double latencyMs;
+
+    // admittedThrough() as of each of the last ticket-ttl worth of ticks, oldest at ticks % length
+    private long[] admittedAt;
+    private long ticks;
+
+    // Completions since the last tick
+    private final LongAdder windowNanos = new LongAdder();
+    private final LongAdder windowCompletions = new LongAdder();
+
+    private final LongAdder enteredDirectly = new LongAdder();
+    private final LongAdder enteredFromQueue = new LongAdder();
+    private final LongAdder ticketsIssued = new LongAdder();
+    private final LongAdder ticketsRefused = new LongAdder();
+
+    @PostConstruct
+    public void init() {
+        // Derived from the JWT secret so every node accepts tickets issued by the others
+        signingKey = new SecretKeySpec(("admission:" + secret).getBytes(StandardCharsets.UTF_8), "HmacSHA256");
+        limit = initialLimit;
+        latencyMs = targetLatencyMs;
+        admittedAt = new long[(int) Math.max(1, ticketTtlMs / tickIntervalMs)];
+    }
+
+    // Empty when the caller got a slot and must call exit() once done; otherwise its place in the queue
+    public Optional<AdmissionStatus> tryEnter(String token) {
+        long ticket = token != null ? verify(token) : -1;
+        if (ticket >= 0 && ticket <= state.admittedThrough()) {
+            if (!state.tryAcquire(limit)) {
+                return Optional.of(status(ticket));
+            }
+            if (state.consume(ticket)) {
+                enteredFromQueue.increment();
+                return Optional.empty();
+            }
+            // Used before or admitted too long ago: treated like a request without a ticket
+            state.release();
+            ticketsRefused.increment();
+            ticket = -1;
+        }
+        if (ticket < 0) {
+            if (state.waiting() == 0 && state.tryAcquire(limit)) {
+                enteredDirectly.increment();
+                return Optional.empty();
+            }
+            ticket = state.enqueue();
+            ticketsIssued.increment();
+        }
+        return Optional.of(status(ticket));
+    }
+
+    public void exit(long elapsedNanos) {
+        state.release();
+        windowNanos.add(elapsedNanos);
+        windowCompletions.increment();
+    }
+
+    public AdmissionStatus getStatus(String token) {
+        long ticket = verify(token);
+        if (ticket < 0) {
+            throw new IllegalArgumentException("Invalid admission token");
+        }
+        return status(ticket);
+    }
+
+    @Scheduled(fixedRateString = "${app.admission.tick-interval}")
+    public void tick() {
+        long completions = windowCompletions.sumThenReset();
+        long nanos = windowNanos.sumThenReset();
+        boolean demand = state.waiting() > 0 || state.inFlight() >= limit;
+        if (completions > 0) {
+            latencyMs = 0.8 * latencyMs + 0.2 * (nanos / 1_000_000.0 / completions);
+            if (latencyMs > targetLatencyMs) {
+                limit = Math.max(minLimit, (int) (limit * 0.9));
+            } else if (demand) {
+                limit = Math.min(maxLimit, limit + 1);
+            }
+        }
+
+        long free = limit - state.inFlight();
+        long budget = (long) Math.ceil(admitRatePerSecond() * tickIntervalMs / 1000.0);
+        if (free > 0) {
+            state.admit(Math.min(free, budget));
+        }
+
+        int slot = (int) (ticks++ % admittedAt.length);
+        state.expireThrough(admittedAt[slot]);
+        admittedAt[slot] = state.admittedThrough();
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("limit", limit);
+        stats.put("inFlight", state.inFlight());
+        stats.put("waiting", state.waiting());
+        stats.put("latencyMs", Math.round(latencyMs * 10) / 10.0);
+        stats.put("admitRatePerSecond", Math.round(admitRatePerSecond()));
+        stats.put("enteredDirectly", enteredDirectly.sum());
+        stats.put("enteredFromQueue", enteredFromQueue.sum());
+        stats.put("ticketsIssued", ticketsIssued.sum());
+        stats.put("ticketsRefused", ticketsRefused.sum());
+        return stats;
+    }
+
+    private AdmissionStatus status(long ticket) {
+        long position = Math.max(ticket - state.admittedThrough(), 0);
+        long retryAfter = Math.max(1L, (long) Math.ceil(position / Math.max(admitRatePerSecond(), 1.0)));
+        return new AdmissionStatus(sign(ticket), position, retryAfter);
+    }
+
+    // Little's law: `limit` requests in flight each taking latencyMs
+    private double admitRatePerSecond() {
+        return limit * 1000.0 / Math.max(latencyMs, 1.0);
+    }
+
+    private String sign(long ticket) {
+        return ticket + "." + Base64.getUrlEncoder().withoutPadding().encodeToString(signature(ticket));
+    }
+
+    // Ticket number, or -1 when the token was not issued by us
+    private long verify(String token) {
+        int dot = token.indexOf('.');
+        if (dot <= 0) {
+            return -1;
+        }
+        try {
+            long ticket = Long.parseLong(token.substring(0, dot));
+            byte[] presented = Base64.getUrlDecoder().decode(token.substring(dot + 1));
+            return MessageDigest.isEqual(presented, signature(ticket)) ? ticket : -1;
+        } catch (IllegalArgumentException e) {
+            return -1;
+        }
+    }
+
+    private byte[] signature(long ticket) {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(signingKey);
+            byte[] digest = mac.doFinal(ByteBuffer.allocate(Long.BYTES).putLong(ticket).array());
+            return Arrays.copyOf(digest, SIGNATURE_BYTES);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HmacSHA256 unavailable", e);
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.university.fms.admission;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.university.fms.dto.response.AdmissionStatus;
+import com.university.fms.dto.response.ApiResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.util.Optional;
+
+// Puts enrollment writes through AdmissionGate; reads pass straight through
+@Component
+public class AdmissionInterceptor implements HandlerInterceptor {
+
+    public static final String TOKEN_HEADER = "X-Admission-Token";
+
+    private static final String STARTED_AT = AdmissionInterceptor.class.getName() + ".startedAt";
+
+    @Autowired
+    private AdmissionGate admissionGate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) throws Exception {
+        if (HttpMethod.GET.matches(request.getMethod()) || HttpMethod.HEAD.matches(request.getMethod())
+                || HttpMethod.OPTIONS.matches(request.getMethod())) {
+            return true;
+        }
+
+        Optional<AdmissionStatus> queued = admissionGate.tryEnter(request.getHeader(TOKEN_HEADER));
+        if (queued.isEmpty()) {
+            request.setAttribute(STARTED_AT, System.nanoTime());
+            return true;
+        }
+
+        AdmissionStatus status = queued.get();
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(status.getRetryAfterSeconds()));
+        response.setHeader(TOKEN_HEADER, status.getToken());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), new ApiResponse<>(false,
+                "Enrollment is busy, your request has been queued; retry with the " + TOKEN_HEADER + " header",
+                status));
+        return false;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        Object startedAt = request.getAttribute(STARTED_AT);
+        if (startedAt instanceof Long started) {
+            admissionGate.exit(System.nanoTime() - started);
+        }
+    }
+}
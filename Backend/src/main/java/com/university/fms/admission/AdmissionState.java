@@ -0,0 +1,34 @@
+package com.university.fms.admission;
+
+// Counters behind the enrollment waiting room. Tickets are numbered in arrival order and every ticket up to
+// admittedThrough() may enter, so the queue itself is two numbers: enqueue and admit are O(1) and no state
+// is kept per waiting client. Only tickets that have been used are remembered, and only until they expire,
+// so that each admitted ticket gets in once. A multi-node deployment swaps in an implementation backed by a shared store
+// (atomic INCR and compare-and-set on the same counters); LocalAdmissionState covers a single node.
+public interface AdmissionState {
+
+    // Issues the next ticket number
+    long enqueue();
+
+    // Highest ticket allowed in
+    long admittedThrough();
+
+    // Lets up to count more waiting tickets in; returns how many were admitted
+    long admit(long count);
+
+    // Marks an admitted ticket as used; false when it was used before or has expired
+    boolean consume(long ticket);
+
+    // Expires every ticket up to and including floor and forgets which of them were used
+    void expireThrough(long floor);
+
+    // Tickets issued but not yet admitted
+    long waiting();
+
+    // Takes one of limit concurrent slots, false when all are busy
+    boolean tryAcquire(int limit);
+
+    void release();
+
+    int inFlight();
+}
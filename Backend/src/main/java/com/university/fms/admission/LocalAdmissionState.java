@@ -0,0 +1,82 @@
+package com.university.fms.admission;
+
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+// In-process AdmissionState; also the stand-in for the shared store when running several nodes locally
+@Component
+public class LocalAdmissionState implements AdmissionState {
+
+    private final AtomicLong lastIssued = new AtomicLong();
+    private final AtomicLong admittedThrough = new AtomicLong();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicLong expiredThrough = new AtomicLong();
+    private final ConcurrentSkipListSet<Long> consumed = new ConcurrentSkipListSet<>();
+
+    @Override
+    public long enqueue() {
+        return lastIssued.incrementAndGet();
+    }
+
+    @Override
+    public long admittedThrough() {
+        return admittedThrough.get();
+    }
+
+    @Override
+    public long admit(long count) {
+        while (true) {
+            long current = admittedThrough.get();
+            long next = Math.min(current + count, lastIssued.get());
+            if (next <= current) {
+                return 0;
+            }
+            if (admittedThrough.compareAndSet(current, next)) {
+                return next - current;
+            }
+        }
+    }
+
+    @Override
+    public boolean consume(long ticket) {
+        return ticket > expiredThrough.get() && consumed.add(ticket);
+    }
+
+    @Override
+    public void expireThrough(long floor) {
+        expiredThrough.accumulateAndGet(floor, Math::max);
+        // Also sweeps up a ticket consumed while a previous call was moving the floor past it
+        consumed.headSet(expiredThrough.get(), true).clear();
+    }
+
+    @Override
+    public long waiting() {
+        return Math.max(lastIssued.get() - admittedThrough.get(), 0);
+    }
+
+    @Override
+    public boolean tryAcquire(int limit) {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= limit) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    @Override
+    public void release() {
+        inFlight.decrementAndGet();
+    }
+
+    @Override
+    public int inFlight() {
+        return inFlight.get();
+    }
+}
@@ -0,0 +1,35 @@
+package com.university.fms.config;
+
+import com.university.fms.entity.IdSequences;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+// Moves each pooled id sequence past the rows inserted while the tables still used AUTO_INCREMENT.
+// Runs after Hibernate has created id_sequences and before the web server accepts requests.
+@Component
+@DependsOn("entityManagerFactory")
+public class IdSequenceInitializer {
+    private static final Logger logger = LoggerFactory.getLogger(IdSequenceInitializer.class);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @PostConstruct
+    public void init() {
+        for (String table : IdSequences.TABLES) {
+            // The pooled optimizer hands out (stored - allocationSize, stored], so stay a full block above MAX(id)
+            jdbcTemplate.update("INSERT INTO " + IdSequences.TABLE + " (" + IdSequences.NAME_COLUMN + ", "
+                            + IdSequences.VALUE_COLUMN + ") "
+                            + "SELECT ?, COALESCE(MAX(id), 0) + ? FROM " + table + " AS t "
+                            + "ON DUPLICATE KEY UPDATE " + IdSequences.VALUE_COLUMN + " = GREATEST("
+                            + IdSequences.VALUE_COLUMN + ", VALUES(" + IdSequences.VALUE_COLUMN + "))",
+                    table, IdSequences.ALLOCATION_SIZE + 1);
+        }
+        logger.info("Id sequences aligned for {} tables", IdSequences.TABLES.size());
+    }
+}
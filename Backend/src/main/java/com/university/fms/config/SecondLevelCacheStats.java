@@ -0,0 +1,53 @@
+package com.university.fms.config;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeSet;
+
+// Hit ratios of the Hibernate second-level and query caches configured in ehcache.xml
+@Component
+public class SecondLevelCacheStats {
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    public Map<String, Object> getStats() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        Map<String, Object> regions = new LinkedHashMap<>();
+        for (String regionName : new TreeSet<>(Arrays.asList(statistics.getSecondLevelCacheRegionNames()))) {
+            CacheRegionStatistics region = statistics.getCacheRegionStatistics(regionName);
+            if (region != null) {
+                Map<String, Object> regionStats = counters(region.getHitCount(), region.getMissCount());
+                regionStats.put("puts", region.getPutCount());
+                regionStats.put("elementsInMemory", region.getElementCountInMemory());
+                regions.put(regionName, regionStats);
+            }
+        }
+
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("enabled", statistics.isStatisticsEnabled());
+        stats.put("secondLevelCache", counters(statistics.getSecondLevelCacheHitCount(),
+                statistics.getSecondLevelCacheMissCount()));
+        stats.put("queryCache", counters(statistics.getQueryCacheHitCount(), statistics.getQueryCacheMissCount()));
+        stats.put("regions", regions);
+        return stats;
+    }
+
+    private Map<String, Object> counters(long hitCount, long missCount) {
+        long total = hitCount + missCount;
+        Map<String, Object> counters = new LinkedHashMap<>();
+        counters.put("hits", hitCount);
+        counters.put("misses", missCount);
+        counters.put("hitRatio", total == 0 ? 0.0 : (double) hitCount / total);
+        return counters;
+    }
+}
@@ -0,0 +1,25 @@
+package com.university.fms.config;
+
+import com.university.fms.admission.AdmissionInterceptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+public class WebMvcConfig implements WebMvcConfigurer {
+
+    @Autowired
+    private AdmissionInterceptor admissionInterceptor;
+
+    @Value("${app.admission.enabled}")
+    private boolean admissionEnabled;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        if (admissionEnabled) {
+            registry.addInterceptor(admissionInterceptor).addPathPatterns("/enrollments", "/enrollments/**");
+        }
+    }
+}
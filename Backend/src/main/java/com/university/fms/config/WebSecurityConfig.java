@@ -1,5 +1,7 @@
 package com.university.fms.config;
 
+import com.university.fms.admission.AdmissionInterceptor;
+import com.university.fms.security.AdaptivePasswordEncoder;
 import com.university.fms.security.AuthEntryPointJwt;
 import com.university.fms.security.AuthTokenFilter;
 import com.university.fms.service.UserDetailsServiceImpl;
@@ -7,6 +9,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
@@ -14,7 +17,6 @@ import org.springframework.security.config.annotation.method.configuration.Enabl
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
@@ -47,6 +49,18 @@ public class WebSecurityConfig {
     @Value("${cors.allow-credentials}")
     private boolean allowCredentials;
 
+    @Value("${app.security.bcrypt.strength}")
+    private int bcryptStrength;
+
+    @Value("${app.security.bcrypt.target-hash-time}")
+    private long bcryptTargetHashTimeMs;
+
+    @Value("${app.security.bcrypt.min-strength}")
+    private int bcryptMinStrength;
+
+    @Value("${app.security.bcrypt.max-strength}")
+    private int bcryptMaxStrength;
+
     @Bean
     public AuthTokenFilter authenticationJwtTokenFilter() {
         return new AuthTokenFilter();
@@ -57,6 +71,7 @@ public class WebSecurityConfig {
         DaoAuthenticationProvider authProvider = new DaoAuthenticationProvider();
         authProvider.setUserDetailsService(userDetailsService);
         authProvider.setPasswordEncoder(passwordEncoder());
+        authProvider.setUserDetailsPasswordService(userDetailsService);
         return authProvider;
     }
 
@@ -67,7 +82,10 @@ public class WebSecurityConfig {
 
     @Bean
     public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+        if (bcryptStrength > 0) {
+            return new AdaptivePasswordEncoder(bcryptStrength);
+        }
+        return AdaptivePasswordEncoder.calibrate(bcryptTargetHashTimeMs, bcryptMinStrength, bcryptMaxStrength);
     }
 
     @Bean
@@ -95,6 +113,7 @@ public class WebSecurityConfig {
         configuration.setAllowedMethods(Arrays.asList(allowedMethods.split(",")));
         configuration.setAllowedHeaders(Arrays.asList(allowedHeaders.split(",")));
         configuration.setAllowCredentials(allowCredentials);
+        configuration.setExposedHeaders(Arrays.asList(HttpHeaders.RETRY_AFTER, AdmissionInterceptor.TOKEN_HEADER));
 
         UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
         source.registerCorsConfiguration("/**", configuration);
@@ -0,0 +1,47 @@
+package com.university.fms.controller;
+
+import com.university.fms.dto.response.AcademicStanding;
+import com.university.fms.dto.response.ApiResponse;
+import com.university.fms.dto.response.RankedStudent;
+import com.university.fms.stats.AcademicRecords;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@CrossOrigin(origins = "*", maxAge = 3600)
+@RestController
+@RequestMapping("/academics")
+public class AcademicController {
+
+    @Autowired
+    private AcademicRecords academicRecords;
+
+    @GetMapping("/students/{studentId}")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('HR') or hasRole('FACULTY') or @ownership.isSelf(#studentId, authentication)")
+    public ResponseEntity<ApiResponse<AcademicStanding>> getStanding(@PathVariable Long studentId) {
+        try {
+            AcademicStanding standing = academicRecords.getStanding(studentId);
+            return ResponseEntity.ok(ApiResponse.success("Academic standing retrieved successfully", standing));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("Failed to retrieve academic standing: " + e.getMessage()));
+        }
+    }
+
+    // Without departmentId the ranking is by overall GPA
+    @GetMapping("/rankings")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('HR') or hasRole('FACULTY')")
+    public ResponseEntity<ApiResponse<List<RankedStudent>>> getRanking(@RequestParam(required = false) Long departmentId,
+                                                                       @RequestParam(required = false) Integer limit) {
+        try {
+            List<RankedStudent> students = academicRecords.getTopStudents(departmentId, limit);
+            return ResponseEntity.ok(ApiResponse.success("Ranking retrieved successfully", students));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("Failed to retrieve ranking: " + e.getMessage()));
+        }
+    }
+}
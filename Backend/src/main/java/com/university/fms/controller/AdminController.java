@@ -0,0 +1,94 @@
+package com.university.fms.controller;
+
+import com.university.fms.admission.AdmissionGate;
+import com.university.fms.config.SecondLevelCacheStats;
+import com.university.fms.dto.response.ApiResponse;
+import com.university.fms.security.LoginExecutor;
+import com.university.fms.security.PrincipalCache;
+import com.university.fms.service.DegreeAuditEngine;
+import com.university.fms.service.PublicationService;
+import com.university.fms.stats.AcademicRecords;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.Map;
+
+@CrossOrigin(origins = "*", maxAge = 3600)
+@RestController
+@RequestMapping("/admin")
+@PreAuthorize("hasRole('ADMIN')")
+public class AdminController {
+
+    @Autowired
+    private PrincipalCache principalCache;
+
+    @Autowired
+    private LoginExecutor loginExecutor;
+
+    @Autowired
+    private PublicationService publicationService;
+
+    @Autowired
+    private SecondLevelCacheStats secondLevelCacheStats;
+
+    @Autowired
+    private AdmissionGate admissionGate;
+
+    @Autowired
+    private AcademicRecords academicRecords;
+
+    @Autowired
+    private DegreeAuditEngine degreeAuditEngine;
+
+    @GetMapping("/stats/principal-cache")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> getPrincipalCacheStats() {
+        return ResponseEntity.ok(ApiResponse.success("Principal cache statistics retrieved successfully",
+                principalCache.getStats()));
+    }
+
+    @GetMapping("/stats/login")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> getLoginStats() {
+        return ResponseEntity.ok(ApiResponse.success("Login executor statistics retrieved successfully",
+                loginExecutor.getStats()));
+    }
+
+    @GetMapping("/stats/second-level-cache")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> getSecondLevelCacheStats() {
+        return ResponseEntity.ok(ApiResponse.success("Second-level cache statistics retrieved successfully",
+                secondLevelCacheStats.getStats()));
+    }
+
+    @GetMapping("/stats/admission")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> getAdmissionStats() {
+        return ResponseEntity.ok(ApiResponse.success("Admission statistics retrieved successfully",
+                admissionGate.getStats()));
+    }
+
+    @GetMapping("/stats/academics")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> getAcademicStats() {
+        return ResponseEntity.ok(ApiResponse.success("GPA aggregate statistics retrieved successfully",
+                academicRecords.getStats()));
+    }
+
+    // Recomputes every GPA aggregate from the enrollment table and waits for it to finish
+    @PostMapping("/academics/rebuild")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> rebuildAcademicRecords() {
+        academicRecords.rebuild();
+        return ResponseEntity.ok(ApiResponse.success("GPA aggregates rebuilt successfully", academicRecords.getStats()));
+    }
+
+    @GetMapping("/stats/audits")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> getAuditStats() {
+        return ResponseEntity.ok(ApiResponse.success("Degree audit statistics retrieved successfully",
+                degreeAuditEngine.getStats()));
+    }
+
+    @GetMapping("/publications/duplicates")
+    public ResponseEntity<ApiResponse<List<List<Long>>>> getDuplicatePublications() {
+        return ResponseEntity.ok(ApiResponse.success("Duplicate publication clusters retrieved successfully",
+                publicationService.getDuplicateClusters()));
+    }
+}
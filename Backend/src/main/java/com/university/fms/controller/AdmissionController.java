@@ -0,0 +1,31 @@
+package com.university.fms.controller;
+
+import com.university.fms.admission.AdmissionGate;
+import com.university.fms.admission.AdmissionInterceptor;
+import com.university.fms.dto.response.AdmissionStatus;
+import com.university.fms.dto.response.ApiResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+// Polled by clients holding a queue ticket; answers from two in-memory counters, never the database
+@CrossOrigin(origins = "*", maxAge = 3600)
+@RestController
+@RequestMapping("/admission")
+public class AdmissionController {
+
+    @Autowired
+    private AdmissionGate admissionGate;
+
+    @GetMapping("/status")
+    public ResponseEntity<ApiResponse<AdmissionStatus>> getStatus(
+            @RequestHeader(AdmissionInterceptor.TOKEN_HEADER) String token) {
+        try {
+            AdmissionStatus status = admissionGate.getStatus(token);
+            return ResponseEntity.ok(ApiResponse.success("Admission status retrieved successfully", status));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("Failed to retrieve admission status: " + e.getMessage()));
+        }
+    }
+}
@@ -2,7 +2,9 @@ package com.university.fms.controller;
 
 import com.university.fms.dto.request.CourseRequest;
 import com.university.fms.dto.response.ApiResponse;
-import com.university.fms.entity.Course;
+import com.university.fms.dto.response.CourseResponse;
+import com.university.fms.dto.response.CourseSummary;
+import com.university.fms.dto.response.CursorPage;
 import com.university.fms.service.CourseService;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -22,9 +24,9 @@ public class CourseController {
     private CourseService courseService;
 
     @GetMapping
-    public ResponseEntity<ApiResponse<List<Course>>> getAllCourses() {
+    public ResponseEntity<ApiResponse<List<CourseSummary>>> getAllCourses() {
         try {
-            List<Course> courses = courseService.getAllCourses();
+            List<CourseSummary> courses = courseService.getAllCourses();
             return ResponseEntity.ok(ApiResponse.success("Courses retrieved successfully", courses));
         } catch (Exception e) {
             return ResponseEntity.badRequest()
@@ -32,10 +34,23 @@ public class CourseController {
         }
     }
 
+    @GetMapping("/page")
+    public ResponseEntity<ApiResponse<CursorPage<CourseSummary>>> getCoursesPage(@RequestParam(required = false) Long after,
+                                                                                 @RequestParam(required = false) Integer limit,
+                                                                                 @RequestParam(defaultValue = "false") boolean count) {
+        try {
+            CursorPage<CourseSummary> page = courseService.getCoursesPage(after, limit, count);
+            return ResponseEntity.ok(ApiResponse.success("Courses retrieved successfully", page));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("Failed to retrieve courses: " + e.getMessage()));
+        }
+    }
+
     @GetMapping("/{id}")
-    public ResponseEntity<ApiResponse<Course>> getCourseById(@PathVariable Long id) {
+    public ResponseEntity<ApiResponse<CourseResponse>> getCourseById(@PathVariable Long id) {
         try {
-            Optional<Course> course = courseService.getCourseById(id);
+            Optional<CourseResponse> course = courseService.getCourseById(id);
             if (course.isPresent()) {
                 return ResponseEntity.ok(ApiResponse.success("Course retrieved successfully", course.get()));
             } else {
@@ -48,9 +63,9 @@ public class CourseController {
     }
 
     @GetMapping("/department/{departmentId}")
-    public ResponseEntity<ApiResponse<List<Course>>> getCoursesByDepartment(@PathVariable Long departmentId) {
+    public ResponseEntity<ApiResponse<List<CourseSummary>>> getCoursesByDepartment(@PathVariable Long departmentId) {
         try {
-            List<Course> courses = courseService.getCoursesByDepartment(departmentId);
+            List<CourseSummary> courses = courseService.getCoursesByDepartment(departmentId);
             return ResponseEntity.ok(ApiResponse.success("Courses retrieved successfully", courses));
         } catch (Exception e) {
             return ResponseEntity.badRequest()
@@ -58,10 +73,24 @@ public class CourseController {
         }
     }
 
+    @GetMapping("/department/{departmentId}/page")
+    public ResponseEntity<ApiResponse<CursorPage<CourseSummary>>> getCoursesPageByDepartment(@PathVariable Long departmentId,
+                                                                                             @RequestParam(required = false) Long after,
+                                                                                             @RequestParam(required = false) Integer limit,
+                                                                                             @RequestParam(defaultValue = "false") boolean count) {
+        try {
+            CursorPage<CourseSummary> page = courseService.getCoursesPageByDepartment(departmentId, after, limit, count);
+            return ResponseEntity.ok(ApiResponse.success("Courses retrieved successfully", page));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("Failed to retrieve courses: " + e.getMessage()));
+        }
+    }
+
     @GetMapping("/faculty/{facultyId}")
-    public ResponseEntity<ApiResponse<List<Course>>> getCoursesByFaculty(@PathVariable Long facultyId) {
+    public ResponseEntity<ApiResponse<List<CourseSummary>>> getCoursesByFaculty(@PathVariable Long facultyId) {
         try {
-            List<Course> courses = courseService.getCoursesByFaculty(facultyId);
+            List<CourseSummary> courses = courseService.getCoursesByFaculty(facultyId);
             return ResponseEntity.ok(ApiResponse.success("Courses retrieved successfully", courses));
         } catch (Exception e) {
             return ResponseEntity.badRequest()
@@ -69,10 +98,24 @@ public class CourseController {
         }
     }
 
+    @GetMapping("/faculty/{facultyId}/page")
+    public ResponseEntity<ApiResponse<CursorPage<CourseSummary>>> getCoursesPageByFaculty(@PathVariable Long facultyId,
+                                                                                          @RequestParam(required = false) Long after,
+                                                                                          @RequestParam(required = false) Integer limit,
+                                                                                          @RequestParam(defaultValue = "false") boolean count) {
+        try {
+            CursorPage<CourseSummary> page = courseService.getCoursesPageByFaculty(facultyId, after, limit, count);
+            return ResponseEntity.ok(ApiResponse.success("Courses retrieved successfully", page));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("Failed to retrieve courses: " + e.getMessage()));
+        }
+    }
+
     @GetMapping("/search")
-    public ResponseEntity<ApiResponse<List<Course>>> searchCourses(@RequestParam String keyword) {
+    public ResponseEntity<ApiResponse<List<CourseSummary>>> searchCourses(@RequestParam String keyword) {
         try {
-            List<Course> courses = courseService.searchCourses(keyword);
+            List<CourseSummary> courses = courseService.searchCourses(keyword);
             return ResponseEntity.ok(ApiResponse.success("Courses retrieved successfully", courses));
         } catch (Exception e) {
             return ResponseEntity.badRequest()
@@ -82,9 +125,9 @@ public class CourseController {
 
     @PostMapping
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<ApiResponse<Course>> createCourse(@Valid @RequestBody CourseRequest request) {
+    public ResponseEntity<ApiResponse<CourseResponse>> createCourse(@Valid @RequestBody CourseRequest request) {
         try {
-            Course course = courseService.createCourse(request);
+            CourseResponse course = courseService.createCourse(request);
             return ResponseEntity.ok(ApiResponse.success("Course created successfully", course));
         } catch (Exception e) {
             return ResponseEntity.badRequest()
@@ -94,10 +137,10 @@ public class CourseController {
 
     @PutMapping("/{id}")
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<ApiResponse<Course>> updateCourse(@PathVariable Long id, 
-                                                           @Valid @RequestBody CourseRequest request) {
+    public ResponseEntity<ApiResponse<CourseResponse>> updateCourse(@PathVariable Long id, 
+                                                                    @Valid @RequestBody CourseRequest request) {
         try {
-            Course course = courseService.updateCourse(id, request);
+            CourseResponse course = courseService.updateCourse(id, request);
             return ResponseEntity.ok(ApiResponse.success("Course updated successfully", course));
         } catch (Exception e) {
             return ResponseEntity.badRequest()
@@ -116,4 +159,41 @@ public class CourseController {
                     .body(ApiResponse.error("Failed to delete course: " + e.getMessage()));
         }
     }
+
+    @GetMapping("/{id}/prerequisites")
+    public ResponseEntity<ApiResponse<List<CourseSummary>>> getPrerequisites(@PathVariable Long id) {
+        try {
+            List<CourseSummary> prerequisites = courseService.getPrerequisites(id);
+            return ResponseEntity.ok(ApiResponse.success("Prerequisites retrieved successfully", prerequisites));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("Failed to retrieve prerequisites: " + e.getMessage()));
+        }
+    }
+
+    @PostMapping("/{id}/prerequisites/{prerequisiteId}")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<List<CourseSummary>>> addPrerequisite(@PathVariable Long id,
+                                                                            @PathVariable Long prerequisiteId) {
+        try {
+            List<CourseSummary> prerequisites = courseService.addPrerequisite(id, prerequisiteId);
+            return ResponseEntity.ok(ApiResponse.success("Prerequisite added successfully", prerequisites));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("Failed to add prerequisite: " + e.getMessage()));
+        }
+    }
+
+    @DeleteMapping("/{id}/prerequisites/{prerequisiteId}")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<List<CourseSummary>>> removePrerequisite(@PathVariable Long id,
+                                                                               @PathVariable Long prerequisiteId) {
+        try {
+            List<CourseSummary> prerequisites = courseService.removePrerequisite(id, prerequisiteId);
+            return ResponseEntity.ok(ApiResponse.success("Prerequisite removed successfully", prerequisites));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("Failed to remove prerequisite: " + e.getMessage()));
+        }
+    }
 }
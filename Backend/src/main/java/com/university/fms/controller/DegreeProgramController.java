@@ -0,0 +1,115 @@
+package com.university.fms.controller;
+
+import com.university.fms.dto.request.DegreeProgramRequest;
+import com.university.fms.dto.response.ApiResponse;
+import com.university.fms.dto.response.DegreeAudit;
+import com.university.fms.dto.response.DegreeAuditRun;
+import com.university.fms.dto.response.DegreeProgramResponse;
+import com.university.fms.service.DegreeProgramService;
+import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.Optional;
+
+@CrossOrigin(origins = "*", maxAge = 3600)
+@RestController
+@RequestMapping("/programs")
+public class DegreeProgramController {
+
+    @Autowired
+    private DegreeProgramService programService;
+
+    @GetMapping
+    public ResponseEntity<ApiResponse<List<DegreeProgramResponse>>> getAllPrograms() {
+        try {
+            List<DegreeProgramResponse> programs = programService.getAllPrograms();
+            return ResponseEntity.ok(ApiResponse.success("Degree programs retrieved successfully", programs));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("Failed to retrieve degree programs: " + e.getMessage()));
+        }
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<ApiResponse<DegreeProgramResponse>> getProgramById(@PathVariable Long id) {
+        try {
+            Optional<DegreeProgramResponse> program = programService.getProgramById(id);
+            if (program.isPresent()) {
+                return ResponseEntity.ok(ApiResponse.success("Degree program retrieved successfully", program.get()));
+            } else {
+                return ResponseEntity.notFound().build();
+            }
+        } catch (Exception e) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("Failed to retrieve degree program: " + e.getMessage()));
+        }
+    }
+
+    @PostMapping
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<DegreeProgramResponse>> createProgram(@Valid @RequestBody DegreeProgramRequest request) {
+        try {
+            DegreeProgramResponse program = programService.createProgram(request);
+            return ResponseEntity.ok(ApiResponse.success("Degree program created successfully", program));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("Failed to create degree program: " + e.getMessage()));
+        }
+    }
+
+    @PutMapping("/{id}")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<DegreeProgramResponse>> updateProgram(@PathVariable Long id,
+                                                                            @Valid @RequestBody DegreeProgramRequest request) {
+        try {
+            DegreeProgramResponse program = programService.updateProgram(id, request);
+            return ResponseEntity.ok(ApiResponse.success("Degree program updated successfully", program));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("Failed to update degree program: " + e.getMessage()));
+        }
+    }
+
+    @DeleteMapping("/{id}")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<Void>> deleteProgram(@PathVariable Long id) {
+        try {
+            programService.deleteProgram(id);
+            return ResponseEntity.ok(ApiResponse.success("Degree program deleted successfully", null));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("Failed to delete degree program: " + e.getMessage()));
+        }
+    }
+
+    // e.g. /programs/3/audit?incompleteOnly=true; without studentId the whole student body is audited
+    @GetMapping("/{id}/audit")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('HR')")
+    public ResponseEntity<ApiResponse<DegreeAuditRun>> auditCohort(@PathVariable Long id,
+                                                                   @RequestParam(required = false) List<Long> studentId,
+                                                                   @RequestParam(defaultValue = "false") boolean incompleteOnly) {
+        try {
+            DegreeAuditRun run = programService.auditCohort(id, studentId, incompleteOnly);
+            return ResponseEntity.ok(ApiResponse.success("Degree audit completed successfully", run));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("Failed to run degree audit: " + e.getMessage()));
+        }
+    }
+
+    @GetMapping("/{id}/audit/students/{studentId}")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('HR') or hasRole('FACULTY') or @ownership.isSelf(#studentId, authentication)")
+    public ResponseEntity<ApiResponse<DegreeAudit>> auditStudent(@PathVariable Long id, @PathVariable Long studentId) {
+        try {
+            DegreeAudit audit = programService.auditStudent(id, studentId);
+            return ResponseEntity.ok(ApiResponse.success("Degree audit retrieved successfully", audit));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("Failed to retrieve degree audit: " + e.getMessage()));
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.university.fms.controller;
 
 import com.university.fms.dto.request.DepartmentRequest;
 import com.university.fms.dto.response.ApiResponse;
+import com.university.fms.dto.response.CursorPage;
 import com.university.fms.entity.Department;
 import com.university.fms.service.DepartmentService;
 import jakarta.validation.Valid;
@@ -32,6 +33,19 @@ public class DepartmentController {
         }
     }
 
+    @GetMapping("/page")
+    public ResponseEntity<ApiResponse<CursorPage<Department>>> getDepartmentsPage(@RequestParam(required = false) Long after,
+                                                                                  @RequestParam(required = false) Integer limit,
+                                                                                  @RequestParam(defaultValue = "false") boolean count) {
+        try {
+            CursorPage<Department> page = departmentService.getDepartmentsPage(after, limit, count);
+            return ResponseEntity.ok(ApiResponse.success("Departments retrieved successfully", page));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("Failed to retrieve departments: " + e.getMessage()));
+        }
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<ApiResponse<Department>> getDepartmentById(@PathVariable Long id) {
         try {
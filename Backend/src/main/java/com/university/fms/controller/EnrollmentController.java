@@ -0,0 +1,131 @@
+package com.university.fms.controller;
+
+import com.university.fms.dto.request.EnrollmentBatchRequest;
+import com.university.fms.dto.request.EnrollmentRequest;
+import com.university.fms.dto.response.ApiResponse;
+import com.university.fms.dto.response.BatchResult;
+import com.university.fms.dto.response.EnrollmentResponse;
+import com.university.fms.service.EnrollmentService;
+import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+@CrossOrigin(origins = "*", maxAge = 3600)
+@RestController
+@RequestMapping("/enrollments")
+public class EnrollmentController {
+
+    @Autowired
+    private EnrollmentService enrollmentService;
+
+    @GetMapping("/student/{studentId}")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('HR') or hasRole('FACULTY') or @ownership.isSelf(#studentId, authentication)")
+    public ResponseEntity<ApiResponse<Page<EnrollmentResponse>>> getEnrollmentsByStudent(@PathVariable Long studentId,
+                                                                                         @RequestParam(defaultValue = "0") int page,
+                                                                                         @RequestParam(required = false) Integer size,
+                                                                                         @RequestParam(required = false) String sort) {
+        try {
+            Page<EnrollmentResponse> enrollments = enrollmentService.getEnrollmentsByStudent(studentId, page, size, sort);
+            return ResponseEntity.ok(ApiResponse.success("Enrollments retrieved successfully", enrollments));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("Failed to retrieve enrollments: " + e.getMessage()));
+        }
+    }
+
+    @GetMapping("/course/{courseId}")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('HR') or hasRole('FACULTY')")
+    public ResponseEntity<ApiResponse<Page<EnrollmentResponse>>> getEnrollmentsByCourse(@PathVariable Long courseId,
+                                                                                        @RequestParam(required = false) String semester,
+                                                                                        @RequestParam(required = false) Integer year,
+                                                                                        @RequestParam(defaultValue = "0") int page,
+                                                                                        @RequestParam(required = false) Integer size,
+                                                                                        @RequestParam(required = false) String sort) {
+        try {
+            Page<EnrollmentResponse> enrollments =
+                    enrollmentService.getEnrollmentsByCourse(courseId, semester, year, page, size, sort);
+            return ResponseEntity.ok(ApiResponse.success("Enrollments retrieved successfully", enrollments));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("Failed to retrieve enrollments: " + e.getMessage()));
+        }
+    }
+
+    @PostMapping
+    @PreAuthorize("hasRole('ADMIN') or @ownership.isSelf(#request.studentId, authentication)")
+    public ResponseEntity<ApiResponse<EnrollmentResponse>> enroll(@Valid @RequestBody EnrollmentRequest request) {
+        try {
+            EnrollmentResponse enrollment = enrollmentService.enroll(request);
+            return ResponseEntity.ok(ApiResponse.success("Enrolled successfully", enrollment));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("Failed to enroll: " + e.getMessage()));
+        }
+    }
+
+    @DeleteMapping("/{studentId}/{courseId}/{semester}/{year}")
+    @PreAuthorize("hasRole('ADMIN') or @ownership.isSelf(#studentId, authentication)")
+    public ResponseEntity<ApiResponse<Void>> drop(@PathVariable Long studentId,
+                                                  @PathVariable Long courseId,
+                                                  @PathVariable String semester,
+                                                  @PathVariable Integer year) {
+        try {
+            enrollmentService.drop(studentId, courseId, semester, year);
+            return ResponseEntity.ok(ApiResponse.success("Enrollment dropped successfully", null));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("Failed to drop enrollment: " + e.getMessage()));
+        }
+    }
+
+    @PutMapping("/grade")
+    @PreAuthorize("hasRole('ADMIN') or (hasRole('FACULTY') and @ownership.teachesCourse(#request.courseId, authentication))")
+    public ResponseEntity<ApiResponse<EnrollmentResponse>> assignGrade(@Valid @RequestBody EnrollmentRequest request) {
+        try {
+            EnrollmentResponse enrollment = enrollmentService.assignGrade(request);
+            return ResponseEntity.ok(ApiResponse.success("Grade assigned successfully", enrollment));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("Failed to assign grade: " + e.getMessage()));
+        }
+    }
+
+    @PostMapping("/batch")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<BatchResult>> enrollAll(@Valid @RequestBody EnrollmentBatchRequest request) {
+        try {
+            BatchResult result = enrollmentService.enrollAll(request.getItems());
+            return ResponseEntity.ok(ApiResponse.success("Batch enrollment completed", result));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("Failed to enroll batch: " + e.getMessage()));
+        }
+    }
+
+    @PostMapping("/batch/drop")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<BatchResult>> dropAll(@Valid @RequestBody EnrollmentBatchRequest request) {
+        try {
+            BatchResult result = enrollmentService.dropAll(request.getItems());
+            return ResponseEntity.ok(ApiResponse.success("Batch drop completed", result));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("Failed to drop batch: " + e.getMessage()));
+        }
+    }
+
+    @PutMapping("/batch/grade")
+    @PreAuthorize("hasRole('ADMIN') or (hasRole('FACULTY') and @ownership.teachesCoursesOf(#request.items, authentication))")
+    public ResponseEntity<ApiResponse<BatchResult>> assignGrades(@Valid @RequestBody EnrollmentBatchRequest request) {
+        try {
+            BatchResult result = enrollmentService.assignGrades(request.getItems());
+            return ResponseEntity.ok(ApiResponse.success("Batch grading completed", result));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("Failed to grade batch: " + e.getMessage()));
+        }
+    }
+}
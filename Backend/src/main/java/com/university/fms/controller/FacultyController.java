@@ -2,7 +2,9 @@ package com.university.fms.controller;
 
 import com.university.fms.dto.request.FacultyProfileRequest;
 import com.university.fms.dto.response.ApiResponse;
-import com.university.fms.entity.FacultyProfile;
+import com.university.fms.dto.response.CursorPage;
+import com.university.fms.dto.response.FacultyProfileResponse;
+import com.university.fms.dto.response.FacultyProfileSummary;
 import com.university.fms.service.FacultyProfileService;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -22,9 +24,9 @@ public class FacultyController {
     private FacultyProfileService facultyProfileService;
 
     @GetMapping
-    public ResponseEntity<ApiResponse<List<FacultyProfile>>> getAllFacultyProfiles() {
+    public ResponseEntity<ApiResponse<List<FacultyProfileSummary>>> getAllFacultyProfiles() {
         try {
-            List<FacultyProfile> profiles = facultyProfileService.getAllFacultyProfiles();
+            List<FacultyProfileSummary> profiles = facultyProfileService.getAllFacultyProfiles();
             return ResponseEntity.ok(ApiResponse.success("Faculty profiles retrieved successfully", profiles));
         } catch (Exception e) {
             return ResponseEntity.badRequest()
@@ -32,10 +34,23 @@ public class FacultyController {
         }
     }
 
+    @GetMapping("/page")
+    public ResponseEntity<ApiResponse<CursorPage<FacultyProfileSummary>>> getFacultyProfilesPage(@RequestParam(required = false) Long after,
+                                                                                                 @RequestParam(required = false) Integer limit,
+                                                                                                 @RequestParam(defaultValue = "false") boolean count) {
+        try {
+            CursorPage<FacultyProfileSummary> page = facultyProfileService.getFacultyProfilesPage(after, limit, count);
+            return ResponseEntity.ok(ApiResponse.success("Faculty profiles retrieved successfully", page));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("Failed to retrieve faculty profiles: " + e.getMessage()));
+        }
+    }
+
     @GetMapping("/{id}")
-    public ResponseEntity<ApiResponse<FacultyProfile>> getFacultyProfileById(@PathVariable Long id) {
+    public ResponseEntity<ApiResponse<FacultyProfileResponse>> getFacultyProfileById(@PathVariable Long id) {
         try {
-            Optional<FacultyProfile> profile = facultyProfileService.getFacultyProfileById(id);
+            Optional<FacultyProfileResponse> profile = facultyProfileService.getFacultyProfileById(id);
             if (profile.isPresent()) {
                 return ResponseEntity.ok(ApiResponse.success("Faculty profile retrieved successfully", profile.get()));
             } else {
@@ -48,9 +63,9 @@ public class FacultyController {
     }
 
     @GetMapping("/user/{userId}")
-    public ResponseEntity<ApiResponse<FacultyProfile>> getFacultyProfileByUserId(@PathVariable Long userId) {
+    public ResponseEntity<ApiResponse<FacultyProfileResponse>> getFacultyProfileByUserId(@PathVariable Long userId) {
         try {
-            Optional<FacultyProfile> profile = facultyProfileService.getFacultyProfileByUserId(userId);
+            Optional<FacultyProfileResponse> profile = facultyProfileService.getFacultyProfileByUserId(userId);
             if (profile.isPresent()) {
                 return ResponseEntity.ok(ApiResponse.success("Faculty profile retrieved successfully", profile.get()));
             } else {
@@ -63,9 +78,9 @@ public class FacultyController {
     }
 
     @GetMapping("/department/{departmentId}")
-    public ResponseEntity<ApiResponse<List<FacultyProfile>>> getFacultyProfilesByDepartment(@PathVariable Long departmentId) {
+    public ResponseEntity<ApiResponse<List<FacultyProfileSummary>>> getFacultyProfilesByDepartment(@PathVariable Long departmentId) {
         try {
-            List<FacultyProfile> profiles = facultyProfileService.getFacultyProfilesByDepartment(departmentId);
+            List<FacultyProfileSummary> profiles = facultyProfileService.getFacultyProfilesByDepartment(departmentId);
             return ResponseEntity.ok(ApiResponse.success("Faculty profiles retrieved successfully", profiles));
         } catch (Exception e) {
             return ResponseEntity.badRequest()
@@ -73,10 +88,28 @@ public class FacultyController {
         }
     }
 
+    @GetMapping("/department/{departmentId}/page")
+    public ResponseEntity<ApiResponse<CursorPage<FacultyProfileSummary>>> getFacultyProfilesPageByDepartment(@PathVariable Long departmentId,
+                                                                                                             @RequestParam(required = false) Long after,
+                                                                                                             @RequestParam(required = false) Integer limit,
+                                                                                                             @RequestParam(defaultValue = "false") boolean count) {
+        try {
+            CursorPage<FacultyProfileSummary> page = facultyProfileService.getFacultyProfilesPageByDepartment(departmentId, after, limit, count);
+            return ResponseEntity.ok(ApiResponse.success("Faculty profiles retrieved successfully", page));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("Failed to retrieve faculty profiles: " + e.getMessage()));
+        }
+    }
+
     @GetMapping("/search")
-    public ResponseEntity<ApiResponse<List<FacultyProfile>>> searchFacultyProfiles(@RequestParam String keyword) {
+    public ResponseEntity<ApiResponse<List<FacultyProfileSummary>>> searchFacultyProfiles(@RequestParam String keyword,
+                                                                                          @RequestParam(defaultValue = "false") boolean fuzzy,
+                                                                                          @RequestParam(required = false) Integer distance) {
         try {
-            List<FacultyProfile> profiles = facultyProfileService.searchFacultyProfiles(keyword);
+            List<FacultyProfileSummary> profiles = fuzzy
+                    ? facultyProfileService.fuzzySearchFacultyProfiles(keyword, distance)
+                    : facultyProfileService.searchFacultyProfiles(keyword);
             return ResponseEntity.ok(ApiResponse.success("Faculty profiles retrieved successfully", profiles));
         } catch (Exception e) {
             return ResponseEntity.badRequest()
@@ -86,9 +119,9 @@ public class FacultyController {
 
     @PostMapping
     @PreAuthorize("hasRole('ADMIN') or hasRole('HR')")
-    public ResponseEntity<ApiResponse<FacultyProfile>> createFacultyProfile(@Valid @RequestBody FacultyProfileRequest request) {
+    public ResponseEntity<ApiResponse<FacultyProfileResponse>> createFacultyProfile(@Valid @RequestBody FacultyProfileRequest request) {
         try {
-            FacultyProfile profile = facultyProfileService.createFacultyProfile(request);
+            FacultyProfileResponse profile = facultyProfileService.createFacultyProfile(request);
             return ResponseEntity.ok(ApiResponse.success("Faculty profile created successfully", profile));
         } catch (Exception e) {
             return ResponseEntity.badRequest()
@@ -97,11 +130,11 @@ public class FacultyController {
     }
 
     @PutMapping("/{id}")
-    @PreAuthorize("hasRole('ADMIN') or hasRole('HR') or hasRole('FACULTY')")
-    public ResponseEntity<ApiResponse<FacultyProfile>> updateFacultyProfile(@PathVariable Long id, 
-                                                                           @Valid @RequestBody FacultyProfileRequest request) {
+    @PreAuthorize("hasRole('ADMIN') or hasRole('HR') or (hasRole('FACULTY') and @ownership.ownsFacultyProfile(#id, authentication))")
+    public ResponseEntity<ApiResponse<FacultyProfileResponse>> updateFacultyProfile(@PathVariable Long id, 
+                                                                                    @Valid @RequestBody FacultyProfileRequest request) {
         try {
-            FacultyProfile profile = facultyProfileService.updateFacultyProfile(id, request);
+            FacultyProfileResponse profile = facultyProfileService.updateFacultyProfile(id, request);
             return ResponseEntity.ok(ApiResponse.success("Faculty profile updated successfully", profile));
         } catch (Exception e) {
             return ResponseEntity.badRequest()
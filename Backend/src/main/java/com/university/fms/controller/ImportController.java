@@ -0,0 +1,62 @@
+package com.university.fms.controller;
+
+import com.university.fms.dto.response.ApiResponse;
+import com.university.fms.dto.response.ImportReport;
+import com.university.fms.service.ImportService;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+// Bulk uploads are read straight from the request body (text/csv or application/x-ndjson), never buffered whole
+@CrossOrigin(origins = "*", maxAge = 3600)
+@RestController
+@RequestMapping("/import")
+public class ImportController {
+
+    @Autowired
+    private ImportService importService;
+
+    @PostMapping("/courses")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<ImportReport>> importCourses(@RequestParam(required = false) String format,
+                                                                   HttpServletRequest request) {
+        try {
+            ImportReport report = importService.importCourses(request.getInputStream(),
+                    ImportService.Format.resolve(format, request.getContentType()));
+            return ResponseEntity.ok(ApiResponse.success("Course import finished", report));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("Failed to import courses: " + e.getMessage()));
+        }
+    }
+
+    @PostMapping("/faculty")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('HR')")
+    public ResponseEntity<ApiResponse<ImportReport>> importFacultyProfiles(@RequestParam(required = false) String format,
+                                                                           HttpServletRequest request) {
+        try {
+            ImportReport report = importService.importFacultyProfiles(request.getInputStream(),
+                    ImportService.Format.resolve(format, request.getContentType()));
+            return ResponseEntity.ok(ApiResponse.success("Faculty profile import finished", report));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("Failed to import faculty profiles: " + e.getMessage()));
+        }
+    }
+
+    @PostMapping("/publications")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<ImportReport>> importPublications(@RequestParam(required = false) String format,
+                                                                        HttpServletRequest request) {
+        try {
+            ImportReport report = importService.importPublications(request.getInputStream(),
+                    ImportService.Format.resolve(format, request.getContentType()));
+            return ResponseEntity.ok(ApiResponse.success("Publication import finished", report));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("Failed to import publications: " + e.getMessage()));
+        }
+    }
+}
@@ -2,7 +2,9 @@ package com.university.fms.controller;
 
 import com.university.fms.dto.request.PublicationRequest;
 import com.university.fms.dto.response.ApiResponse;
-import com.university.fms.entity.Publication;
+import com.university.fms.dto.response.CursorPage;
+import com.university.fms.dto.response.PublicationResponse;
+import com.university.fms.dto.response.PublicationSummary;
 import com.university.fms.service.PublicationService;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -22,9 +24,9 @@ public class PublicationController {
     private PublicationService publicationService;
 
     @GetMapping
-    public ResponseEntity<ApiResponse<List<Publication>>> getAllPublications() {
+    public ResponseEntity<ApiResponse<List<PublicationSummary>>> getAllPublications() {
         try {
-            List<Publication> publications = publicationService.getAllPublications();
+            List<PublicationSummary> publications = publicationService.getAllPublications();
             return ResponseEntity.ok(ApiResponse.success("Publications retrieved successfully", publications));
         } catch (Exception e) {
             return ResponseEntity.badRequest()
@@ -32,10 +34,23 @@ public class PublicationController {
         }
     }
 
+    @GetMapping("/page")
+    public ResponseEntity<ApiResponse<CursorPage<PublicationSummary>>> getPublicationsPage(@RequestParam(required = false) Long after,
+                                                                                           @RequestParam(required = false) Integer limit,
+                                                                                           @RequestParam(defaultValue = "false") boolean count) {
+        try {
+            CursorPage<PublicationSummary> page = publicationService.getPublicationsPage(after, limit, count);
+            return ResponseEntity.ok(ApiResponse.success("Publications retrieved successfully", page));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("Failed to retrieve publications: " + e.getMessage()));
+        }
+    }
+
     @GetMapping("/{id}")
-    public ResponseEntity<ApiResponse<Publication>> getPublicationById(@PathVariable Long id) {
+    public ResponseEntity<ApiResponse<PublicationResponse>> getPublicationById(@PathVariable Long id) {
         try {
-            Optional<Publication> publication = publicationService.getPublicationById(id);
+            Optional<PublicationResponse> publication = publicationService.getPublicationById(id);
             if (publication.isPresent()) {
                 return ResponseEntity.ok(ApiResponse.success("Publication retrieved successfully", publication.get()));
             } else {
@@ -47,10 +62,22 @@ public class PublicationController {
         }
     }
 
+    @GetMapping("/{id}/related")
+    public ResponseEntity<ApiResponse<List<PublicationSummary>>> getRelatedPublications(@PathVariable Long id,
+                                                                                        @RequestParam(defaultValue = "10") int k) {
+        try {
+            List<PublicationSummary> publications = publicationService.getRelatedPublications(id, k);
+            return ResponseEntity.ok(ApiResponse.success("Related publications retrieved successfully", publications));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("Failed to retrieve related publications: " + e.getMessage()));
+        }
+    }
+
     @GetMapping("/faculty/{facultyId}")
-    public ResponseEntity<ApiResponse<List<Publication>>> getPublicationsByFaculty(@PathVariable Long facultyId) {
+    public ResponseEntity<ApiResponse<List<PublicationSummary>>> getPublicationsByFaculty(@PathVariable Long facultyId) {
         try {
-            List<Publication> publications = publicationService.getPublicationsByFaculty(facultyId);
+            List<PublicationSummary> publications = publicationService.getPublicationsByFaculty(facultyId);
             return ResponseEntity.ok(ApiResponse.success("Publications retrieved successfully", publications));
         } catch (Exception e) {
             return ResponseEntity.badRequest()
@@ -58,10 +85,24 @@ public class PublicationController {
         }
     }
 
+    @GetMapping("/faculty/{facultyId}/page")
+    public ResponseEntity<ApiResponse<CursorPage<PublicationSummary>>> getPublicationsPageByFaculty(@PathVariable Long facultyId,
+                                                                                                    @RequestParam(required = false) Long after,
+                                                                                                    @RequestParam(required = false) Integer limit,
+                                                                                                    @RequestParam(defaultValue = "false") boolean count) {
+        try {
+            CursorPage<PublicationSummary> page = publicationService.getPublicationsPageByFaculty(facultyId, after, limit, count);
+            return ResponseEntity.ok(ApiResponse.success("Publications retrieved successfully", page));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("Failed to retrieve publications: " + e.getMessage()));
+        }
+    }
+
     @GetMapping("/search")
-    public ResponseEntity<ApiResponse<List<Publication>>> searchPublications(@RequestParam String keyword) {
+    public ResponseEntity<ApiResponse<List<PublicationSummary>>> searchPublications(@RequestParam String keyword) {
         try {
-            List<Publication> publications = publicationService.searchPublications(keyword);
+            List<PublicationSummary> publications = publicationService.searchPublications(keyword);
             return ResponseEntity.ok(ApiResponse.success("Publications retrieved successfully", publications));
         } catch (Exception e) {
             return ResponseEntity.badRequest()
@@ -70,10 +111,10 @@ public class PublicationController {
     }
 
     @PostMapping
-    @PreAuthorize("hasRole('ADMIN') or hasRole('FACULTY')")
-    public ResponseEntity<ApiResponse<Publication>> createPublication(@Valid @RequestBody PublicationRequest request) {
+    @PreAuthorize("hasRole('ADMIN') or (hasRole('FACULTY') and @ownership.ownsFacultyProfile(#request.facultyId, authentication))")
+    public ResponseEntity<ApiResponse<PublicationResponse>> createPublication(@Valid @RequestBody PublicationRequest request) {
         try {
-            Publication publication = publicationService.createPublication(request);
+            PublicationResponse publication = publicationService.createPublication(request);
             return ResponseEntity.ok(ApiResponse.success("Publication created successfully", publication));
         } catch (Exception e) {
             return ResponseEntity.badRequest()
@@ -81,12 +122,14 @@ public class PublicationController {
         }
     }
 
+    // A faculty member may only move a publication between profiles they own
     @PutMapping("/{id}")
-    @PreAuthorize("hasRole('ADMIN') or hasRole('FACULTY')")
-    public ResponseEntity<ApiResponse<Publication>> updatePublication(@PathVariable Long id, 
-                                                                     @Valid @RequestBody PublicationRequest request) {
+    @PreAuthorize("hasRole('ADMIN') or (hasRole('FACULTY') and @ownership.ownsPublication(#id, authentication) " +
+                  "and (#request.facultyId == null or @ownership.ownsFacultyProfile(#request.facultyId, authentication)))")
+    public ResponseEntity<ApiResponse<PublicationResponse>> updatePublication(@PathVariable Long id, 
+                                                                              @Valid @RequestBody PublicationRequest request) {
         try {
-            Publication publication = publicationService.updatePublication(id, request);
+            PublicationResponse publication = publicationService.updatePublication(id, request);
             return ResponseEntity.ok(ApiResponse.success("Publication updated successfully", publication));
         } catch (Exception e) {
             return ResponseEntity.badRequest()
@@ -95,7 +138,7 @@ public class PublicationController {
     }
 
     @DeleteMapping("/{id}")
-    @PreAuthorize("hasRole('ADMIN') or hasRole('FACULTY')")
+    @PreAuthorize("hasRole('ADMIN') or (hasRole('FACULTY') and @ownership.ownsPublication(#id, authentication))")
     public ResponseEntity<ApiResponse<Void>> deletePublication(@PathVariable Long id) {
         try {
             publicationService.deletePublication(id);
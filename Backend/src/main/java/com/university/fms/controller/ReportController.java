@@ -0,0 +1,43 @@
+package com.university.fms.controller;
+
+import com.university.fms.dto.response.ApiResponse;
+import com.university.fms.dto.response.EnrollmentReport;
+import com.university.fms.stats.EnrollmentCube;
+import com.university.fms.stats.EnrollmentCube.Dimension;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@CrossOrigin(origins = "*", maxAge = 3600)
+@RestController
+@RequestMapping("/reports")
+public class ReportController {
+
+    @Autowired
+    private EnrollmentCube enrollmentCube;
+
+    // e.g. /reports/enrollments?groupBy=department,grade&year=2023,2024
+    @GetMapping("/enrollments")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('HR')")
+    public ResponseEntity<ApiResponse<EnrollmentReport>> getEnrollmentReport(@RequestParam(defaultValue = "") List<String> groupBy,
+                                                                             @RequestParam(required = false) List<Long> departmentId,
+                                                                             @RequestParam(required = false) List<Long> courseId,
+                                                                             @RequestParam(required = false) List<String> semester,
+                                                                             @RequestParam(required = false) List<Integer> year,
+                                                                             @RequestParam(required = false) List<String> grade) {
+        try {
+            List<Dimension> dimensions = groupBy.stream()
+                    .filter(name -> !name.isBlank())
+                    .map(Dimension::parse)
+                    .toList();
+            EnrollmentReport report = enrollmentCube.report(dimensions, departmentId, courseId, semester, year, grade);
+            return ResponseEntity.ok(ApiResponse.success("Enrollment report retrieved successfully", report));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("Failed to retrieve enrollment report: " + e.getMessage()));
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.university.fms.controller;
+
+import com.university.fms.dto.response.ApiResponse;
+import com.university.fms.dto.response.DashboardStats;
+import com.university.fms.dto.response.DepartmentStats;
+import com.university.fms.stats.DashboardCounters;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Optional;
+
+@CrossOrigin(origins = "*", maxAge = 3600)
+@RestController
+@RequestMapping("/stats")
+public class StatsController {
+
+    @Autowired
+    private DashboardCounters dashboardCounters;
+
+    @GetMapping
+    public ResponseEntity<ApiResponse<DashboardStats>> getDashboardStats() {
+        try {
+            DashboardStats stats = dashboardCounters.getStats();
+            return ResponseEntity.ok(ApiResponse.success("Statistics retrieved successfully", stats));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("Failed to retrieve statistics: " + e.getMessage()));
+        }
+    }
+
+    @GetMapping("/departments/{departmentId}")
+    public ResponseEntity<ApiResponse<DepartmentStats>> getDepartmentStats(@PathVariable Long departmentId) {
+        try {
+            Optional<DepartmentStats> stats = dashboardCounters.getDepartmentStats(departmentId);
+            if (stats.isPresent()) {
+                return ResponseEntity.ok(ApiResponse.success("Statistics retrieved successfully", stats.get()));
+            } else {
+                return ResponseEntity.notFound().build();
+            }
+        } catch (Exception e) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("Failed to retrieve statistics: " + e.getMessage()));
+        }
+    }
+}
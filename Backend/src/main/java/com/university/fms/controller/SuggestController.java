@@ -0,0 +1,32 @@
+package com.university.fms.controller;
+
+import com.university.fms.dto.response.ApiResponse;
+import com.university.fms.dto.response.Suggestion;
+import com.university.fms.search.NameSuggester;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@CrossOrigin(origins = "*", maxAge = 3600)
+@RestController
+@RequestMapping("/suggest")
+public class SuggestController {
+    private static final int MAX_LIMIT = 50;
+
+    @Autowired
+    private NameSuggester nameSuggester;
+
+    @GetMapping
+    public ResponseEntity<ApiResponse<List<Suggestion>>> suggest(@RequestParam String q,
+                                                                 @RequestParam(defaultValue = "10") int limit) {
+        try {
+            List<Suggestion> suggestions = nameSuggester.suggest(q, Math.min(limit, MAX_LIMIT));
+            return ResponseEntity.ok(ApiResponse.success("Suggestions retrieved successfully", suggestions));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("Failed to retrieve suggestions: " + e.getMessage()));
+        }
+    }
+}
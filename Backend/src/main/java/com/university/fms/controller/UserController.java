@@ -2,7 +2,8 @@ package com.university.fms.controller;
 
 import com.university.fms.dto.request.UserCreateRequest;
 import com.university.fms.dto.response.ApiResponse;
-import com.university.fms.entity.User;
+import com.university.fms.dto.response.CursorPage;
+import com.university.fms.dto.response.UserResponse;
 import com.university.fms.service.UserService;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -23,9 +24,9 @@ public class UserController {
 
     @GetMapping
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<ApiResponse<List<User>>> getAllUsers() {
+    public ResponseEntity<ApiResponse<List<UserResponse>>> getAllUsers() {
         try {
-            List<User> users = userService.getAllUsers();
+            List<UserResponse> users = userService.getAllUsers();
             return ResponseEntity.ok(ApiResponse.success("Users retrieved successfully", users));
         } catch (Exception e) {
             return ResponseEntity.badRequest()
@@ -33,11 +34,25 @@ public class UserController {
         }
     }
 
+    @GetMapping("/page")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<CursorPage<UserResponse>>> getUsersPage(@RequestParam(required = false) Long after,
+                                                                      @RequestParam(required = false) Integer limit,
+                                                                      @RequestParam(defaultValue = "false") boolean count) {
+        try {
+            CursorPage<UserResponse> page = userService.getUsersPage(after, limit, count);
+            return ResponseEntity.ok(ApiResponse.success("Users retrieved successfully", page));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("Failed to retrieve users: " + e.getMessage()));
+        }
+    }
+
     @GetMapping("/{id}")
-    @PreAuthorize("hasRole('ADMIN') or @userService.getUserById(#id).get().username == authentication.name")
-    public ResponseEntity<ApiResponse<User>> getUserById(@PathVariable Long id) {
+    @PreAuthorize("hasRole('ADMIN') or @ownership.isSelf(#id, authentication)")
+    public ResponseEntity<ApiResponse<UserResponse>> getUserById(@PathVariable Long id) {
         try {
-            Optional<User> user = userService.getUserById(id);
+            Optional<UserResponse> user = userService.getUserById(id);
             if (user.isPresent()) {
                 return ResponseEntity.ok(ApiResponse.success("User retrieved successfully", user.get()));
             } else {
@@ -51,9 +66,9 @@ public class UserController {
 
     @PostMapping
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<ApiResponse<User>> createUser(@Valid @RequestBody UserCreateRequest request) {
+    public ResponseEntity<ApiResponse<UserResponse>> createUser(@Valid @RequestBody UserCreateRequest request) {
         try {
-            User user = userService.createUser(request);
+            UserResponse user = userService.createUser(request);
             return ResponseEntity.ok(ApiResponse.success("User created successfully", user));
         } catch (Exception e) {
             return ResponseEntity.badRequest()
@@ -62,11 +77,11 @@ public class UserController {
     }
 
     @PutMapping("/{id}")
-    @PreAuthorize("hasRole('ADMIN') or @userService.getUserById(#id).get().username == authentication.name")
-    public ResponseEntity<ApiResponse<User>> updateUser(@PathVariable Long id, 
+    @PreAuthorize("hasRole('ADMIN') or @ownership.isSelf(#id, authentication)")
+    public ResponseEntity<ApiResponse<UserResponse>> updateUser(@PathVariable Long id, 
                                                        @Valid @RequestBody UserCreateRequest request) {
         try {
-            User user = userService.updateUser(id, request);
+            UserResponse user = userService.updateUser(id, request);
             return ResponseEntity.ok(ApiResponse.success("User updated successfully", user));
         } catch (Exception e) {
             return ResponseEntity.badRequest()
@@ -88,13 +103,28 @@ public class UserController {
 
     @GetMapping("/role/{roleName}")
     @PreAuthorize("hasRole('ADMIN') or hasRole('HR')")
-    public ResponseEntity<ApiResponse<List<User>>> getUsersByRole(@PathVariable String roleName) {
+    public ResponseEntity<ApiResponse<List<UserResponse>>> getUsersByRole(@PathVariable String roleName) {
         try {
-            List<User> users = userService.getUsersByRole(roleName);
+            List<UserResponse> users = userService.getUsersByRole(roleName);
             return ResponseEntity.ok(ApiResponse.success("Users retrieved successfully", users));
         } catch (Exception e) {
             return ResponseEntity.badRequest()
                     .body(ApiResponse.error("Failed to retrieve users: " + e.getMessage()));
         }
     }
+
+    @GetMapping("/role/{roleName}/page")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('HR')")
+    public ResponseEntity<ApiResponse<CursorPage<UserResponse>>> getUsersPageByRole(@PathVariable String roleName,
+                                                                            @RequestParam(required = false) Long after,
+                                                                            @RequestParam(required = false) Integer limit,
+                                                                            @RequestParam(defaultValue = "false") boolean count) {
+        try {
+            CursorPage<UserResponse> page = userService.getUsersPageByRole(roleName, after, limit, count);
+            return ResponseEntity.ok(ApiResponse.success("Users retrieved successfully", page));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("Failed to retrieve users: " + e.getMessage()));
+        }
+    }
 }
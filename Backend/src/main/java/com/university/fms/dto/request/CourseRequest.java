@@ -20,6 +20,9 @@ public class CourseRequest {
     @Positive
     private Integer credits;
 
+    @Positive
+    private Integer capacity;
+
     private Long departmentId;
 
     // Constructors
@@ -58,6 +61,14 @@ public class CourseRequest {
         this.credits = credits;
     }
 
+    public Integer getCapacity() {
+        return capacity;
+    }
+
+    public void setCapacity(Integer capacity) {
+        this.capacity = capacity;
+    }
+
     public Long getDepartmentId() {
         return departmentId;
     }
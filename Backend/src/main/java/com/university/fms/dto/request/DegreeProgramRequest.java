@@ -0,0 +1,49 @@
+package com.university.fms.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public class DegreeProgramRequest {
+    @NotBlank
+    @Size(max = 255)
+    private String name;
+
+    private String description;
+
+    @NotEmpty
+    @Size(max = 100)
+    @Valid
+    private List<DegreeRequirementRequest> requirements;
+
+    // Constructors
+    public DegreeProgramRequest() {}
+
+    // Getters and Setters
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public void setDescription(String description) {
+        this.description = description;
+    }
+
+    public List<DegreeRequirementRequest> getRequirements() {
+        return requirements;
+    }
+
+    public void setRequirements(List<DegreeRequirementRequest> requirements) {
+        this.requirements = requirements;
+    }
+}
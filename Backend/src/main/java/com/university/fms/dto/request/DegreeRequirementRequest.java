@@ -0,0 +1,93 @@
+package com.university.fms.dto.request;
+
+import com.university.fms.entity.DegreeRequirement;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+// Fields beyond name and type are checked against the type by DegreeProgramService
+public class DegreeRequirementRequest {
+    @NotBlank
+    @Size(max = 255)
+    private String name;
+
+    @NotNull
+    private DegreeRequirement.Type type;
+
+    private Long departmentId;
+
+    @Positive
+    private Integer minCredits;
+
+    @Positive
+    private Integer minCourses;
+
+    @Positive
+    private Double minGpa;
+
+    @Size(max = 500)
+    private List<Long> courseIds;
+
+    // Constructors
+    public DegreeRequirementRequest() {}
+
+    // Getters and Setters
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public DegreeRequirement.Type getType() {
+        return type;
+    }
+
+    public void setType(DegreeRequirement.Type type) {
+        this.type = type;
+    }
+
+    public Long getDepartmentId() {
+        return departmentId;
+    }
+
+    public void setDepartmentId(Long departmentId) {
+        this.departmentId = departmentId;
+    }
+
+    public Integer getMinCredits() {
+        return minCredits;
+    }
+
+    public void setMinCredits(Integer minCredits) {
+        this.minCredits = minCredits;
+    }
+
+    public Integer getMinCourses() {
+        return minCourses;
+    }
+
+    public void setMinCourses(Integer minCourses) {
+        this.minCourses = minCourses;
+    }
+
+    public Double getMinGpa() {
+        return minGpa;
+    }
+
+    public void setMinGpa(Double minGpa) {
+        this.minGpa = minGpa;
+    }
+
+    public List<Long> getCourseIds() {
+        return courseIds;
+    }
+
+    public void setCourseIds(List<Long> courseIds) {
+        this.courseIds = courseIds;
+    }
+}
@@ -0,0 +1,26 @@
+package com.university.fms.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public class EnrollmentBatchRequest {
+    @NotEmpty
+    @Size(max = 1000)
+    @Valid
+    private List<EnrollmentRequest> items;
+
+    // Constructors
+    public EnrollmentBatchRequest() {}
+
+    // Getters and Setters
+    public List<EnrollmentRequest> getItems() {
+        return items;
+    }
+
+    public void setItems(List<EnrollmentRequest> items) {
+        this.items = items;
+    }
+}
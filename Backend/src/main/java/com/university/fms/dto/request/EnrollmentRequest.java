@@ -0,0 +1,68 @@
+package com.university.fms.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+public class EnrollmentRequest {
+    @NotNull
+    private Long studentId;
+
+    @NotNull
+    private Long courseId;
+
+    @NotBlank
+    @Size(max = 20)
+    private String semester;
+
+    @NotNull
+    private Integer year;
+
+    // Only read by the grade endpoints
+    @Size(max = 5)
+    private String grade;
+
+    // Constructors
+    public EnrollmentRequest() {}
+
+    // Getters and Setters
+    public Long getStudentId() {
+        return studentId;
+    }
+
+    public void setStudentId(Long studentId) {
+        this.studentId = studentId;
+    }
+
+    public Long getCourseId() {
+        return courseId;
+    }
+
+    public void setCourseId(Long courseId) {
+        this.courseId = courseId;
+    }
+
+    public String getSemester() {
+        return semester;
+    }
+
+    public void setSemester(String semester) {
+        this.semester = semester;
+    }
+
+    public Integer getYear() {
+        return year;
+    }
+
+    public void setYear(Integer year) {
+        this.year = year;
+    }
+
+    public String getGrade() {
+        return grade;
+    }
+
+    public void setGrade(String grade) {
+        this.grade = grade;
+    }
+}
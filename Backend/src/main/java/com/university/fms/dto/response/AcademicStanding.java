@@ -0,0 +1,50 @@
+package com.university.fms.dto.response;
+
+import java.util.List;
+
+public class AcademicStanding extends GpaSummary {
+    public static final String DEANS_LIST = "DEANS_LIST";
+    public static final String GOOD_STANDING = "GOOD_STANDING";
+    public static final String PROBATION = "PROBATION";
+    public static final String NO_GPA = "NO_GPA";
+
+    private Long studentId;
+    private String standing;
+    private List<DepartmentGpa> byDepartment;
+
+    // Constructors
+    public AcademicStanding() {}
+
+    public AcademicStanding(Long studentId, String standing, long creditsAttempted, long creditsEarned, long gpaCredits,
+                            double qualityPoints, Double gpa, List<DepartmentGpa> byDepartment) {
+        super(creditsAttempted, creditsEarned, gpaCredits, qualityPoints, gpa);
+        this.studentId = studentId;
+        this.standing = standing;
+        this.byDepartment = byDepartment;
+    }
+
+    // Getters and Setters
+    public Long getStudentId() {
+        return studentId;
+    }
+
+    public void setStudentId(Long studentId) {
+        this.studentId = studentId;
+    }
+
+    public String getStanding() {
+        return standing;
+    }
+
+    public void setStanding(String standing) {
+        this.standing = standing;
+    }
+
+    public List<DepartmentGpa> getByDepartment() {
+        return byDepartment;
+    }
+
+    public void setByDepartment(List<DepartmentGpa> byDepartment) {
+        this.byDepartment = byDepartment;
+    }
+}
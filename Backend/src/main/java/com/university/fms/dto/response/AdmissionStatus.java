@@ -0,0 +1,52 @@
+package com.university.fms.dto.response;
+
+// Place of a queued request in the enrollment waiting room
+public class AdmissionStatus {
+    private String token;
+    private long position;
+    private boolean ready;
+    private long retryAfterSeconds;
+
+    // Constructors
+    public AdmissionStatus() {}
+
+    public AdmissionStatus(String token, long position, long retryAfterSeconds) {
+        this.token = token;
+        this.position = position;
+        this.ready = position == 0;
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    // Getters and Setters
+    public String getToken() {
+        return token;
+    }
+
+    public void setToken(String token) {
+        this.token = token;
+    }
+
+    public long getPosition() {
+        return position;
+    }
+
+    public void setPosition(long position) {
+        this.position = position;
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public void setReady(boolean ready) {
+        this.ready = ready;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+
+    public void setRetryAfterSeconds(long retryAfterSeconds) {
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
@@ -0,0 +1,55 @@
+package com.university.fms.dto.response;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class BatchResult {
+    private int succeeded;
+    private int failed;
+    private int waitlisted;
+    private List<ImportError> errors;
+
+    // Constructors
+    public BatchResult() {
+        this.errors = new ArrayList<>();
+    }
+
+    // Row is the item's index in the submitted batch
+    public void rejected(int index, String message) {
+        failed++;
+        errors.add(new ImportError(index, message));
+    }
+
+    // Getters and Setters
+    public int getSucceeded() {
+        return succeeded;
+    }
+
+    public void setSucceeded(int succeeded) {
+        this.succeeded = succeeded;
+    }
+
+    public int getWaitlisted() {
+        return waitlisted;
+    }
+
+    public void setWaitlisted(int waitlisted) {
+        this.waitlisted = waitlisted;
+    }
+
+    public int getFailed() {
+        return failed;
+    }
+
+    public void setFailed(int failed) {
+        this.failed = failed;
+    }
+
+    public List<ImportError> getErrors() {
+        return errors;
+    }
+
+    public void setErrors(List<ImportError> errors) {
+        this.errors = errors;
+    }
+}
@@ -0,0 +1,38 @@
+package com.university.fms.dto.response;
+
+import com.university.fms.entity.Course;
+import com.university.fms.entity.Department;
+
+import java.time.LocalDateTime;
+
+public class CourseResponse extends CourseSummary {
+    private String description;
+
+    // Constructors
+    public CourseResponse() {}
+
+    // Used by JPQL constructor expressions in CourseRepository
+    public CourseResponse(Long id, String name, String code, String description, Integer credits,
+                          Integer capacity, Long departmentId, String departmentName,
+                          LocalDateTime createdAt, LocalDateTime updatedAt) {
+        super(id, name, code, credits, capacity, departmentId, departmentName, createdAt, updatedAt);
+        this.description = description;
+    }
+
+    public static CourseResponse from(Course course) {
+        Department department = course.getDepartment();
+        return new CourseResponse(course.getId(), course.getName(), course.getCode(), course.getDescription(),
+                course.getCredits(), course.getCapacity(),
+                department != null ? department.getId() : null, department != null ? department.getName() : null,
+                course.getCreatedAt(), course.getUpdatedAt());
+    }
+
+    // Getters and Setters
+    public String getDescription() {
+        return description;
+    }
+
+    public void setDescription(String description) {
+        this.description = description;
+    }
+}
@@ -0,0 +1,97 @@
+package com.university.fms.dto.response;
+
+import java.time.LocalDateTime;
+
+// Collection view of a course; leaves out the TEXT description so list queries never read it
+public class CourseSummary {
+    private Long id;
+    private String name;
+    private String code;
+    private Integer credits;
+    private Integer capacity;
+    private NamedRef department;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+
+    // Constructors
+    public CourseSummary() {}
+
+    // Used by JPQL constructor expressions in CourseRepository
+    public CourseSummary(Long id, String name, String code, Integer credits, Integer capacity,
+                         Long departmentId, String departmentName,
+                         LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this.id = id;
+        this.name = name;
+        this.code = code;
+        this.credits = credits;
+        this.capacity = capacity;
+        this.department = NamedRef.of(departmentId, departmentName);
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getCode() {
+        return code;
+    }
+
+    public void setCode(String code) {
+        this.code = code;
+    }
+
+    public Integer getCredits() {
+        return credits;
+    }
+
+    public void setCredits(Integer credits) {
+        this.credits = credits;
+    }
+
+    public Integer getCapacity() {
+        return capacity;
+    }
+
+    public void setCapacity(Integer capacity) {
+        this.capacity = capacity;
+    }
+
+    public NamedRef getDepartment() {
+        return department;
+    }
+
+    public void setDepartment(NamedRef department) {
+        this.department = department;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+}
@@ -0,0 +1,55 @@
+package com.university.fms.dto.response;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public class DashboardStats {
+    private long departments;
+    private StatCounts totals;
+    private List<DepartmentStats> byDepartment;
+    private LocalDateTime reconciledAt;
+
+    // Constructors
+    public DashboardStats() {}
+
+    public DashboardStats(long departments, StatCounts totals, List<DepartmentStats> byDepartment,
+                          LocalDateTime reconciledAt) {
+        this.departments = departments;
+        this.totals = totals;
+        this.byDepartment = byDepartment;
+        this.reconciledAt = reconciledAt;
+    }
+
+    // Getters and Setters
+    public long getDepartments() {
+        return departments;
+    }
+
+    public void setDepartments(long departments) {
+        this.departments = departments;
+    }
+
+    public StatCounts getTotals() {
+        return totals;
+    }
+
+    public void setTotals(StatCounts totals) {
+        this.totals = totals;
+    }
+
+    public List<DepartmentStats> getByDepartment() {
+        return byDepartment;
+    }
+
+    public void setByDepartment(List<DepartmentStats> byDepartment) {
+        this.byDepartment = byDepartment;
+    }
+
+    public LocalDateTime getReconciledAt() {
+        return reconciledAt;
+    }
+
+    public void setReconciledAt(LocalDateTime reconciledAt) {
+        this.reconciledAt = reconciledAt;
+    }
+}
@@ -0,0 +1,65 @@
+package com.university.fms.dto.response;
+
+import java.util.List;
+
+// One student's standing against a degree program; gpa is null until a course with grade points is graded
+public class DegreeAudit {
+    private Long studentId;
+    private boolean complete;
+    private long creditsEarned;
+    private Double gpa;
+    private List<RequirementProgress> requirements;
+
+    // Constructors
+    public DegreeAudit() {}
+
+    public DegreeAudit(Long studentId, boolean complete, long creditsEarned, Double gpa,
+                       List<RequirementProgress> requirements) {
+        this.studentId = studentId;
+        this.complete = complete;
+        this.creditsEarned = creditsEarned;
+        this.gpa = gpa;
+        this.requirements = requirements;
+    }
+
+    // Getters and Setters
+    public Long getStudentId() {
+        return studentId;
+    }
+
+    public void setStudentId(Long studentId) {
+        this.studentId = studentId;
+    }
+
+    public boolean isComplete() {
+        return complete;
+    }
+
+    public void setComplete(boolean complete) {
+        this.complete = complete;
+    }
+
+    public long getCreditsEarned() {
+        return creditsEarned;
+    }
+
+    public void setCreditsEarned(long creditsEarned) {
+        this.creditsEarned = creditsEarned;
+    }
+
+    public Double getGpa() {
+        return gpa;
+    }
+
+    public void setGpa(Double gpa) {
+        this.gpa = gpa;
+    }
+
+    public List<RequirementProgress> getRequirements() {
+        return requirements;
+    }
+
+    public void setRequirements(List<RequirementProgress> requirements) {
+        this.requirements = requirements;
+    }
+}
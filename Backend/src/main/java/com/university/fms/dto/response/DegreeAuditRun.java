@@ -0,0 +1,96 @@
+package com.university.fms.dto.response;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// Outcome of auditing a cohort against a program; results may leave out the students who are complete
+public class DegreeAuditRun {
+    private Long programId;
+    private String programName;
+    private int students;
+    private int complete;
+    private long enrollments;
+    private long elapsedMs;
+    private LocalDateTime auditedAt;
+    private List<DegreeAudit> results;
+
+    // Constructors
+    public DegreeAuditRun() {}
+
+    public DegreeAuditRun(Long programId, String programName, int students, int complete, long enrollments,
+                          long elapsedMs, LocalDateTime auditedAt, List<DegreeAudit> results) {
+        this.programId = programId;
+        this.programName = programName;
+        this.students = students;
+        this.complete = complete;
+        this.enrollments = enrollments;
+        this.elapsedMs = elapsedMs;
+        this.auditedAt = auditedAt;
+        this.results = results;
+    }
+
+    // Getters and Setters
+    public Long getProgramId() {
+        return programId;
+    }
+
+    public void setProgramId(Long programId) {
+        this.programId = programId;
+    }
+
+    public String getProgramName() {
+        return programName;
+    }
+
+    public void setProgramName(String programName) {
+        this.programName = programName;
+    }
+
+    public int getStudents() {
+        return students;
+    }
+
+    public void setStudents(int students) {
+        this.students = students;
+    }
+
+    public int getComplete() {
+        return complete;
+    }
+
+    public void setComplete(int complete) {
+        this.complete = complete;
+    }
+
+    public long getEnrollments() {
+        return enrollments;
+    }
+
+    public void setEnrollments(long enrollments) {
+        this.enrollments = enrollments;
+    }
+
+    public long getElapsedMs() {
+        return elapsedMs;
+    }
+
+    public void setElapsedMs(long elapsedMs) {
+        this.elapsedMs = elapsedMs;
+    }
+
+    public LocalDateTime getAuditedAt() {
+        return auditedAt;
+    }
+
+    public void setAuditedAt(LocalDateTime auditedAt) {
+        this.auditedAt = auditedAt;
+    }
+
+    public List<DegreeAudit> getResults() {
+        return results;
+    }
+
+    public void setResults(List<DegreeAudit> results) {
+        this.results = results;
+    }
+}
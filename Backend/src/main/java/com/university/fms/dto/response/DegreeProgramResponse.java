@@ -0,0 +1,78 @@
+package com.university.fms.dto.response;
+
+import com.university.fms.entity.DegreeProgram;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public class DegreeProgramResponse {
+    private Long id;
+    private String name;
+    private String description;
+    private List<DegreeRequirementResponse> requirements;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+
+    // Constructors
+    public DegreeProgramResponse() {}
+
+    public static DegreeProgramResponse from(DegreeProgram program) {
+        DegreeProgramResponse response = new DegreeProgramResponse();
+        response.setId(program.getId());
+        response.setName(program.getName());
+        response.setDescription(program.getDescription());
+        response.setRequirements(program.getRequirements().stream().map(DegreeRequirementResponse::from).toList());
+        response.setCreatedAt(program.getCreatedAt());
+        response.setUpdatedAt(program.getUpdatedAt());
+        return response;
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public void setDescription(String description) {
+        this.description = description;
+    }
+
+    public List<DegreeRequirementResponse> getRequirements() {
+        return requirements;
+    }
+
+    public void setRequirements(List<DegreeRequirementResponse> requirements) {
+        this.requirements = requirements;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+}
@@ -0,0 +1,105 @@
+package com.university.fms.dto.response;
+
+import com.university.fms.entity.Course;
+import com.university.fms.entity.DegreeRequirement;
+import com.university.fms.entity.Department;
+
+import java.util.Comparator;
+import java.util.List;
+
+// Courses are named by their code
+public class DegreeRequirementResponse {
+    private Long id;
+    private String name;
+    private String type;
+    private NamedRef department;
+    private Integer minCredits;
+    private Integer minCourses;
+    private Double minGpa;
+    private List<NamedRef> courses;
+
+    // Constructors
+    public DegreeRequirementResponse() {}
+
+    public static DegreeRequirementResponse from(DegreeRequirement requirement) {
+        DegreeRequirementResponse response = new DegreeRequirementResponse();
+        Department department = requirement.getDepartment();
+        response.setId(requirement.getId());
+        response.setName(requirement.getName());
+        response.setType(requirement.getType().name());
+        response.setDepartment(department != null ? new NamedRef(department.getId(), department.getName()) : null);
+        response.setMinCredits(requirement.getMinCredits());
+        response.setMinCourses(requirement.getMinCourses());
+        response.setMinGpa(requirement.getMinGpa());
+        response.setCourses(requirement.getCourses().stream()
+                .sorted(Comparator.comparing(Course::getCode))
+                .map(course -> new NamedRef(course.getId(), course.getCode()))
+                .toList());
+        return response;
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public void setType(String type) {
+        this.type = type;
+    }
+
+    public NamedRef getDepartment() {
+        return department;
+    }
+
+    public void setDepartment(NamedRef department) {
+        this.department = department;
+    }
+
+    public Integer getMinCredits() {
+        return minCredits;
+    }
+
+    public void setMinCredits(Integer minCredits) {
+        this.minCredits = minCredits;
+    }
+
+    public Integer getMinCourses() {
+        return minCourses;
+    }
+
+    public void setMinCourses(Integer minCourses) {
+        this.minCourses = minCourses;
+    }
+
+    public Double getMinGpa() {
+        return minGpa;
+    }
+
+    public void setMinGpa(Double minGpa) {
+        this.minGpa = minGpa;
+    }
+
+    public List<NamedRef> getCourses() {
+        return courses;
+    }
+
+    public void setCourses(List<NamedRef> courses) {
+        this.courses = courses;
+    }
+}
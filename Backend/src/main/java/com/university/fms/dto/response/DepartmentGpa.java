@@ -0,0 +1,24 @@
+package com.university.fms.dto.response;
+
+// GPA over the courses of one department
+public class DepartmentGpa extends GpaSummary {
+    private Long departmentId;
+
+    // Constructors
+    public DepartmentGpa() {}
+
+    public DepartmentGpa(Long departmentId, long creditsAttempted, long creditsEarned, long gpaCredits,
+                         double qualityPoints, Double gpa) {
+        super(creditsAttempted, creditsEarned, gpaCredits, qualityPoints, gpa);
+        this.departmentId = departmentId;
+    }
+
+    // Getters and Setters
+    public Long getDepartmentId() {
+        return departmentId;
+    }
+
+    public void setDepartmentId(Long departmentId) {
+        this.departmentId = departmentId;
+    }
+}
@@ -0,0 +1,33 @@
+package com.university.fms.dto.response;
+
+public class DepartmentStats extends StatCounts {
+    private Long departmentId;
+    private String departmentName;
+
+    // Constructors
+    public DepartmentStats() {}
+
+    public DepartmentStats(Long departmentId, String departmentName,
+                           long faculty, long courses, long publications, long enrollments) {
+        super(faculty, courses, publications, enrollments);
+        this.departmentId = departmentId;
+        this.departmentName = departmentName;
+    }
+
+    // Getters and Setters
+    public Long getDepartmentId() {
+        return departmentId;
+    }
+
+    public void setDepartmentId(Long departmentId) {
+        this.departmentId = departmentId;
+    }
+
+    public String getDepartmentName() {
+        return departmentName;
+    }
+
+    public void setDepartmentName(String departmentName) {
+        this.departmentName = departmentName;
+    }
+}
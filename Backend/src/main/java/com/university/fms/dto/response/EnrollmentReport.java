@@ -0,0 +1,55 @@
+package com.university.fms.dto.response;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// Enrollment counts from the report cube, one row per combination of the grouped dimensions
+public class EnrollmentReport {
+    private List<String> groupBy;
+    private long total;
+    private List<EnrollmentReportRow> rows;
+    private LocalDateTime rebuiltAt;
+
+    // Constructors
+    public EnrollmentReport() {}
+
+    public EnrollmentReport(List<String> groupBy, long total, List<EnrollmentReportRow> rows, LocalDateTime rebuiltAt) {
+        this.groupBy = groupBy;
+        this.total = total;
+        this.rows = rows;
+        this.rebuiltAt = rebuiltAt;
+    }
+
+    // Getters and Setters
+    public List<String> getGroupBy() {
+        return groupBy;
+    }
+
+    public void setGroupBy(List<String> groupBy) {
+        this.groupBy = groupBy;
+    }
+
+    public long getTotal() {
+        return total;
+    }
+
+    public void setTotal(long total) {
+        this.total = total;
+    }
+
+    public List<EnrollmentReportRow> getRows() {
+        return rows;
+    }
+
+    public void setRows(List<EnrollmentReportRow> rows) {
+        this.rows = rows;
+    }
+
+    public LocalDateTime getRebuiltAt() {
+        return rebuiltAt;
+    }
+
+    public void setRebuiltAt(LocalDateTime rebuiltAt) {
+        this.rebuiltAt = rebuiltAt;
+    }
+}
@@ -0,0 +1,149 @@
+package com.university.fms.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.university.fms.entity.StudentEnrollment;
+import com.university.fms.entity.WaitlistEntry;
+
+import java.time.LocalDateTime;
+
+public class EnrollmentResponse {
+    public static final String ENROLLED = "ENROLLED";
+    public static final String WAITLISTED = "WAITLISTED";
+
+    private Long studentId;
+    private String studentUsername;
+    private Long courseId;
+    private String courseCode;
+    private String courseName;
+    private String semester;
+    private Integer year;
+    private LocalDateTime enrollmentDate;
+    private String grade;
+    private String status;
+
+    // 1-based place in the section's waitlist, only set while waitlisted
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Long waitlistPosition;
+
+    // Constructors
+    public EnrollmentResponse() {}
+
+    // Used by JPQL constructor expressions in StudentEnrollmentRepository
+    public EnrollmentResponse(Long studentId, String studentUsername, Long courseId, String courseCode, String courseName,
+                              String semester, Integer year, LocalDateTime enrollmentDate, String grade) {
+        this.studentId = studentId;
+        this.studentUsername = studentUsername;
+        this.courseId = courseId;
+        this.courseCode = courseCode;
+        this.courseName = courseName;
+        this.semester = semester;
+        this.year = year;
+        this.enrollmentDate = enrollmentDate;
+        this.grade = grade;
+        this.status = ENROLLED;
+    }
+
+    public static EnrollmentResponse from(StudentEnrollment enrollment) {
+        return new EnrollmentResponse(enrollment.getStudent().getId(), enrollment.getStudent().getUsername(),
+                enrollment.getCourse().getId(), enrollment.getCourse().getCode(), enrollment.getCourse().getName(),
+                enrollment.getSemester(), enrollment.getYear(), enrollment.getEnrollmentDate(), enrollment.getGrade());
+    }
+
+    public static EnrollmentResponse waitlisted(WaitlistEntry entry, long position) {
+        EnrollmentResponse response = new EnrollmentResponse(entry.getStudent().getId(),
+                entry.getStudent().getUsername(), entry.getCourse().getId(), entry.getCourse().getCode(),
+                entry.getCourse().getName(), entry.getSemester(), entry.getYear(), null, null);
+        response.setStatus(WAITLISTED);
+        response.setWaitlistPosition(position);
+        return response;
+    }
+
+    // Getters and Setters
+    public Long getStudentId() {
+        return studentId;
+    }
+
+    public void setStudentId(Long studentId) {
+        this.studentId = studentId;
+    }
+
+    public String getStudentUsername() {
+        return studentUsername;
+    }
+
+    public void setStudentUsername(String studentUsername) {
+        this.studentUsername = studentUsername;
+    }
+
+    public Long getCourseId() {
+        return courseId;
+    }
+
+    public void setCourseId(Long courseId) {
+        this.courseId = courseId;
+    }
+
+    public String getCourseCode() {
+        return courseCode;
+    }
+
+    public void setCourseCode(String courseCode) {
+        this.courseCode = courseCode;
+    }
+
+    public String getCourseName() {
+        return courseName;
+    }
+
+    public void setCourseName(String courseName) {
+        this.courseName = courseName;
+    }
+
+    public String getSemester() {
+        return semester;
+    }
+
+    public void setSemester(String semester) {
+        this.semester = semester;
+    }
+
+    public Integer getYear() {
+        return year;
+    }
+
+    public void setYear(Integer year) {
+        this.year = year;
+    }
+
+    public LocalDateTime getEnrollmentDate() {
+        return enrollmentDate;
+    }
+
+    public void setEnrollmentDate(LocalDateTime enrollmentDate) {
+        this.enrollmentDate = enrollmentDate;
+    }
+
+    public String getGrade() {
+        return grade;
+    }
+
+    public void setGrade(String grade) {
+        this.grade = grade;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public Long getWaitlistPosition() {
+        return waitlistPosition;
+    }
+
+    public void setWaitlistPosition(Long waitlistPosition) {
+        this.waitlistPosition = waitlistPosition;
+    }
+}
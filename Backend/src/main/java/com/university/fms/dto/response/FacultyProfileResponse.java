@@ -0,0 +1,47 @@
+package com.university.fms.dto.response;
+
+import com.university.fms.entity.Department;
+import com.university.fms.entity.FacultyProfile;
+import com.university.fms.entity.User;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+public class FacultyProfileResponse extends FacultyProfileSummary {
+    private String bio;
+
+    // Constructors
+    public FacultyProfileResponse() {}
+
+    // Used by JPQL constructor expressions in FacultyProfileRepository
+    public FacultyProfileResponse(Long id, Long userId, String username, String email,
+                                  String firstName, String lastName, String bio, String profilePictureUrl,
+                                  Long departmentId, String departmentName,
+                                  String phone, String officeLocation, LocalDate hireDate,
+                                  LocalDateTime createdAt, LocalDateTime updatedAt) {
+        super(id, userId, username, email, firstName, lastName, profilePictureUrl, departmentId, departmentName,
+                phone, officeLocation, hireDate, createdAt, updatedAt);
+        this.bio = bio;
+    }
+
+    public static FacultyProfileResponse from(FacultyProfile profile) {
+        User user = profile.getUser();
+        Department department = profile.getDepartment();
+        return new FacultyProfileResponse(profile.getId(),
+                user != null ? user.getId() : null, user != null ? user.getUsername() : null,
+                user != null ? user.getEmail() : null,
+                profile.getFirstName(), profile.getLastName(), profile.getBio(), profile.getProfilePictureUrl(),
+                department != null ? department.getId() : null, department != null ? department.getName() : null,
+                profile.getPhone(), profile.getOfficeLocation(), profile.getHireDate(),
+                profile.getCreatedAt(), profile.getUpdatedAt());
+    }
+
+    // Getters and Setters
+    public String getBio() {
+        return bio;
+    }
+
+    public void setBio(String bio) {
+        this.bio = bio;
+    }
+}
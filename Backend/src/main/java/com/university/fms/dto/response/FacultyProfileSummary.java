@@ -0,0 +1,130 @@
+package com.university.fms.dto.response;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+// Collection view of a faculty profile; leaves out the TEXT bio so list queries never read it
+public class FacultyProfileSummary {
+    private Long id;
+    private UserRef user;
+    private String firstName;
+    private String lastName;
+    private String profilePictureUrl;
+    private NamedRef department;
+    private String phone;
+    private String officeLocation;
+    private LocalDate hireDate;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+
+    // Constructors
+    public FacultyProfileSummary() {}
+
+    // Used by JPQL constructor expressions in FacultyProfileRepository
+    public FacultyProfileSummary(Long id, Long userId, String username, String email,
+                                 String firstName, String lastName, String profilePictureUrl,
+                                 Long departmentId, String departmentName,
+                                 String phone, String officeLocation, LocalDate hireDate,
+                                 LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this.id = id;
+        this.user = UserRef.of(userId, username, email);
+        this.firstName = firstName;
+        this.lastName = lastName;
+        this.profilePictureUrl = profilePictureUrl;
+        this.department = NamedRef.of(departmentId, departmentName);
+        this.phone = phone;
+        this.officeLocation = officeLocation;
+        this.hireDate = hireDate;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public UserRef getUser() {
+        return user;
+    }
+
+    public void setUser(UserRef user) {
+        this.user = user;
+    }
+
+    public String getFirstName() {
+        return firstName;
+    }
+
+    public void setFirstName(String firstName) {
+        this.firstName = firstName;
+    }
+
+    public String getLastName() {
+        return lastName;
+    }
+
+    public void setLastName(String lastName) {
+        this.lastName = lastName;
+    }
+
+    public String getProfilePictureUrl() {
+        return profilePictureUrl;
+    }
+
+    public void setProfilePictureUrl(String profilePictureUrl) {
+        this.profilePictureUrl = profilePictureUrl;
+    }
+
+    public NamedRef getDepartment() {
+        return department;
+    }
+
+    public void setDepartment(NamedRef department) {
+        this.department = department;
+    }
+
+    public String getPhone() {
+        return phone;
+    }
+
+    public void setPhone(String phone) {
+        this.phone = phone;
+    }
+
+    public String getOfficeLocation() {
+        return officeLocation;
+    }
+
+    public void setOfficeLocation(String officeLocation) {
+        this.officeLocation = officeLocation;
+    }
+
+    public LocalDate getHireDate() {
+        return hireDate;
+    }
+
+    public void setHireDate(LocalDate hireDate) {
+        this.hireDate = hireDate;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+}
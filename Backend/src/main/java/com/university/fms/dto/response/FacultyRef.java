@@ -0,0 +1,45 @@
+package com.university.fms.dto.response;
+
+public class FacultyRef {
+    private Long id;
+    private String firstName;
+    private String lastName;
+
+    // Constructors
+    public FacultyRef() {}
+
+    public FacultyRef(Long id, String firstName, String lastName) {
+        this.id = id;
+        this.firstName = firstName;
+        this.lastName = lastName;
+    }
+
+    public static FacultyRef of(Long id, String firstName, String lastName) {
+        return id != null ? new FacultyRef(id, firstName, lastName) : null;
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getFirstName() {
+        return firstName;
+    }
+
+    public void setFirstName(String firstName) {
+        this.firstName = firstName;
+    }
+
+    public String getLastName() {
+        return lastName;
+    }
+
+    public void setLastName(String lastName) {
+        this.lastName = lastName;
+    }
+}
@@ -0,0 +1,62 @@
+package com.university.fms.dto.response;
+
+// Credits and quality points behind a GPA; gpa is null until a course with grade points has been graded
+public class GpaSummary {
+    private long creditsAttempted;
+    private long creditsEarned;
+    private long gpaCredits;
+    private double qualityPoints;
+    private Double gpa;
+
+    // Constructors
+    public GpaSummary() {}
+
+    public GpaSummary(long creditsAttempted, long creditsEarned, long gpaCredits, double qualityPoints, Double gpa) {
+        this.creditsAttempted = creditsAttempted;
+        this.creditsEarned = creditsEarned;
+        this.gpaCredits = gpaCredits;
+        this.qualityPoints = qualityPoints;
+        this.gpa = gpa;
+    }
+
+    // Getters and Setters
+    public long getCreditsAttempted() {
+        return creditsAttempted;
+    }
+
+    public void setCreditsAttempted(long creditsAttempted) {
+        this.creditsAttempted = creditsAttempted;
+    }
+
+    public long getCreditsEarned() {
+        return creditsEarned;
+    }
+
+    public void setCreditsEarned(long creditsEarned) {
+        this.creditsEarned = creditsEarned;
+    }
+
+    public long getGpaCredits() {
+        return gpaCredits;
+    }
+
+    public void setGpaCredits(long gpaCredits) {
+        this.gpaCredits = gpaCredits;
+    }
+
+    public double getQualityPoints() {
+        return qualityPoints;
+    }
+
+    public void setQualityPoints(double qualityPoints) {
+        this.qualityPoints = qualityPoints;
+    }
+
+    public Double getGpa() {
+        return gpa;
+    }
+
+    public void setGpa(Double gpa) {
+        this.gpa = gpa;
+    }
+}
@@ -0,0 +1,88 @@
+package com.university.fms.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class ImportReport {
+    private int totalRows;
+    private int imported;
+    private int failed;
+    private long elapsedMillis;
+    private boolean errorsTruncated;
+    private List<ImportError> errors = new ArrayList<>();
+
+    // Caps the report size; failed still counts every rejected row
+    @JsonIgnore
+    private int maxErrors;
+
+    // Constructors
+    public ImportReport() {}
+
+    public ImportReport(int maxErrors) {
+        this.maxErrors = maxErrors;
+    }
+
+    public void rejected(int row, String message) {
+        failed++;
+        if (errors.size() < maxErrors) {
+            errors.add(new ImportError(row, message));
+        } else {
+            errorsTruncated = true;
+        }
+    }
+
+    public void imported(int count) {
+        imported += count;
+    }
+
+    // Getters and Setters
+    public int getTotalRows() {
+        return totalRows;
+    }
+
+    public void setTotalRows(int totalRows) {
+        this.totalRows = totalRows;
+    }
+
+    public int getImported() {
+        return imported;
+    }
+
+    public void setImported(int imported) {
+        this.imported = imported;
+    }
+
+    public int getFailed() {
+        return failed;
+    }
+
+    public void setFailed(int failed) {
+        this.failed = failed;
+    }
+
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    public void setElapsedMillis(long elapsedMillis) {
+        this.elapsedMillis = elapsedMillis;
+    }
+
+    public boolean isErrorsTruncated() {
+        return errorsTruncated;
+    }
+
+    public void setErrorsTruncated(boolean errorsTruncated) {
+        this.errorsTruncated = errorsTruncated;
+    }
+
+    public List<ImportError> getErrors() {
+        return errors;
+    }
+
+    public void setErrors(List<ImportError> errors) {
+        this.errors = errors;
+    }
+}
@@ -0,0 +1,36 @@
+package com.university.fms.dto.response;
+
+// Id and display name of an associated row, e.g. a course's department or a user's role
+public class NamedRef {
+    private Long id;
+    private String name;
+
+    // Constructors
+    public NamedRef() {}
+
+    public NamedRef(Long id, String name) {
+        this.id = id;
+        this.name = name;
+    }
+
+    public static NamedRef of(Long id, String name) {
+        return id != null ? new NamedRef(id, name) : null;
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+}
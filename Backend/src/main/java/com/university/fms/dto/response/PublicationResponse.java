@@ -0,0 +1,57 @@
+package com.university.fms.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.university.fms.entity.FacultyProfile;
+import com.university.fms.entity.Publication;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public class PublicationResponse extends PublicationSummary {
+    private String abstractText;
+
+    // Set on create/update when the duplicate index finds likely copies of this paper
+    @JsonInclude(JsonInclude.Include.NON_EMPTY)
+    private List<Long> possibleDuplicateIds;
+
+    // Constructors
+    public PublicationResponse() {}
+
+    // Used by JPQL constructor expressions in PublicationRepository
+    public PublicationResponse(Long id, Long facultyId, String facultyFirstName, String facultyLastName,
+                               String title, LocalDate publicationDate, String journalName, String url,
+                               String abstractText, String doi,
+                               LocalDateTime createdAt, LocalDateTime updatedAt) {
+        super(id, facultyId, facultyFirstName, facultyLastName, title, publicationDate, journalName, url, doi,
+                createdAt, updatedAt);
+        this.abstractText = abstractText;
+    }
+
+    public static PublicationResponse from(Publication publication) {
+        FacultyProfile faculty = publication.getFaculty();
+        return new PublicationResponse(publication.getId(),
+                faculty != null ? faculty.getId() : null, faculty != null ? faculty.getFirstName() : null,
+                faculty != null ? faculty.getLastName() : null,
+                publication.getTitle(), publication.getPublicationDate(), publication.getJournalName(),
+                publication.getUrl(), publication.getAbstractText(), publication.getDoi(),
+                publication.getCreatedAt(), publication.getUpdatedAt());
+    }
+
+    // Getters and Setters
+    public String getAbstractText() {
+        return abstractText;
+    }
+
+    public void setAbstractText(String abstractText) {
+        this.abstractText = abstractText;
+    }
+
+    public List<Long> getPossibleDuplicateIds() {
+        return possibleDuplicateIds;
+    }
+
+    public void setPossibleDuplicateIds(List<Long> possibleDuplicateIds) {
+        this.possibleDuplicateIds = possibleDuplicateIds;
+    }
+}
@@ -0,0 +1,108 @@
+package com.university.fms.dto.response;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+// Collection view of a publication; leaves out the TEXT abstract so list queries never read it
+public class PublicationSummary {
+    private Long id;
+    private FacultyRef faculty;
+    private String title;
+    private LocalDate publicationDate;
+    private String journalName;
+    private String url;
+    private String doi;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+
+    // Constructors
+    public PublicationSummary() {}
+
+    // Used by JPQL constructor expressions in PublicationRepository
+    public PublicationSummary(Long id, Long facultyId, String facultyFirstName, String facultyLastName,
+                              String title, LocalDate publicationDate, String journalName, String url, String doi,
+                              LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this.id = id;
+        this.faculty = FacultyRef.of(facultyId, facultyFirstName, facultyLastName);
+        this.title = title;
+        this.publicationDate = publicationDate;
+        this.journalName = journalName;
+        this.url = url;
+        this.doi = doi;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public FacultyRef getFaculty() {
+        return faculty;
+    }
+
+    public void setFaculty(FacultyRef faculty) {
+        this.faculty = faculty;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    public LocalDate getPublicationDate() {
+        return publicationDate;
+    }
+
+    public void setPublicationDate(LocalDate publicationDate) {
+        this.publicationDate = publicationDate;
+    }
+
+    public String getJournalName() {
+        return journalName;
+    }
+
+    public void setJournalName(String journalName) {
+        this.journalName = journalName;
+    }
+
+    public String getUrl() {
+        return url;
+    }
+
+    public void setUrl(String url) {
+        this.url = url;
+    }
+
+    public String getDoi() {
+        return doi;
+    }
+
+    public void setDoi(String doi) {
+        this.doi = doi;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+}
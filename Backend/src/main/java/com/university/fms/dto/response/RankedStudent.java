@@ -0,0 +1,71 @@
+package com.university.fms.dto.response;
+
+public class RankedStudent {
+    private int rank;
+    private Long studentId;
+    private String username;
+    private double gpa;
+    private long gpaCredits;
+    private long creditsEarned;
+
+    // Constructors
+    public RankedStudent() {}
+
+    public RankedStudent(int rank, Long studentId, String username, double gpa, long gpaCredits, long creditsEarned) {
+        this.rank = rank;
+        this.studentId = studentId;
+        this.username = username;
+        this.gpa = gpa;
+        this.gpaCredits = gpaCredits;
+        this.creditsEarned = creditsEarned;
+    }
+
+    // Getters and Setters
+    public int getRank() {
+        return rank;
+    }
+
+    public void setRank(int rank) {
+        this.rank = rank;
+    }
+
+    public Long getStudentId() {
+        return studentId;
+    }
+
+    public void setStudentId(Long studentId) {
+        this.studentId = studentId;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    public void setUsername(String username) {
+        this.username = username;
+    }
+
+    public double getGpa() {
+        return gpa;
+    }
+
+    public void setGpa(double gpa) {
+        this.gpa = gpa;
+    }
+
+    public long getGpaCredits() {
+        return gpaCredits;
+    }
+
+    public void setGpaCredits(long gpaCredits) {
+        this.gpaCredits = gpaCredits;
+    }
+
+    public long getCreditsEarned() {
+        return creditsEarned;
+    }
+
+    public void setCreditsEarned(long creditsEarned) {
+        this.creditsEarned = creditsEarned;
+    }
+}
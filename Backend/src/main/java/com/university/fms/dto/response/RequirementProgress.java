@@ -0,0 +1,86 @@
+package com.university.fms.dto.response;
+
+import java.util.List;
+
+// How far a student is through one requirement, in credits, courses or GPA depending on its type;
+// missingCourses is only set for required courses
+public class RequirementProgress {
+    private Long requirementId;
+    private String name;
+    private String type;
+    private boolean satisfied;
+    private double required;
+    private double achieved;
+    private List<String> missingCourses;
+
+    // Constructors
+    public RequirementProgress() {}
+
+    public RequirementProgress(Long requirementId, String name, String type, boolean satisfied, double required,
+                               double achieved, List<String> missingCourses) {
+        this.requirementId = requirementId;
+        this.name = name;
+        this.type = type;
+        this.satisfied = satisfied;
+        this.required = required;
+        this.achieved = achieved;
+        this.missingCourses = missingCourses;
+    }
+
+    // Getters and Setters
+    public Long getRequirementId() {
+        return requirementId;
+    }
+
+    public void setRequirementId(Long requirementId) {
+        this.requirementId = requirementId;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public void setType(String type) {
+        this.type = type;
+    }
+
+    public boolean isSatisfied() {
+        return satisfied;
+    }
+
+    public void setSatisfied(boolean satisfied) {
+        this.satisfied = satisfied;
+    }
+
+    public double getRequired() {
+        return required;
+    }
+
+    public void setRequired(double required) {
+        this.required = required;
+    }
+
+    public double getAchieved() {
+        return achieved;
+    }
+
+    public void setAchieved(double achieved) {
+        this.achieved = achieved;
+    }
+
+    public List<String> getMissingCourses() {
+        return missingCourses;
+    }
+
+    public void setMissingCourses(List<String> missingCourses) {
+        this.missingCourses = missingCourses;
+    }
+}
@@ -0,0 +1,52 @@
+package com.university.fms.dto.response;
+
+// Live counts for the dashboard, either across the university or for one department
+public class StatCounts {
+    private long faculty;
+    private long courses;
+    private long publications;
+    private long enrollments;
+
+    // Constructors
+    public StatCounts() {}
+
+    public StatCounts(long faculty, long courses, long publications, long enrollments) {
+        this.faculty = faculty;
+        this.courses = courses;
+        this.publications = publications;
+        this.enrollments = enrollments;
+    }
+
+    // Getters and Setters
+    public long getFaculty() {
+        return faculty;
+    }
+
+    public void setFaculty(long faculty) {
+        this.faculty = faculty;
+    }
+
+    public long getCourses() {
+        return courses;
+    }
+
+    public void setCourses(long courses) {
+        this.courses = courses;
+    }
+
+    public long getPublications() {
+        return publications;
+    }
+
+    public void setPublications(long publications) {
+        this.publications = publications;
+    }
+
+    public long getEnrollments() {
+        return enrollments;
+    }
+
+    public void setEnrollments(long enrollments) {
+        this.enrollments = enrollments;
+    }
+}
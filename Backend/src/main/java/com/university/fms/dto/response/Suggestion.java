@@ -0,0 +1,41 @@
+package com.university.fms.dto.response;
+
+public class Suggestion {
+    private String type;
+    private Long id;
+    private String label;
+
+    // Constructors
+    public Suggestion() {}
+
+    public Suggestion(String type, Long id, String label) {
+        this.type = type;
+        this.id = id;
+        this.label = label;
+    }
+
+    // Getters and Setters
+    public String getType() {
+        return type;
+    }
+
+    public void setType(String type) {
+        this.type = type;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+
+    public void setLabel(String label) {
+        this.label = label;
+    }
+}
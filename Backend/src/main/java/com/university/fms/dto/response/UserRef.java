@@ -0,0 +1,45 @@
+package com.university.fms.dto.response;
+
+public class UserRef {
+    private Long id;
+    private String username;
+    private String email;
+
+    // Constructors
+    public UserRef() {}
+
+    public UserRef(Long id, String username, String email) {
+        this.id = id;
+        this.username = username;
+        this.email = email;
+    }
+
+    public static UserRef of(Long id, String username, String email) {
+        return id != null ? new UserRef(id, username, email) : null;
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    public void setUsername(String username) {
+        this.username = username;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public void setEmail(String email) {
+        this.email = email;
+    }
+}
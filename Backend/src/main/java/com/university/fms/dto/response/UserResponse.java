@@ -0,0 +1,85 @@
+package com.university.fms.dto.response;
+
+import com.university.fms.entity.User;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+public class UserResponse {
+    private Long id;
+    private String username;
+    private String email;
+    private List<NamedRef> roles;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+
+    // Constructors
+    public UserResponse() {}
+
+    // Used by JPQL constructor expressions in UserRepository; roles are attached by a second query
+    public UserResponse(Long id, String username, String email, LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this.id = id;
+        this.username = username;
+        this.email = email;
+        this.roles = new ArrayList<>();
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+    }
+
+    public static UserResponse from(User user) {
+        UserResponse response = new UserResponse(user.getId(), user.getUsername(), user.getEmail(),
+                user.getCreatedAt(), user.getUpdatedAt());
+        user.getRoles().forEach(role -> response.getRoles().add(new NamedRef(role.getId(), role.getName())));
+        return response;
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    public void setUsername(String username) {
+        this.username = username;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public void setEmail(String email) {
+        this.email = email;
+    }
+
+    public List<NamedRef> getRoles() {
+        return roles;
+    }
+
+    public void setRoles(List<NamedRef> roles) {
+        this.roles = roles;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+}
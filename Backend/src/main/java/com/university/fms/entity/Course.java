@@ -1,21 +1,30 @@
 package com.university.fms.entity;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.university.fms.search.IndexedEntityListener;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
 import jakarta.validation.constraints.Size;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalDateTime;
 import java.util.HashSet;
 import java.util.Set;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "courses")
+@EntityListeners(IndexedEntityListener.class)
 @Table(name = "courses")
 public class Course {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "course_ids")
+    @TableGenerator(name = "course_ids", table = IdSequences.TABLE, pkColumnName = IdSequences.NAME_COLUMN,
+            valueColumnName = IdSequences.VALUE_COLUMN, pkColumnValue = "courses",
+            allocationSize = IdSequences.ALLOCATION_SIZE)
     private Long id;
 
     @NotBlank
@@ -34,6 +43,10 @@ public class Course {
     @Positive
     private Integer credits;
 
+    // Seats per section (semester and year); null means unlimited
+    @Positive
+    private Integer capacity;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "department_id")
     private Department department;
@@ -48,10 +61,24 @@ public class Course {
     @JsonIgnore
     private Set<FacultyProfile> facultyProfiles = new HashSet<>();
 
+    // Courses that must be completed first; edges are checked for cycles by PrerequisiteGraph
+    @ManyToMany(fetch = FetchType.LAZY)
+    @JoinTable(
+        name = "course_prerequisites",
+        joinColumns = @JoinColumn(name = "course_id"),
+        inverseJoinColumns = @JoinColumn(name = "prerequisite_id")
+    )
+    @JsonIgnore
+    private Set<Course> prerequisites = new HashSet<>();
+
     @OneToMany(mappedBy = "course", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     @JsonIgnore
     private Set<StudentEnrollment> enrollments = new HashSet<>();
 
+    @OneToMany(mappedBy = "course", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
+    @JsonIgnore
+    private Set<WaitlistEntry> waitlist = new HashSet<>();
+
     @PrePersist
     protected void onCreate() {
         createdAt = LocalDateTime.now();
@@ -115,6 +142,14 @@ public class Course {
         this.credits = credits;
     }
 
+    public Integer getCapacity() {
+        return capacity;
+    }
+
+    public void setCapacity(Integer capacity) {
+        this.capacity = capacity;
+    }
+
     public Department getDepartment() {
         return department;
     }
@@ -147,6 +182,14 @@ public class Course {
         this.facultyProfiles = facultyProfiles;
     }
 
+    public Set<Course> getPrerequisites() {
+        return prerequisites;
+    }
+
+    public void setPrerequisites(Set<Course> prerequisites) {
+        this.prerequisites = prerequisites;
+    }
+
     public Set<StudentEnrollment> getEnrollments() {
         return enrollments;
     }
@@ -154,4 +197,12 @@ public class Course {
     public void setEnrollments(Set<StudentEnrollment> enrollments) {
         this.enrollments = enrollments;
     }
+
+    public Set<WaitlistEntry> getWaitlist() {
+        return waitlist;
+    }
+
+    public void setWaitlist(Set<WaitlistEntry> waitlist) {
+        this.waitlist = waitlist;
+    }
 }
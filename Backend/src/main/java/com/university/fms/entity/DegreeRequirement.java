@@ -0,0 +1,154 @@
+package com.university.fms.entity;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+
+import java.util.HashSet;
+import java.util.Set;
+
+// One rule of a degree program. Which of the optional columns apply depends on the type; credits and
+// courses only count once a passing grade is recorded, and a retaken course counts once.
+@Entity
+@Table(name = "degree_requirements")
+public class DegreeRequirement {
+
+    public enum Type {
+        TOTAL_CREDITS,       // minCredits earned overall
+        DEPARTMENT_CREDITS,  // minCredits earned in courses of the department
+        REQUIRED_COURSES,    // every one of the courses passed
+        ELECTIVE_POOL,       // minCourses of the courses passed, or minCredits earned in them
+        MIN_GPA              // cumulative GPA of at least minGpa
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "degree_requirement_ids")
+    @TableGenerator(name = "degree_requirement_ids", table = IdSequences.TABLE, pkColumnName = IdSequences.NAME_COLUMN,
+            valueColumnName = IdSequences.VALUE_COLUMN, pkColumnValue = "degree_requirements",
+            allocationSize = IdSequences.ALLOCATION_SIZE)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "program_id", nullable = false)
+    @JsonIgnore
+    private DegreeProgram program;
+
+    @NotBlank
+    @Size(max = 255)
+    private String name;
+
+    @NotNull
+    @Enumerated(EnumType.STRING)
+    @Column(length = 30)
+    private Type type;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "department_id")
+    private Department department;
+
+    @Positive
+    @Column(name = "min_credits")
+    private Integer minCredits;
+
+    @Positive
+    @Column(name = "min_courses")
+    private Integer minCourses;
+
+    @Positive
+    @Column(name = "min_gpa")
+    private Double minGpa;
+
+    @ManyToMany(fetch = FetchType.LAZY)
+    @JoinTable(
+        name = "degree_requirement_courses",
+        joinColumns = @JoinColumn(name = "requirement_id"),
+        inverseJoinColumns = @JoinColumn(name = "course_id")
+    )
+    @JsonIgnore
+    private Set<Course> courses = new HashSet<>();
+
+    // Constructors
+    public DegreeRequirement() {}
+
+    public DegreeRequirement(DegreeProgram program, String name, Type type) {
+        this.program = program;
+        this.name = name;
+        this.type = type;
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public DegreeProgram getProgram() {
+        return program;
+    }
+
+    public void setProgram(DegreeProgram program) {
+        this.program = program;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public void setType(Type type) {
+        this.type = type;
+    }
+
+    public Department getDepartment() {
+        return department;
+    }
+
+    public void setDepartment(Department department) {
+        this.department = department;
+    }
+
+    public Integer getMinCredits() {
+        return minCredits;
+    }
+
+    public void setMinCredits(Integer minCredits) {
+        this.minCredits = minCredits;
+    }
+
+    public Integer getMinCourses() {
+        return minCourses;
+    }
+
+    public void setMinCourses(Integer minCourses) {
+        this.minCourses = minCourses;
+    }
+
+    public Double getMinGpa() {
+        return minGpa;
+    }
+
+    public void setMinGpa(Double minGpa) {
+        this.minGpa = minGpa;
+    }
+
+    public Set<Course> getCourses() {
+        return courses;
+    }
+
+    public void setCourses(Set<Course> courses) {
+        this.courses = courses;
+    }
+}
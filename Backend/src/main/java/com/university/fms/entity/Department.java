@@ -1,19 +1,28 @@
 package com.university.fms.entity;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.university.fms.search.IndexedEntityListener;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalDateTime;
 import java.util.HashSet;
 import java.util.Set;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "departments")
+@EntityListeners(IndexedEntityListener.class)
 @Table(name = "departments")
 public class Department {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "department_ids")
+    @TableGenerator(name = "department_ids", table = IdSequences.TABLE, pkColumnName = IdSequences.NAME_COLUMN,
+            valueColumnName = IdSequences.VALUE_COLUMN, pkColumnValue = "departments",
+            allocationSize = IdSequences.ALLOCATION_SIZE)
     private Long id;
 
     @NotBlank
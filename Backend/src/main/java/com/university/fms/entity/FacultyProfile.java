@@ -1,6 +1,7 @@
 package com.university.fms.entity;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.university.fms.search.IndexedEntityListener;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
@@ -11,10 +12,14 @@ import java.util.HashSet;
 import java.util.Set;
 
 @Entity
+@EntityListeners(IndexedEntityListener.class)
 @Table(name = "faculty_profiles")
 public class FacultyProfile {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "faculty_profile_ids")
+    @TableGenerator(name = "faculty_profile_ids", table = IdSequences.TABLE, pkColumnName = IdSequences.NAME_COLUMN,
+            valueColumnName = IdSequences.VALUE_COLUMN, pkColumnValue = "faculty_profiles",
+            allocationSize = IdSequences.ALLOCATION_SIZE)
     private Long id;
 
     @OneToOne(fetch = FetchType.LAZY)
@@ -0,0 +1,18 @@
+package com.university.fms.entity;
+
+import java.util.List;
+
+// Shared settings of the table-backed pooled id generator; ids are reserved in blocks so inserts can be batched
+public final class IdSequences {
+    public static final String TABLE = "id_sequences";
+    public static final String NAME_COLUMN = "sequence_name";
+    public static final String VALUE_COLUMN = "next_val";
+    public static final int ALLOCATION_SIZE = 50;
+
+    // One sequence row per entity table, named after the table
+    public static final List<String> TABLES = List.of(
+            "users", "roles", "departments", "courses", "faculty_profiles", "publications", "course_waitlist",
+            "degree_programs", "degree_requirements");
+
+    private IdSequences() {}
+}
@@ -4,13 +4,14 @@ import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
+import org.springframework.data.domain.Persistable;
 
 import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "student_enrollments")
 @IdClass(StudentEnrollmentId.class)
-public class StudentEnrollment {
+public class StudentEnrollment implements Persistable<StudentEnrollmentId> {
     @Id
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "student_id")
@@ -36,11 +37,33 @@ public class StudentEnrollment {
     @Size(max = 5)
     private String grade;
 
+    // The key is assigned, not generated, so without this flag saveAll would merge (one SELECT per row)
+    // instead of persisting, and the inserts could not be batched
+    @Transient
+    private boolean newEnrollment = true;
+
     @PrePersist
     protected void onCreate() {
         enrollmentDate = LocalDateTime.now();
     }
 
+    @PostLoad
+    @PostPersist
+    protected void markNotNew() {
+        newEnrollment = false;
+    }
+
+    @Override
+    public StudentEnrollmentId getId() {
+        return new StudentEnrollmentId(student != null ? student.getId() : null,
+                course != null ? course.getId() : null, semester, year);
+    }
+
+    @Override
+    public boolean isNew() {
+        return newEnrollment;
+    }
+
     // Constructors
     public StudentEnrollment() {}
 
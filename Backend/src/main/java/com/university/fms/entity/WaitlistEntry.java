@@ -0,0 +1,104 @@
+package com.university.fms.entity;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.time.LocalDateTime;
+
+// A student queued for a full course section; promoted in (createdAt, id) order when a seat frees up
+@Entity
+@Table(name = "course_waitlist",
+       uniqueConstraints = @UniqueConstraint(columnNames = {"student_id", "course_id", "semester", "year"}),
+       indexes = @Index(name = "idx_waitlist_section", columnList = "course_id, semester, year, created_at"))
+public class WaitlistEntry {
+    @Id
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "waitlist_ids")
+    @TableGenerator(name = "waitlist_ids", table = IdSequences.TABLE, pkColumnName = IdSequences.NAME_COLUMN,
+            valueColumnName = IdSequences.VALUE_COLUMN, pkColumnValue = "course_waitlist",
+            allocationSize = IdSequences.ALLOCATION_SIZE)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "student_id", nullable = false)
+    private User student;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "course_id", nullable = false)
+    private Course course;
+
+    @NotBlank
+    @Size(max = 20)
+    private String semester;
+
+    @NotNull
+    private Integer year;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+    }
+
+    // Constructors
+    public WaitlistEntry() {}
+
+    public WaitlistEntry(User student, Course course, String semester, Integer year) {
+        this.student = student;
+        this.course = course;
+        this.semester = semester;
+        this.year = year;
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public User getStudent() {
+        return student;
+    }
+
+    public void setStudent(User student) {
+        this.student = student;
+    }
+
+    public Course getCourse() {
+        return course;
+    }
+
+    public void setCourse(Course course) {
+        this.course = course;
+    }
+
+    public String getSemester() {
+        return semester;
+    }
+
+    public void setSemester(String semester) {
+        this.semester = semester;
+    }
+
+    public Integer getYear() {
+        return year;
+    }
+
+    public void setYear(Integer year) {
+        this.year = year;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+}
@@ -1,26 +1,91 @@
 package com.university.fms.repository;
 
+import com.university.fms.dto.response.CourseResponse;
+import com.university.fms.dto.response.CourseSummary;
 import com.university.fms.entity.Course;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface CourseRepository extends JpaRepository<Course, Long> {
+    // Detail view: exactly the columns CourseResponse exposes, associated names included, in one statement
+    String RESPONSE = "SELECT new com.university.fms.dto.response.CourseResponse(" +
+            "c.id, c.name, c.code, c.description, c.credits, c.capacity, d.id, d.name, c.createdAt, c.updatedAt) " +
+            "FROM Course c LEFT JOIN c.department d";
+
+    // Collection views leave out the TEXT description; only the detail query reads it
+    String SUMMARY = "SELECT new com.university.fms.dto.response.CourseSummary(" +
+            "c.id, c.name, c.code, c.credits, c.capacity, d.id, d.name, c.createdAt, c.updatedAt) " +
+            "FROM Course c LEFT JOIN c.department d";
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<Course> findByCode(String code);
-    List<Course> findByDepartmentId(Long departmentId);
     Boolean existsByCode(String code);
-    
-    @Query("SELECT c FROM Course c WHERE " +
+
+    @Query("SELECT c.code FROM Course c WHERE c.code IN :codes")
+    List<String> findExistingCodes(@Param("codes") Collection<String> codes);
+
+    @Query(SUMMARY + " ORDER BY c.id")
+    List<CourseSummary> findAllSummaries();
+
+    @Query(RESPONSE + " WHERE c.id = :id")
+    Optional<CourseResponse> findResponseById(@Param("id") Long id);
+
+    @Query(SUMMARY + " WHERE c.id IN :ids")
+    List<CourseSummary> findSummariesByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query(SUMMARY + " WHERE d.id = :departmentId ORDER BY c.id")
+    List<CourseSummary> findSummariesByDepartmentId(@Param("departmentId") Long departmentId);
+
+    @Query(SUMMARY + " JOIN c.facultyProfiles f WHERE f.id = :facultyId ORDER BY c.id")
+    List<CourseSummary> findSummariesByFacultyId(@Param("facultyId") Long facultyId);
+
+    @Query(SUMMARY + " WHERE " +
            "LOWER(c.name) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
            "LOWER(c.code) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
            "LOWER(c.description) LIKE LOWER(CONCAT('%', :keyword, '%'))")
-    List<Course> searchByKeyword(@Param("keyword") String keyword);
-    
-    @Query("SELECT c FROM Course c JOIN c.facultyProfiles f WHERE f.id = :facultyId")
-    List<Course> findByFacultyId(@Param("facultyId") Long facultyId);
+    List<CourseSummary> searchByKeyword(@Param("keyword") String keyword);
+
+    @Query(SUMMARY + " WHERE c.id > :after ORDER BY c.id")
+    List<CourseSummary> findSummariesAfter(@Param("after") Long after, Pageable pageable);
+
+    @Query(SUMMARY + " WHERE d.id = :departmentId AND c.id > :after ORDER BY c.id")
+    List<CourseSummary> findSummariesByDepartmentIdAfter(@Param("departmentId") Long departmentId,
+                                                         @Param("after") Long after, Pageable pageable);
+
+    @Query(SUMMARY + " WHERE c.id IN (SELECT p.id FROM Course x JOIN x.prerequisites p WHERE x.id = :courseId) " +
+           "ORDER BY c.code")
+    List<CourseSummary> findPrerequisiteSummaries(@Param("courseId") Long courseId);
+
+    @Query("SELECT c.id, p.id FROM Course c JOIN c.prerequisites p")
+    List<Object[]> findPrerequisiteEdges();
+
+    // Courses listing any of the given courses as a prerequisite
+    @Query("SELECT DISTINCT c FROM Course c JOIN c.prerequisites p WHERE p.id IN :courseIds")
+    List<Course> findDependentsOf(@Param("courseIds") Collection<Long> courseIds);
+
+    @Query("SELECT c.code FROM Course c WHERE c.id IN :ids ORDER BY c.code")
+    List<String> findCodesByIdIn(@Param("ids") Collection<Long> ids);
+
+    long countByDepartmentId(Long departmentId);
+
+    @Query("SELECT d.id, COUNT(c) FROM Course c LEFT JOIN c.department d GROUP BY d.id")
+    List<Object[]> countGroupedByDepartmentId();
+
+    @Query(SUMMARY + " JOIN c.facultyProfiles f WHERE f.id = :facultyId AND c.id > :after ORDER BY c.id")
+    List<CourseSummary> findSummariesByFacultyIdAfter(@Param("facultyId") Long facultyId,
+                                                      @Param("after") Long after, Pageable pageable);
+
+    @Query("SELECT COUNT(c) FROM Course c JOIN c.facultyProfiles f WHERE f.id = :facultyId")
+    long countByFacultyId(@Param("facultyId") Long facultyId);
 }
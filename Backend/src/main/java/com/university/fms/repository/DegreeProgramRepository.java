@@ -0,0 +1,26 @@
+package com.university.fms.repository;
+
+import com.university.fms.entity.DegreeProgram;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface DegreeProgramRepository extends JpaRepository<DegreeProgram, Long> {
+    Optional<DegreeProgram> findByName(String name);
+    Boolean existsByName(String name);
+
+    List<DegreeProgram> findAllByOrderByNameAsc();
+
+    // Programs that would lose a requirement if the department or courses were deleted
+    @Query("SELECT DISTINCT p.name FROM DegreeRequirement r JOIN r.program p WHERE r.department.id = :departmentId")
+    List<String> findNamesByRequirementDepartmentId(@Param("departmentId") Long departmentId);
+
+    @Query("SELECT DISTINCT p.name FROM DegreeRequirement r JOIN r.program p JOIN r.courses c WHERE c.id IN :courseIds")
+    List<String> findNamesByRequirementCourseIdIn(@Param("courseIds") Collection<Long> courseIds);
+}
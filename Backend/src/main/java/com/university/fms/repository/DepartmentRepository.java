@@ -1,13 +1,25 @@
 package com.university.fms.repository;
 
 import com.university.fms.entity.Department;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface DepartmentRepository extends JpaRepository<Department, Long> {
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<Department> findByName(String name);
     Boolean existsByName(String name);
+
+    List<Department> findByIdGreaterThanOrderByIdAsc(Long after, Pageable pageable);
+
+    @Query("SELECT d.id, d.name FROM Department d")
+    List<Object[]> findAllNames();
 }
@@ -1,22 +1,75 @@
 package com.university.fms.repository;
 
+import com.university.fms.dto.response.FacultyProfileResponse;
+import com.university.fms.dto.response.FacultyProfileSummary;
 import com.university.fms.entity.FacultyProfile;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface FacultyProfileRepository extends JpaRepository<FacultyProfile, Long> {
-    Optional<FacultyProfile> findByUserId(Long userId);
-    List<FacultyProfile> findByDepartmentId(Long departmentId);
+    // Detail view: exactly the columns FacultyProfileResponse exposes, associated names included, in one statement
+    String RESPONSE = "SELECT new com.university.fms.dto.response.FacultyProfileResponse(" +
+            "f.id, u.id, u.username, u.email, f.firstName, f.lastName, f.bio, f.profilePictureUrl, " +
+            "d.id, d.name, f.phone, f.officeLocation, f.hireDate, f.createdAt, f.updatedAt) " +
+            "FROM FacultyProfile f LEFT JOIN f.user u LEFT JOIN f.department d";
+
+    // Collection views leave out the TEXT bio; only the detail queries read it
+    String SUMMARY = "SELECT new com.university.fms.dto.response.FacultyProfileSummary(" +
+            "f.id, u.id, u.username, u.email, f.firstName, f.lastName, f.profilePictureUrl, " +
+            "d.id, d.name, f.phone, f.officeLocation, f.hireDate, f.createdAt, f.updatedAt) " +
+            "FROM FacultyProfile f LEFT JOIN f.user u LEFT JOIN f.department d";
+
+    @Query(SUMMARY + " ORDER BY f.id")
+    List<FacultyProfileSummary> findAllSummaries();
+
+    @Query(RESPONSE + " WHERE f.id = :id")
+    Optional<FacultyProfileResponse> findResponseById(@Param("id") Long id);
+
+    @Query(RESPONSE + " WHERE u.id = :userId")
+    Optional<FacultyProfileResponse> findResponseByUserId(@Param("userId") Long userId);
+
+    @Query(SUMMARY + " WHERE f.id IN :ids")
+    List<FacultyProfileSummary> findSummariesByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query(SUMMARY + " WHERE d.id = :departmentId ORDER BY f.id")
+    List<FacultyProfileSummary> findSummariesByDepartmentId(@Param("departmentId") Long departmentId);
+
+    @Query(SUMMARY + " WHERE f.id > :after ORDER BY f.id")
+    List<FacultyProfileSummary> findSummariesAfter(@Param("after") Long after, Pageable pageable);
+
+    @Query(SUMMARY + " WHERE d.id = :departmentId AND f.id > :after ORDER BY f.id")
+    List<FacultyProfileSummary> findSummariesByDepartmentIdAfter(@Param("departmentId") Long departmentId,
+                                                                 @Param("after") Long after, Pageable pageable);
+
+    long countByDepartmentId(Long departmentId);
+
+    @Query("SELECT d.id, COUNT(f) FROM FacultyProfile f LEFT JOIN f.department d GROUP BY d.id")
+    List<Object[]> countGroupedByDepartmentId();
     
-    @Query("SELECT f FROM FacultyProfile f WHERE " +
+    @Query(SUMMARY + " WHERE " +
            "LOWER(f.firstName) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
            "LOWER(f.lastName) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
            "LOWER(f.bio) LIKE LOWER(CONCAT('%', :keyword, '%'))")
-    List<FacultyProfile> searchByKeyword(@Param("keyword") String keyword);
+    List<FacultyProfileSummary> searchByKeyword(@Param("keyword") String keyword);
+
+    @Query("SELECT f.id, u.id FROM FacultyProfile f LEFT JOIN f.user u")
+    List<Object[]> findAllOwnerIds();
+
+    @Query("SELECT u.id FROM FacultyProfile f JOIN f.user u WHERE u.id IN :userIds")
+    List<Long> findUserIdsWithProfile(@Param("userIds") Collection<Long> userIds);
+
+    @Query("SELECT u.id FROM FacultyProfile f JOIN f.user u WHERE f.id = :id")
+    Optional<Long> findOwnerIdById(@Param("id") Long id);
+
+    // Which of the courses the user teaches through their faculty profile
+    @Query("SELECT DISTINCT c.id FROM FacultyProfile f JOIN f.courses c WHERE f.user.id = :userId AND c.id IN :courseIds")
+    List<Long> findTaughtCourseIds(@Param("userId") Long userId, @Param("courseIds") Collection<Long> courseIds);
 }
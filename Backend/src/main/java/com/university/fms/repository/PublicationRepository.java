@@ -1,24 +1,67 @@
 package com.university.fms.repository;
 
+import com.university.fms.dto.response.PublicationResponse;
+import com.university.fms.dto.response.PublicationSummary;
 import com.university.fms.entity.Publication;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface PublicationRepository extends JpaRepository<Publication, Long> {
-    List<Publication> findByFacultyId(Long facultyId);
-    List<Publication> findByFacultyIdOrderByPublicationDateDesc(Long facultyId);
+    // Detail view: exactly the columns PublicationResponse exposes, associated names included, in one statement
+    String RESPONSE = "SELECT new com.university.fms.dto.response.PublicationResponse(" +
+            "p.id, f.id, f.firstName, f.lastName, p.title, p.publicationDate, p.journalName, p.url, " +
+            "p.abstractText, p.doi, p.createdAt, p.updatedAt) " +
+            "FROM Publication p LEFT JOIN p.faculty f";
+
+    // Collection views leave out the TEXT abstract; only the detail query reads it
+    String SUMMARY = "SELECT new com.university.fms.dto.response.PublicationSummary(" +
+            "p.id, f.id, f.firstName, f.lastName, p.title, p.publicationDate, p.journalName, p.url, " +
+            "p.doi, p.createdAt, p.updatedAt) " +
+            "FROM Publication p LEFT JOIN p.faculty f";
+
+    @Query(SUMMARY + " ORDER BY p.id")
+    List<PublicationSummary> findAllSummaries();
+
+    @Query(RESPONSE + " WHERE p.id = :id")
+    Optional<PublicationResponse> findResponseById(@Param("id") Long id);
+
+    @Query(SUMMARY + " WHERE p.id IN :ids")
+    List<PublicationSummary> findSummariesByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query(SUMMARY + " WHERE f.id = :facultyId ORDER BY p.publicationDate DESC")
+    List<PublicationSummary> findSummariesByFacultyId(@Param("facultyId") Long facultyId);
+
+    @Query(SUMMARY + " WHERE p.id > :after ORDER BY p.id")
+    List<PublicationSummary> findSummariesAfter(@Param("after") Long after, Pageable pageable);
+
+    @Query(SUMMARY + " WHERE f.id = :facultyId AND p.id > :after ORDER BY p.id")
+    List<PublicationSummary> findSummariesByFacultyIdAfter(@Param("facultyId") Long facultyId,
+                                                           @Param("after") Long after, Pageable pageable);
     
-    @Query("SELECT p FROM Publication p WHERE " +
+    @Query(SUMMARY + " WHERE " +
            "LOWER(p.title) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
            "LOWER(p.journalName) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
            "LOWER(p.abstractText) LIKE LOWER(CONCAT('%', :keyword, '%'))")
-    List<Publication> searchByKeyword(@Param("keyword") String keyword);
+    List<PublicationSummary> searchByKeyword(@Param("keyword") String keyword);
     
     @Query("SELECT COUNT(p) FROM Publication p WHERE p.faculty.id = :facultyId")
     Long countByFacultyId(@Param("facultyId") Long facultyId);
+
+    // Publications count towards their author's department
+    @Query("SELECT d.id, COUNT(p) FROM Publication p LEFT JOIN p.faculty f LEFT JOIN f.department d GROUP BY d.id")
+    List<Object[]> countGroupedByDepartmentId();
+
+    @Query("SELECT p.id, f.id FROM Publication p LEFT JOIN p.faculty f")
+    List<Object[]> findAllFacultyIds();
+
+    @Query("SELECT f.id FROM Publication p JOIN p.faculty f WHERE p.id = :id")
+    Optional<Long> findFacultyIdById(@Param("id") Long id);
 }
@@ -1,16 +1,38 @@
 package com.university.fms.repository;
 
+import com.university.fms.dto.response.EnrollmentResponse;
 import com.university.fms.entity.StudentEnrollment;
 import com.university.fms.entity.StudentEnrollmentId;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public interface StudentEnrollmentRepository extends JpaRepository<StudentEnrollment, StudentEnrollmentId> {
+    String RESPONSE = "SELECT new com.university.fms.dto.response.EnrollmentResponse(" +
+            "s.id, s.username, c.id, c.code, c.name, se.semester, se.year, se.enrollmentDate, se.grade) " +
+            "FROM StudentEnrollment se JOIN se.student s JOIN se.course c";
+
+    // Graded enrollments as student, course department, course credits, grade
+    String GRADES = "SELECT se.student.id, d.id, c.credits, se.grade " +
+            "FROM StudentEnrollment se JOIN se.course c LEFT JOIN c.department d WHERE se.grade IS NOT NULL";
+
+    // Graded enrollments as student, course, course department, course credits, grade
+    String AUDIT = "SELECT se.student.id, c.id, d.id, c.credits, se.grade " +
+            "FROM StudentEnrollment se JOIN se.course c LEFT JOIN c.department d WHERE se.grade IS NOT NULL";
+
     List<StudentEnrollment> findByStudentId(Long studentId);
     List<StudentEnrollment> findByCourseId(Long courseId);
     List<StudentEnrollment> findByStudentIdAndSemesterAndYear(Long studentId, String semester, Integer year);
@@ -21,4 +43,73 @@ public interface StudentEnrollmentRepository extends JpaRepository<StudentEnroll
     
     @Query("SELECT COUNT(se) FROM StudentEnrollment se WHERE se.student.id = :studentId")
     Long countByStudentId(@Param("studentId") Long studentId);
+
+    // Enrollments count towards the course's department
+    @Query("SELECT d.id, COUNT(se) FROM StudentEnrollment se JOIN se.course c LEFT JOIN c.department d GROUP BY d.id")
+    List<Object[]> countGroupedByDepartmentId();
+
+    // Finest grain of the enrollment report cube
+    @Query("SELECT c.id, c.code, d.id, se.semester, se.year, se.grade, COUNT(se) FROM StudentEnrollment se " +
+           "JOIN se.course c LEFT JOIN c.department d GROUP BY c.id, c.code, d.id, se.semester, se.year, se.grade")
+    List<Object[]> countReportCells();
+
+    @Query(GRADES + " AND se.student.id BETWEEN :fromId AND :toId")
+    List<Object[]> findGradesByStudentIdBetween(@Param("fromId") Long fromId, @Param("toId") Long toId);
+
+    @Query(GRADES + " AND se.student.id IN :studentIds")
+    List<Object[]> findGradesByStudentIdIn(@Param("studentIds") Collection<Long> studentIds);
+
+    @Query("SELECT se.student.id, se.grade FROM StudentEnrollment se WHERE se.course.id = :courseId AND se.grade IS NOT NULL")
+    List<Object[]> findGradesByCourseId(@Param("courseId") Long courseId);
+
+    @Query("SELECT se.course.id, se.grade FROM StudentEnrollment se WHERE se.student.id = :studentId AND se.grade IS NOT NULL")
+    List<Object[]> findGradedCourseIdsByStudentId(@Param("studentId") Long studentId);
+
+    @Query("SELECT MIN(se.student.id) FROM StudentEnrollment se WHERE se.grade IS NOT NULL")
+    Long findMinGradedStudentId();
+
+    @Query("SELECT MAX(se.student.id) FROM StudentEnrollment se WHERE se.grade IS NOT NULL")
+    Long findMaxGradedStudentId();
+
+    long countByCourseIdAndSemesterAndYear(Long courseId, String semester, Integer year);
+
+    @Query("SELECT se.course.id, se.semester, se.year, COUNT(se) FROM StudentEnrollment se " +
+           "WHERE se.course.id IN :courseIds GROUP BY se.course.id, se.semester, se.year")
+    List<Object[]> countSectionsByCourseIdIn(@Param("courseIds") Collection<Long> courseIds);
+
+    @Query(value = RESPONSE + " WHERE s.id = :studentId",
+           countQuery = "SELECT COUNT(se) FROM StudentEnrollment se WHERE se.student.id = :studentId")
+    Page<EnrollmentResponse> findResponsesByStudentId(@Param("studentId") Long studentId, Pageable pageable);
+
+    @Query(value = RESPONSE + " WHERE c.id = :courseId " +
+                   "AND (:semester IS NULL OR se.semester = :semester) AND (:year IS NULL OR se.year = :year)",
+           countQuery = "SELECT COUNT(se) FROM StudentEnrollment se WHERE se.course.id = :courseId " +
+                        "AND (:semester IS NULL OR se.semester = :semester) AND (:year IS NULL OR se.year = :year)")
+    Page<EnrollmentResponse> findResponsesByCourseId(@Param("courseId") Long courseId, @Param("semester") String semester,
+                                                     @Param("year") Integer year, Pageable pageable);
+
+    @Query("SELECT se.student.id, se.course.id, se.semester, se.year FROM StudentEnrollment se " +
+           "WHERE se.student.id IN :studentIds AND se.course.id IN :courseIds")
+    List<Object[]> findKeys(@Param("studentIds") Collection<Long> studentIds,
+                            @Param("courseIds") Collection<Long> courseIds);
+
+    // Superset of the rows a batch touches, caller filters by full key; rows come back in primary key
+    // order so concurrent batches take their row locks in the same sequence
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT se FROM StudentEnrollment se WHERE se.student.id IN :studentIds AND se.course.id IN :courseIds " +
+           "ORDER BY se.student.id, se.course.id, se.semester, se.year")
+    List<StudentEnrollment> findForUpdate(@Param("studentIds") Collection<Long> studentIds,
+                                          @Param("courseIds") Collection<Long> courseIds);
+
+    // A fetch size of Integer.MIN_VALUE makes MySQL Connector/J stream rows instead of buffering the result;
+    // the connection serves nothing else until the stream is closed
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "-2147483648"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")})
+    @Query(AUDIT + " ORDER BY se.student.id")
+    Stream<Object[]> streamAuditRows();
+
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "-2147483648"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")})
+    @Query(AUDIT + " AND se.student.id IN :studentIds ORDER BY se.student.id")
+    Stream<Object[]> streamAuditRowsByStudentIdIn(@Param("studentIds") Collection<Long> studentIds);
 }
@@ -1,21 +1,55 @@
 package com.university.fms.repository;
 
+import com.university.fms.dto.response.UserResponse;
 import com.university.fms.entity.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
+    // Roles are a collection and cannot be part of a constructor expression; see findRoleRefsByUserIdIn
+    String RESPONSE = "SELECT new com.university.fms.dto.response.UserResponse(" +
+            "u.id, u.username, u.email, u.createdAt, u.updatedAt) FROM User u";
+
     Optional<User> findByUsername(String username);
     Optional<User> findByEmail(String email);
     Boolean existsByUsername(String username);
     Boolean existsByEmail(String email);
     
-    @Query("SELECT u FROM User u JOIN u.roles r WHERE r.name = :roleName")
-    List<User> findByRoleName(@Param("roleName") String roleName);
+    @Query(RESPONSE + " ORDER BY u.id")
+    List<UserResponse> findAllResponses();
+
+    @Query(RESPONSE + " WHERE u.id = :id")
+    Optional<UserResponse> findResponseById(@Param("id") Long id);
+
+    @Query(RESPONSE + " JOIN u.roles r WHERE r.name = :roleName ORDER BY u.id")
+    List<UserResponse> findResponsesByRoleName(@Param("roleName") String roleName);
+
+    @Query(RESPONSE + " WHERE u.id > :after ORDER BY u.id")
+    List<UserResponse> findResponsesAfter(@Param("after") Long after, Pageable pageable);
+
+    @Query(RESPONSE + " JOIN u.roles r WHERE r.name = :roleName AND u.id > :after ORDER BY u.id")
+    List<UserResponse> findResponsesByRoleNameAfter(@Param("roleName") String roleName, @Param("after") Long after, Pageable pageable);
+
+    @Query("SELECT u.id, r.id, r.name FROM User u JOIN u.roles r WHERE u.id IN :ids")
+    List<Object[]> findRoleRefsByUserIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT u.id FROM User u JOIN u.roles r WHERE r.name = :roleName AND u.id IN :ids")
+    List<Long> findIdsByRoleNameAndIdIn(@Param("roleName") String roleName, @Param("ids") Collection<Long> ids);
+
+    @Query("SELECT COUNT(u) FROM User u JOIN u.roles r WHERE r.name = :roleName")
+    long countByRoleName(@Param("roleName") String roleName);
+
+    @Query("SELECT u.id, u.username FROM User u WHERE u.id IN :ids")
+    List<Object[]> findUsernamesByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT u.tokenVersion FROM User u WHERE u.id = :id")
+    Optional<Integer> findTokenVersionById(@Param("id") Long id);
 }
@@ -0,0 +1,47 @@
+package com.university.fms.repository;
+
+import com.university.fms.entity.WaitlistEntry;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface WaitlistEntryRepository extends JpaRepository<WaitlistEntry, Long> {
+    Optional<WaitlistEntry> findByStudentIdAndCourseIdAndSemesterAndYear(Long studentId, Long courseId,
+                                                                         String semester, Integer year);
+
+    boolean existsByCourseIdAndSemesterAndYear(Long courseId, String semester, Integer year);
+
+    @Query("SELECT w.student.id, w.course.id, w.semester, w.year FROM WaitlistEntry w " +
+           "WHERE w.student.id IN :studentIds AND w.course.id IN :courseIds")
+    List<Object[]> findKeys(@Param("studentIds") Collection<Long> studentIds,
+                            @Param("courseIds") Collection<Long> courseIds);
+
+    // Front of the queue, locked so concurrent promoters of the same section take turns
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT w FROM WaitlistEntry w WHERE w.course.id = :courseId AND w.semester = :semester AND w.year = :year " +
+           "ORDER BY w.createdAt, w.id")
+    List<WaitlistEntry> findHeadForUpdate(@Param("courseId") Long courseId, @Param("semester") String semester,
+                                          @Param("year") Integer year, Pageable pageable);
+
+    // 1-based place in the queue
+    @Query("SELECT COUNT(w) + 1 FROM WaitlistEntry w WHERE w.course.id = :courseId AND w.semester = :semester " +
+           "AND w.year = :year AND (w.createdAt < :createdAt OR (w.createdAt = :createdAt AND w.id < :id))")
+    long findPosition(@Param("courseId") Long courseId, @Param("semester") String semester, @Param("year") Integer year,
+                      @Param("createdAt") LocalDateTime createdAt, @Param("id") Long id);
+
+    @Query("SELECT DISTINCT w.course.id, w.semester, w.year FROM WaitlistEntry w")
+    List<Object[]> findWaitingSections();
+
+    @Query("SELECT DISTINCT w.course.id, w.semester, w.year FROM WaitlistEntry w WHERE w.course.id = :courseId")
+    List<Object[]> findWaitingSectionsByCourseId(@Param("courseId") Long courseId);
+}
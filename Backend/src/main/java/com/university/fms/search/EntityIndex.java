@@ -0,0 +1,9 @@
+package com.university.fms.search;
+
+// In-memory structure kept in step with entity writes by IndexedEntityListener
+public interface EntityIndex {
+
+    void onSaved(Object entity);
+
+    void onRemoved(Object entity);
+}
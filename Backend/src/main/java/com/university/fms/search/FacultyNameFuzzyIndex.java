@@ -0,0 +1,131 @@
+package com.university.fms.search;
+
+import com.university.fms.entity.FacultyProfile;
+import com.university.fms.repository.FacultyProfileRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// Typo-tolerant lookup over faculty first and last names, so "Srinivasn" still finds "Srinivasan"
+@Component
+public class FacultyNameFuzzyIndex implements EntityIndex {
+
+    @Autowired
+    private FacultyProfileRepository facultyProfileRepository;
+
+    private BkTree tree = new BkTree();
+    private final Map<String, Set<Long>> termOwners = new HashMap<>();
+    private final Map<Long, List<String>> profileTerms = new HashMap<>();
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        lock.writeLock().lock();
+        try {
+            tree = new BkTree();
+            termOwners.clear();
+            profileTerms.clear();
+            facultyProfileRepository.findAll().forEach(this::indexLocked);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Ranked faculty profile ids; each query word contributes its closest name match, scaled by edit distance
+    public List<Long> search(String query, int maxDistance, int limit) {
+        List<String> queryTerms = TextAnalyzer.tokenize(query);
+        Map<Long, Double> scores = new HashMap<>();
+
+        lock.readLock().lock();
+        try {
+            for (String queryTerm : queryTerms) {
+                // Short words tolerate fewer edits, otherwise "li" would match every two-letter name
+                int allowed = Math.min(maxDistance, Math.max(1, queryTerm.length() / 4));
+                Map<Long, Double> best = new HashMap<>();
+                for (BkTree.Match match : tree.search(queryTerm, allowed)) {
+                    Set<Long> owners = termOwners.get(match.getTerm());
+                    if (owners == null) {
+                        continue;
+                    }
+                    int length = Math.max(queryTerm.length(), match.getTerm().length());
+                    double score = 1.0 - (double) match.getDistance() / (length + 1);
+                    for (Long owner : owners) {
+                        best.merge(owner, score, Math::max);
+                    }
+                }
+                best.forEach((owner, score) -> scores.merge(owner, score, Double::sum));
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        return scores.entrySet().stream()
+                .sorted(Map.Entry.<Long, Double>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey()))
+                .limit(limit)
+                .map(Map.Entry::getKey)
+                .toList();
+    }
+
+    @Override
+    public void onSaved(Object entity) {
+        if (entity instanceof FacultyProfile facultyProfile) {
+            lock.writeLock().lock();
+            try {
+                removeLocked(facultyProfile.getId());
+                indexLocked(facultyProfile);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    @Override
+    public void onRemoved(Object entity) {
+        if (entity instanceof FacultyProfile facultyProfile) {
+            lock.writeLock().lock();
+            try {
+                removeLocked(facultyProfile.getId());
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    private void indexLocked(FacultyProfile facultyProfile) {
+        List<String> terms = TextAnalyzer.tokenize(facultyProfile.getFirstName(), facultyProfile.getLastName());
+        for (String term : terms) {
+            termOwners.computeIfAbsent(term, t -> new HashSet<>()).add(facultyProfile.getId());
+            tree.add(term);
+        }
+        profileTerms.put(facultyProfile.getId(), terms);
+    }
+
+    private void removeLocked(Long id) {
+        List<String> terms = profileTerms.remove(id);
+        if (terms == null) {
+            return;
+        }
+        for (String term : terms) {
+            Set<Long> owners = termOwners.get(term);
+            if (owners != null) {
+                owners.remove(id);
+                if (owners.isEmpty()) {
+                    termOwners.remove(term);
+                }
+            }
+        }
+
+        // BK-trees cannot drop nodes, so rebuild once dead terms outnumber live ones
+        if (tree.size() > 2 * termOwners.size() + 64) {
+            BkTree compacted = new BkTree();
+            termOwners.keySet().forEach(compacted::add);
+            tree = compacted;
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.university.fms.search;
+
+import com.university.fms.entity.Course;
+import com.university.fms.entity.FacultyProfile;
+import com.university.fms.entity.Publication;
+import com.university.fms.repository.CourseRepository;
+import com.university.fms.repository.FacultyProfileRepository;
+import com.university.fms.repository.PublicationRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+// Serves the /search endpoints instead of LIKE '%kw%' scans over the TEXT columns
+@Component
+public class FullTextSearchIndex implements EntityIndex {
+    private static final Logger logger = LoggerFactory.getLogger(FullTextSearchIndex.class);
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private FacultyProfileRepository facultyProfileRepository;
+
+    @Autowired
+    private PublicationRepository publicationRepository;
+
+    private final InvertedIndex courses = new InvertedIndex();
+    private final InvertedIndex facultyProfiles = new InvertedIndex();
+    private final InvertedIndex publications = new InvertedIndex();
+
+    private volatile boolean ready;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+        courses.clear();
+        facultyProfiles.clear();
+        publications.clear();
+
+        courseRepository.findAll().forEach(this::indexCourse);
+        facultyProfileRepository.findAll().forEach(this::indexFacultyProfile);
+        publicationRepository.findAll().forEach(this::indexPublication);
+
+        ready = true;
+        logger.info("Search index built in {} ms ({} courses, {} faculty profiles, {} publications)",
+                System.currentTimeMillis() - start, courses.size(), facultyProfiles.size(), publications.size());
+    }
+
+    // Until the startup build finishes, callers fall back to the repository queries
+    public boolean isReady() {
+        return ready;
+    }
+
+    public List<Long> searchCourses(String keyword, int limit) {
+        return courses.search(keyword, limit);
+    }
+
+    public List<Long> searchFacultyProfiles(String keyword, int limit) {
+        return facultyProfiles.search(keyword, limit);
+    }
+
+    public List<Long> searchPublications(String keyword, int limit) {
+        return publications.search(keyword, limit);
+    }
+
+    @Override
+    public void onSaved(Object entity) {
+        if (entity instanceof Course course) {
+            indexCourse(course);
+        } else if (entity instanceof FacultyProfile facultyProfile) {
+            indexFacultyProfile(facultyProfile);
+        } else if (entity instanceof Publication publication) {
+            indexPublication(publication);
+        }
+    }
+
+    @Override
+    public void onRemoved(Object entity) {
+        if (entity instanceof Course course) {
+            courses.remove(course.getId());
+        } else if (entity instanceof FacultyProfile facultyProfile) {
+            facultyProfiles.remove(facultyProfile.getId());
+        } else if (entity instanceof Publication publication) {
+            publications.remove(publication.getId());
+        }
+    }
+
+    private void indexCourse(Course course) {
+        courses.index(course.getId(), course.getName(), course.getCode(), course.getDescription());
+    }
+
+    private void indexFacultyProfile(FacultyProfile facultyProfile) {
+        facultyProfiles.index(facultyProfile.getId(), facultyProfile.getFirstName(), facultyProfile.getLastName(),
+                facultyProfile.getBio());
+    }
+
+    private void indexPublication(Publication publication) {
+        publications.index(publication.getId(), publication.getTitle(), publication.getJournalName(),
+                publication.getAbstractText());
+    }
+}
@@ -0,0 +1,28 @@
+package com.university.fms.search;
+
+import com.university.fms.util.TransactionUtils;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+// Registered on entities with @EntityListeners; changes reach the indexes only once the transaction commits
+@Component
+public class IndexedEntityListener {
+
+    @Autowired
+    private ObjectProvider<EntityIndex> indexes;
+
+    @PostPersist
+    @PostUpdate
+    public void afterSave(Object entity) {
+        TransactionUtils.afterCommit(() -> indexes.orderedStream().forEach(index -> index.onSaved(entity)));
+    }
+
+    @PostRemove
+    public void afterRemove(Object entity) {
+        TransactionUtils.afterCommit(() -> indexes.orderedStream().forEach(index -> index.onRemoved(entity)));
+    }
+}
@@ -0,0 +1,135 @@
+package com.university.fms.search;
+
+import com.university.fms.dto.response.Suggestion;
+import com.university.fms.entity.Course;
+import com.university.fms.entity.Department;
+import com.university.fms.entity.FacultyProfile;
+import com.university.fms.repository.CourseRepository;
+import com.university.fms.repository.DepartmentRepository;
+import com.university.fms.repository.FacultyProfileRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+// Sorted key space for typeahead: every word-start suffix of a name points at its owner, so "alg" finds "Intro to Algorithms"
+@Component
+public class NameSuggester implements EntityIndex {
+    public static final String FACULTY = "FACULTY";
+    public static final String COURSE = "COURSE";
+    public static final String DEPARTMENT = "DEPARTMENT";
+
+    private static final char KEY_SEPARATOR = '\u0000';
+
+    @Autowired
+    private FacultyProfileRepository facultyProfileRepository;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private DepartmentRepository departmentRepository;
+
+    // "normalized suffix \0 TYPE:id" -> suggestion; the suffix keeps keys sorted, the owner keeps them unique
+    private final ConcurrentSkipListMap<String, Suggestion> keys = new ConcurrentSkipListMap<>();
+
+    // "TYPE:id" -> keys currently registered for it, so renames and deletes can drop the old ones
+    private final Map<String, List<String>> keysByOwner = new ConcurrentHashMap<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        keys.clear();
+        keysByOwner.clear();
+        facultyProfileRepository.findAll().forEach(this::onSaved);
+        courseRepository.findAll().forEach(this::onSaved);
+        departmentRepository.findAll().forEach(this::onSaved);
+    }
+
+    public List<Suggestion> suggest(String query, int limit) {
+        String prefix = normalize(query);
+        if (prefix.isEmpty() || limit <= 0) {
+            return Collections.emptyList();
+        }
+
+        Map<String, Suggestion> matches = new LinkedHashMap<>();
+        for (Map.Entry<String, Suggestion> entry : keys.subMap(prefix, prefix + Character.MAX_VALUE).entrySet()) {
+            Suggestion suggestion = entry.getValue();
+            matches.putIfAbsent(owner(suggestion.getType(), suggestion.getId()), suggestion);
+            if (matches.size() >= limit) {
+                break;
+            }
+        }
+        return new ArrayList<>(matches.values());
+    }
+
+    @Override
+    public void onSaved(Object entity) {
+        if (entity instanceof FacultyProfile faculty) {
+            put(FACULTY, faculty.getId(), faculty.getFullName(), faculty.getFullName());
+        } else if (entity instanceof Course course) {
+            put(COURSE, course.getId(), course.getCode() + " - " + course.getName(), course.getCode(), course.getName());
+        } else if (entity instanceof Department department) {
+            put(DEPARTMENT, department.getId(), department.getName(), department.getName());
+        }
+    }
+
+    @Override
+    public void onRemoved(Object entity) {
+        if (entity instanceof FacultyProfile faculty) {
+            remove(owner(FACULTY, faculty.getId()));
+        } else if (entity instanceof Course course) {
+            remove(owner(COURSE, course.getId()));
+        } else if (entity instanceof Department department) {
+            remove(owner(DEPARTMENT, department.getId()));
+        }
+    }
+
+    private void put(String type, Long id, String label, String... names) {
+        String owner = owner(type, id);
+        Suggestion suggestion = new Suggestion(type, id, label);
+
+        List<String> ownerKeys = new ArrayList<>();
+        for (String name : names) {
+            String normalized = normalize(name);
+            int start = 0;
+            while (start < normalized.length()) {
+                ownerKeys.add(normalized.substring(start) + KEY_SEPARATOR + owner);
+                int space = normalized.indexOf(' ', start);
+                if (space < 0) {
+                    break;
+                }
+                start = space + 1;
+            }
+        }
+
+        synchronized (keysByOwner) {
+            remove(owner);
+            ownerKeys.forEach(key -> keys.put(key, suggestion));
+            keysByOwner.put(owner, ownerKeys);
+        }
+    }
+
+    private void remove(String owner) {
+        synchronized (keysByOwner) {
+            List<String> previous = keysByOwner.remove(owner);
+            if (previous != null) {
+                previous.forEach(keys::remove);
+            }
+        }
+    }
+
+    private static String owner(String type, Long id) {
+        return type + ":" + id;
+    }
+
+    private static String normalize(String value) {
+        if (value == null) {
+            return "";
+        }
+        return String.join(" ", TextAnalyzer.tokenize(value));
+    }
+}
@@ -0,0 +1,303 @@
+package com.university.fms.search;
+
+import com.university.fms.entity.Publication;
+import com.university.fms.repository.PublicationRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// MinHash signatures in LSH band buckets: likely duplicates share at least one band, so lookups avoid pairwise comparison
+@Component
+public class PublicationDuplicateIndex implements EntityIndex {
+    private static final int BANDS = 16;
+    private static final int ROWS_PER_BAND = 4;
+    private static final int SIGNATURE_SIZE = BANDS * ROWS_PER_BAND;
+    private static final int TITLE_SHINGLE = 4;
+    private static final int ABSTRACT_SHINGLE = 3;
+
+    private static final long[] SEEDS_A = new long[SIGNATURE_SIZE];
+    private static final long[] SEEDS_B = new long[SIGNATURE_SIZE];
+
+    static {
+        SplittableRandom random = new SplittableRandom(0x5eed5eedL);
+        for (int i = 0; i < SIGNATURE_SIZE; i++) {
+            SEEDS_A[i] = random.nextLong() | 1L;
+            SEEDS_B[i] = random.nextLong();
+        }
+    }
+
+    @Autowired
+    private PublicationRepository publicationRepository;
+
+    @Value("${app.publications.duplicate-threshold}")
+    private double threshold;
+
+    private final Map<Long, int[]> signatures = new HashMap<>();
+    private final Map<Long, Set<Long>> buckets = new HashMap<>();
+    private final Map<Long, String> doiById = new HashMap<>();
+    private final Map<String, Set<Long>> idsByDoi = new HashMap<>();
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        lock.writeLock().lock();
+        try {
+            signatures.clear();
+            buckets.clear();
+            doiById.clear();
+            idsByDoi.clear();
+            publicationRepository.findAll().forEach(this::indexLocked);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Ids of stored publications that look like the same paper; excludeId skips the publication itself on update
+    public List<Long> findLikelyDuplicates(String title, String abstractText, String doi, Long excludeId) {
+        int[] signature = signature(title, abstractText);
+        String normalizedDoi = normalizeDoi(doi);
+
+        Set<Long> duplicates = new TreeSet<>();
+        lock.readLock().lock();
+        try {
+            if (normalizedDoi != null) {
+                duplicates.addAll(idsByDoi.getOrDefault(normalizedDoi, Collections.emptySet()));
+            }
+            if (signature != null) {
+                for (int band = 0; band < BANDS; band++) {
+                    for (Long candidate : buckets.getOrDefault(bandKey(signature, band), Collections.emptySet())) {
+                        if (!duplicates.contains(candidate) && similarity(signature, signatures.get(candidate)) >= threshold) {
+                            duplicates.add(candidate);
+                        }
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        if (excludeId != null) {
+            duplicates.remove(excludeId);
+        }
+        return new ArrayList<>(duplicates);
+    }
+
+    // Groups every publication with its likely duplicates; a single pass over buckets with union-find. Every pair
+    // sharing a bucket is verified, since any member may be a false-positive collision for the rest.
+    public List<List<Long>> findDuplicateClusters() {
+        Map<Long, Long> parent = new HashMap<>();
+        lock.readLock().lock();
+        try {
+            for (Set<Long> bucket : buckets.values()) {
+                if (bucket.size() < 2) {
+                    continue;
+                }
+                Long[] members = bucket.toArray(new Long[0]);
+                for (int i = 0; i < members.length; i++) {
+                    int[] signature = signatures.get(members[i]);
+                    for (int j = i + 1; j < members.length; j++) {
+                        // Pairs already joined through another band need no second look
+                        if (parent.containsKey(members[i]) && parent.containsKey(members[j])
+                                && find(parent, members[i]).equals(find(parent, members[j]))) {
+                            continue;
+                        }
+                        if (similarity(signature, signatures.get(members[j])) >= threshold) {
+                            union(parent, members[i], members[j]);
+                        }
+                    }
+                }
+            }
+            for (Set<Long> sameDoi : idsByDoi.values()) {
+                Long first = null;
+                for (Long id : sameDoi) {
+                    if (first == null) {
+                        first = id;
+                    } else {
+                        union(parent, first, id);
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        Map<Long, List<Long>> clusters = new TreeMap<>();
+        for (Long id : parent.keySet()) {
+            clusters.computeIfAbsent(find(parent, id), root -> new ArrayList<>()).add(id);
+        }
+        List<List<Long>> result = new ArrayList<>();
+        for (List<Long> cluster : clusters.values()) {
+            if (cluster.size() > 1) {
+                Collections.sort(cluster);
+                result.add(cluster);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public void onSaved(Object entity) {
+        if (entity instanceof Publication publication) {
+            lock.writeLock().lock();
+            try {
+                removeLocked(publication.getId());
+                indexLocked(publication);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    @Override
+    public void onRemoved(Object entity) {
+        if (entity instanceof Publication publication) {
+            lock.writeLock().lock();
+            try {
+                removeLocked(publication.getId());
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    private void indexLocked(Publication publication) {
+        Long id = publication.getId();
+        int[] signature = signature(publication.getTitle(), publication.getAbstractText());
+        if (signature != null) {
+            signatures.put(id, signature);
+            for (int band = 0; band < BANDS; band++) {
+                buckets.computeIfAbsent(bandKey(signature, band), key -> new HashSet<>()).add(id);
+            }
+        }
+        String doi = normalizeDoi(publication.getDoi());
+        if (doi != null) {
+            doiById.put(id, doi);
+            idsByDoi.computeIfAbsent(doi, key -> new HashSet<>()).add(id);
+        }
+    }
+
+    private void removeLocked(Long id) {
+        int[] signature = signatures.remove(id);
+        if (signature != null) {
+            for (int band = 0; band < BANDS; band++) {
+                long key = bandKey(signature, band);
+                Set<Long> bucket = buckets.get(key);
+                if (bucket != null) {
+                    bucket.remove(id);
+                    if (bucket.isEmpty()) {
+                        buckets.remove(key);
+                    }
+                }
+            }
+        }
+        String doi = doiById.remove(id);
+        if (doi != null) {
+            Set<Long> sameDoi = idsByDoi.get(doi);
+            sameDoi.remove(id);
+            if (sameDoi.isEmpty()) {
+                idsByDoi.remove(doi);
+            }
+        }
+    }
+
+    // Character shingles of the title survive small wording changes; word shingles keep long abstracts cheap
+    private static int[] signature(String title, String abstractText) {
+        Set<Long> shingles = new HashSet<>();
+        String normalizedTitle = String.join(" ", TextAnalyzer.tokenize(title));
+        for (int i = 0; i + TITLE_SHINGLE <= normalizedTitle.length(); i++) {
+            shingles.add(hash(normalizedTitle.substring(i, i + TITLE_SHINGLE)));
+        }
+        List<String> words = TextAnalyzer.tokenize(abstractText);
+        for (int i = 0; i + ABSTRACT_SHINGLE <= words.size(); i++) {
+            shingles.add(hash(String.join(" ", words.subList(i, i + ABSTRACT_SHINGLE))) * 31 + 7);
+        }
+        if (shingles.isEmpty()) {
+            return null;
+        }
+
+        int[] signature = new int[SIGNATURE_SIZE];
+        Arrays.fill(signature, Integer.MAX_VALUE);
+        for (long shingle : shingles) {
+            for (int i = 0; i < SIGNATURE_SIZE; i++) {
+                int value = (int) ((SEEDS_A[i] * shingle + SEEDS_B[i]) >>> 33);
+                if (value < signature[i]) {
+                    signature[i] = value;
+                }
+            }
+        }
+        return signature;
+    }
+
+    private static long bandKey(int[] signature, int band) {
+        long key = band;
+        for (int row = band * ROWS_PER_BAND; row < (band + 1) * ROWS_PER_BAND; row++) {
+            key = key * 0x9E3779B97F4A7C15L + signature[row];
+        }
+        return key;
+    }
+
+    // Fraction of agreeing MinHash components estimates the Jaccard similarity of the shingle sets
+    private static double similarity(int[] a, int[] b) {
+        if (a == null || b == null) {
+            return 0.0;
+        }
+        int same = 0;
+        for (int i = 0; i < SIGNATURE_SIZE; i++) {
+            if (a[i] == b[i]) {
+                same++;
+            }
+        }
+        return (double) same / SIGNATURE_SIZE;
+    }
+
+    private static long hash(String value) {
+        long h = 1125899906842597L;
+        for (int i = 0; i < value.length(); i++) {
+            h = 31 * h + value.charAt(i);
+        }
+        return h;
+    }
+
+    private static String normalizeDoi(String doi) {
+        if (doi == null || doi.isBlank()) {
+            return null;
+        }
+        String normalized = doi.trim().toLowerCase(Locale.ROOT);
+        for (String prefix : new String[]{"https://doi.org/", "http://doi.org/", "doi:"}) {
+            if (normalized.startsWith(prefix)) {
+                normalized = normalized.substring(prefix.length());
+            }
+        }
+        return normalized;
+    }
+
+    private static void union(Map<Long, Long> parent, Long a, Long b) {
+        Long rootA = find(parent, a);
+        Long rootB = find(parent, b);
+        if (!rootA.equals(rootB)) {
+            parent.put(Math.max(rootA, rootB), Math.min(rootA, rootB));
+        }
+    }
+
+    private static Long find(Map<Long, Long> parent, Long id) {
+        Long root = parent.computeIfAbsent(id, key -> key);
+        while (!root.equals(parent.get(root))) {
+            root = parent.get(root);
+        }
+        // Path compression keeps later lookups near constant time
+        Long current = id;
+        while (!current.equals(root)) {
+            Long next = parent.get(current);
+            parent.put(current, root);
+            current = next;
+        }
+        return root;
+    }
+}
@@ -0,0 +1,312 @@
+package com.university.fms.search;
+
+import com.university.fms.entity.Publication;
+import com.university.fms.repository.PublicationRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.IntStream;
+
+// TF-IDF vectors over title, journal and abstract; "related" is cosine similarity against every other publication
+@Component
+public class PublicationSimilarityIndex implements EntityIndex {
+    private static final Set<String> STOP_WORDS = Set.of(
+            "a", "an", "and", "are", "as", "at", "be", "by", "for", "from", "in", "into", "is", "it", "its",
+            "of", "on", "or", "that", "the", "this", "to", "using", "via", "was", "we", "with");
+
+    // Below this many publications a single-threaded scan beats the fork-join overhead
+    private static final int PARALLEL_THRESHOLD = 20_000;
+    private static final int CHUNK_SIZE = 4_096;
+
+    @Autowired
+    private PublicationRepository publicationRepository;
+
+    private final Map<String, Integer> vocabulary = new HashMap<>();
+    private int[] documentFrequency = new int[1024];
+
+    // Slot-indexed sparse vectors: term ids and log-scaled term frequencies; a null row marks a free slot
+    private int[][] slotTerms = new int[1024][];
+    private float[][] slotFrequencies = new float[1024][];
+    private long[] slotIds = new long[1024];
+    private int slotCount;
+    private final Deque<Integer> freeSlots = new ArrayDeque<>();
+    private final Map<Long, Integer> slotById = new HashMap<>();
+
+    private volatile float[] idfCache;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        lock.writeLock().lock();
+        try {
+            vocabulary.clear();
+            documentFrequency = new int[1024];
+            slotTerms = new int[1024][];
+            slotFrequencies = new float[1024][];
+            slotIds = new long[1024];
+            slotCount = 0;
+            freeSlots.clear();
+            slotById.clear();
+            publicationRepository.findAll().forEach(this::indexLocked);
+            idfCache = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public List<Long> findRelated(Long publicationId, int k) {
+        lock.readLock().lock();
+        try {
+            Integer querySlot = slotById.get(publicationId);
+            if (querySlot == null || k <= 0) {
+                return Collections.emptyList();
+            }
+
+            float[] idf = idf();
+            float[] query = new float[idf.length];
+            int[] queryTerms = slotTerms[querySlot];
+            float[] queryFrequencies = slotFrequencies[querySlot];
+            for (int i = 0; i < queryTerms.length; i++) {
+                query[queryTerms[i]] = queryFrequencies[i] * idf[queryTerms[i]];
+            }
+
+            int chunks = (slotCount + CHUNK_SIZE - 1) / CHUNK_SIZE;
+            IntStream chunkStream = IntStream.range(0, chunks);
+            if (slotCount >= PARALLEL_THRESHOLD) {
+                chunkStream = chunkStream.parallel();
+            }
+            List<TopK> partials = chunkStream
+                    .mapToObj(chunk -> scoreChunk(chunk * CHUNK_SIZE, Math.min(slotCount, (chunk + 1) * CHUNK_SIZE),
+                            querySlot, query, idf, k))
+                    .toList();
+
+            TopK merged = new TopK(k);
+            partials.forEach(merged::merge);
+            return merged.idsDescending(slotIds);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void onSaved(Object entity) {
+        if (entity instanceof Publication publication) {
+            lock.writeLock().lock();
+            try {
+                removeLocked(publication.getId());
+                indexLocked(publication);
+                idfCache = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    @Override
+    public void onRemoved(Object entity) {
+        if (entity instanceof Publication publication) {
+            lock.writeLock().lock();
+            try {
+                removeLocked(publication.getId());
+                idfCache = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    private TopK scoreChunk(int from, int to, int querySlot, float[] query, float[] idf, int k) {
+        TopK top = new TopK(k);
+        for (int slot = from; slot < to; slot++) {
+            int[] terms = slotTerms[slot];
+            if (terms == null || slot == querySlot) {
+                continue;
+            }
+            float[] frequencies = slotFrequencies[slot];
+            double dot = 0;
+            double norm = 0;
+            for (int i = 0; i < terms.length; i++) {
+                double weight = frequencies[i] * idf[terms[i]];
+                dot += query[terms[i]] * weight;
+                norm += weight * weight;
+            }
+            if (dot > 0) {
+                top.offer(slot, dot / Math.sqrt(norm));
+            }
+        }
+        return top;
+    }
+
+    // Recomputed lazily after writes so IDF always reflects the current corpus
+    private float[] idf() {
+        float[] idf = idfCache;
+        if (idf == null || idf.length != vocabulary.size()) {
+            int documents = slotById.size();
+            idf = new float[vocabulary.size()];
+            for (int term = 0; term < idf.length; term++) {
+                idf[term] = (float) (Math.log((documents + 1.0) / (documentFrequency[term] + 1.0)) + 1.0);
+            }
+            idfCache = idf;
+        }
+        return idf;
+    }
+
+    private void indexLocked(Publication publication) {
+        Map<Integer, Integer> counts = new HashMap<>();
+        // Title words count double; they describe the paper better than abstract filler
+        List<String> tokens = TextAnalyzer.tokenize(publication.getTitle(), publication.getTitle(),
+                publication.getJournalName(), publication.getAbstractText());
+        for (String token : tokens) {
+            if (token.length() < 2 || STOP_WORDS.contains(token)) {
+                continue;
+            }
+            counts.merge(termId(token), 1, Integer::sum);
+        }
+
+        int[] terms = new int[counts.size()];
+        float[] frequencies = new float[counts.size()];
+        int i = 0;
+        for (Map.Entry<Integer, Integer> entry : counts.entrySet()) {
+            terms[i] = entry.getKey();
+            frequencies[i] = (float) (1.0 + Math.log(entry.getValue()));
+            documentFrequency[entry.getKey()]++;
+            i++;
+        }
+
+        int slot = allocateSlot();
+        slotTerms[slot] = terms;
+        slotFrequencies[slot] = frequencies;
+        slotIds[slot] = publication.getId();
+        slotById.put(publication.getId(), slot);
+    }
+
+    private void removeLocked(Long id) {
+        Integer slot = slotById.remove(id);
+        if (slot == null) {
+            return;
+        }
+        for (int term : slotTerms[slot]) {
+            documentFrequency[term]--;
+        }
+        slotTerms[slot] = null;
+        slotFrequencies[slot] = null;
+        freeSlots.push(slot);
+    }
+
+    private int termId(String token) {
+        Integer id = vocabulary.get(token);
+        if (id == null) {
+            id = vocabulary.size();
+            vocabulary.put(token, id);
+            if (id >= documentFrequency.length) {
+                documentFrequency = Arrays.copyOf(documentFrequency, documentFrequency.length * 2);
+            }
+        }
+        return id;
+    }
+
+    private int allocateSlot() {
+        if (!freeSlots.isEmpty()) {
+            return freeSlots.pop();
+        }
+        if (slotCount == slotIds.length) {
+            int capacity = slotIds.length * 2;
+            slotTerms = Arrays.copyOf(slotTerms, capacity);
+            slotFrequencies = Arrays.copyOf(slotFrequencies, capacity);
+            slotIds = Arrays.copyOf(slotIds, capacity);
+        }
+        return slotCount++;
+    }
+
+    // Bounded min-heap over parallel primitive arrays
+    private static final class TopK {
+        private final int capacity;
+        private final int[] slots;
+        private final double[] scores;
+        private int size;
+
+        private TopK(int capacity) {
+            this.capacity = capacity;
+            this.slots = new int[capacity];
+            this.scores = new double[capacity];
+        }
+
+        private void offer(int slot, double score) {
+            if (size < capacity) {
+                slots[size] = slot;
+                scores[size] = score;
+                siftUp(size++);
+            } else if (score > scores[0]) {
+                slots[0] = slot;
+                scores[0] = score;
+                siftDown(0);
+            }
+        }
+
+        private TopK merge(TopK other) {
+            for (int i = 0; i < other.size; i++) {
+                offer(other.slots[i], other.scores[i]);
+            }
+            return this;
+        }
+
+        private List<Long> idsDescending(long[] slotIds) {
+            Integer[] order = new Integer[size];
+            for (int i = 0; i < size; i++) {
+                order[i] = i;
+            }
+            Arrays.sort(order, (a, b) -> Double.compare(scores[b], scores[a]));
+
+            List<Long> ids = new ArrayList<>(size);
+            for (Integer index : order) {
+                ids.add(slotIds[slots[index]]);
+            }
+            return ids;
+        }
+
+        private void siftUp(int index) {
+            while (index > 0) {
+                int parent = (index - 1) / 2;
+                if (scores[parent] <= scores[index]) {
+                    return;
+                }
+                swap(parent, index);
+                index = parent;
+            }
+        }
+
+        private void siftDown(int index) {
+            while (true) {
+                int smallest = index;
+                int left = 2 * index + 1;
+                int right = left + 1;
+                if (left < size && scores[left] < scores[smallest]) {
+                    smallest = left;
+                }
+                if (right < size && scores[right] < scores[smallest]) {
+                    smallest = right;
+                }
+                if (smallest == index) {
+                    return;
+                }
+                swap(smallest, index);
+                index = smallest;
+            }
+        }
+
+        private void swap(int a, int b) {
+            int slot = slots[a];
+            slots[a] = slots[b];
+            slots[b] = slot;
+            double score = scores[a];
+            scores[a] = scores[b];
+            scores[b] = score;
+        }
+    }
+}
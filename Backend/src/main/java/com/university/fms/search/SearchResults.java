@@ -0,0 +1,26 @@
+package com.university.fms.search;
+
+import java.util.*;
+import java.util.function.Function;
+
+public final class SearchResults {
+
+    private SearchResults() {}
+
+    // findAllById returns rows in arbitrary order; put them back in ranking order
+    public static <T> List<T> inRankOrder(List<Long> rankedIds, Collection<T> rows, Function<T, Long> idExtractor) {
+        Map<Long, T> byId = new HashMap<>();
+        for (T row : rows) {
+            byId.put(idExtractor.apply(row), row);
+        }
+
+        List<T> ordered = new ArrayList<>(rankedIds.size());
+        for (Long id : rankedIds) {
+            T row = byId.get(id);
+            if (row != null) {
+                ordered.add(row);
+            }
+        }
+        return ordered;
+    }
+}
@@ -0,0 +1,32 @@
+package com.university.fms.search;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+public final class TextAnalyzer {
+
+    private TextAnalyzer() {}
+
+    // Lower-cased runs of letters and digits, so "Data-Structures 101" becomes [data, structures, 101]
+    public static List<String> tokenize(String... fields) {
+        List<String> tokens = new ArrayList<>();
+        for (String field : fields) {
+            if (field == null || field.isEmpty()) {
+                continue;
+            }
+            String text = field.toLowerCase(Locale.ROOT);
+            int start = -1;
+            for (int i = 0; i <= text.length(); i++) {
+                boolean wordChar = i < text.length() && Character.isLetterOrDigit(text.charAt(i));
+                if (wordChar && start < 0) {
+                    start = i;
+                } else if (!wordChar && start >= 0) {
+                    tokens.add(text.substring(start, i));
+                    start = -1;
+                }
+            }
+        }
+        return tokens;
+    }
+}
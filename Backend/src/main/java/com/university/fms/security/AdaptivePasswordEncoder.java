@@ -0,0 +1,83 @@
+package com.university.fms.security;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.Arrays;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// BCrypt encoder whose work factor is tuned to the hardware; hashes with a lower cost get re-encoded on login
+public class AdaptivePasswordEncoder implements PasswordEncoder {
+    private static final Logger logger = LoggerFactory.getLogger(AdaptivePasswordEncoder.class);
+
+    private static final Pattern BCRYPT_PATTERN = Pattern.compile("\\A\\$2(a|y|b)?\\$(\\d\\d)\\$[./0-9A-Za-z]{53}");
+    private static final int CALIBRATION_ROUNDS = 3;
+
+    private final BCryptPasswordEncoder encoder;
+    private final int strength;
+
+    public AdaptivePasswordEncoder(int strength) {
+        this.encoder = new BCryptPasswordEncoder(strength);
+        this.strength = strength;
+    }
+
+    // Picks the highest work factor whose hash time stays within the target
+    public static AdaptivePasswordEncoder calibrate(long targetMs, int minStrength, int maxStrength) {
+        int chosen = minStrength;
+        new BCryptPasswordEncoder(minStrength).encode("warm-up");
+
+        for (int candidate = minStrength; candidate <= maxStrength; candidate++) {
+            long elapsedMs = medianHashMillis(new BCryptPasswordEncoder(candidate));
+            logger.debug("BCrypt strength {} takes {} ms", candidate, elapsedMs);
+            if (elapsedMs > targetMs) {
+                break;
+            }
+            chosen = candidate;
+        }
+
+        logger.info("Using BCrypt strength {} for a target hash time of {} ms", chosen, targetMs);
+        return new AdaptivePasswordEncoder(chosen);
+    }
+
+    private static long medianHashMillis(BCryptPasswordEncoder candidate) {
+        long[] timings = new long[CALIBRATION_ROUNDS];
+        for (int i = 0; i < CALIBRATION_ROUNDS; i++) {
+            long start = System.nanoTime();
+            candidate.encode("calibration-" + i);
+            timings[i] = (System.nanoTime() - start) / 1_000_000;
+        }
+        Arrays.sort(timings);
+        return timings[CALIBRATION_ROUNDS / 2];
+    }
+
+    public int getStrength() {
+        return strength;
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return encoder.encode(rawPassword);
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return encoder.matches(rawPassword, encodedPassword);
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        if (encodedPassword == null) {
+            return false;
+        }
+        Matcher matcher = BCRYPT_PATTERN.matcher(encodedPassword);
+        if (!matcher.matches()) {
+            return false;
+        }
+        // Upgrade only: nodes that calibrate to different costs would otherwise rehash the same password back
+        // and forth on alternate logins
+        return Integer.parseInt(matcher.group(2)) < strength;
+    }
+}
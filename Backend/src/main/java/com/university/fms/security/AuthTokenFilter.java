@@ -7,6 +7,7 @@ import jakarta.servlet.http.HttpServletResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -24,6 +25,15 @@ public class AuthTokenFilter extends OncePerRequestFilter {
     @Autowired
     private UserDetailsService userDetailsService;
 
+    @Autowired
+    private PrincipalCache principalCache;
+
+    @Autowired
+    private TokenVersionRegistry tokenVersionRegistry;
+
+    @Value("${app.auth.stateless}")
+    private boolean statelessAuth;
+
     private static final Logger logger = LoggerFactory.getLogger(AuthTokenFilter.class);
 
     @Override
@@ -31,10 +41,9 @@ public class AuthTokenFilter extends OncePerRequestFilter {
             throws ServletException, IOException {
         try {
             String jwt = parseJwt(request);
-            if (jwt != null && jwtUtils.validateJwtToken(jwt)) {
-                String username = jwtUtils.getUserNameFromJwtToken(jwt);
-
-                UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+            JwtClaims claims = jwt != null ? jwtUtils.verifyJwtToken(jwt) : null;
+            UserDetails userDetails = claims != null ? loadUserDetails(jwt, claims) : null;
+            if (userDetails != null) {
                 UsernamePasswordAuthenticationToken authentication =
                         new UsernamePasswordAuthenticationToken(userDetails,
                                 null,
@@ -50,6 +59,27 @@ public class AuthTokenFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
+    private UserDetails loadUserDetails(String jwt, JwtClaims claims) {
+        if (statelessAuth && claims.hasEmbeddedPrincipal()) {
+            if (!tokenVersionRegistry.isCurrent(claims.getUserId(), claims.getTokenVersion())) {
+                logger.debug("Rejecting outdated token for user {}", claims.getSubject());
+                return null;
+            }
+            return UserPrincipal.fromClaims(claims);
+        }
+
+        // Taken before the user is read, so a role change committed while it loads keeps it out of the cache
+        long generation = principalCache.generation();
+        UserDetails userDetails = principalCache.get(jwt);
+        if (userDetails == null) {
+            userDetails = userDetailsService.loadUserByUsername(claims.getSubject());
+            if (userDetails instanceof UserPrincipal userPrincipal) {
+                principalCache.put(jwt, userPrincipal, claims.getExpiration(), generation);
+            }
+        }
+        return userDetails;
+    }
+
     private String parseJwt(HttpServletRequest request) {
         String headerAuth = request.getHeader("Authorization");
 
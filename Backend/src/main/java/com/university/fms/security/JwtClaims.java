@@ -0,0 +1,76 @@
+package com.university.fms.security;
+
+import io.jsonwebtoken.Claims;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+public final class JwtClaims {
+    public static final String USER_ID = "uid";
+    public static final String EMAIL = "email";
+    public static final String ROLES = "roles";
+    public static final String TOKEN_VERSION = "ver";
+
+    private final String subject;
+    private final Long userId;
+    private final String email;
+    private final List<String> roles;
+    private final Integer tokenVersion;
+    private final long expiration;
+
+    public JwtClaims(String subject, Long userId, String email, List<String> roles, Integer tokenVersion,
+                     long expiration) {
+        this.subject = subject;
+        this.userId = userId;
+        this.email = email;
+        this.roles = roles == null ? Collections.emptyList() : Collections.unmodifiableList(roles);
+        this.tokenVersion = tokenVersion;
+        this.expiration = expiration;
+    }
+
+    static JwtClaims from(Claims claims) {
+        List<String> roles = null;
+        Object rawRoles = claims.get(ROLES);
+        if (rawRoles instanceof List<?> list) {
+            roles = list.stream().map(String::valueOf).collect(Collectors.toList());
+        }
+
+        return new JwtClaims(
+                claims.getSubject(),
+                claims.get(USER_ID, Long.class),
+                claims.get(EMAIL, String.class),
+                roles,
+                claims.get(TOKEN_VERSION, Integer.class),
+                claims.getExpiration().getTime());
+    }
+
+    // Tokens issued before claims were embedded only carry the subject
+    public boolean hasEmbeddedPrincipal() {
+        return userId != null && tokenVersion != null;
+    }
+
+    public String getSubject() {
+        return subject;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public List<String> getRoles() {
+        return roles;
+    }
+
+    public Integer getTokenVersion() {
+        return tokenVersion;
+    }
+
+    public long getExpiration() {
+        return expiration;
+    }
+}
@@ -3,14 +3,18 @@ package com.university.fms.security;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
 
 import java.security.Key;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
 
 @Component
 public class JwtUtils {
@@ -19,43 +23,94 @@ public class JwtUtils {
     @Value("${app.jwt.secret}")
     private String jwtSecret;
 
+    @Value("${app.jwt.key-id}")
+    private String jwtKeyId;
+
+    // Keys that are no longer used for signing but still accepted, as "keyId:base64Secret" pairs
+    @Value("${app.jwt.retired-keys:}")
+    private String retiredKeys;
+
     @Value("${app.jwt.expiration}")
     private int jwtExpirationMs;
 
+    private Key signingKey;
+
+    private final Map<String, Key> keyRing = new HashMap<>();
+
+    private JwtParser jwtParser;
+
+    @PostConstruct
+    public void init() {
+        signingKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(jwtSecret));
+        keyRing.put(jwtKeyId, signingKey);
+
+        if (StringUtils.hasText(retiredKeys)) {
+            for (String entry : retiredKeys.split(",")) {
+                String[] parts = entry.trim().split(":", 2);
+                if (parts.length != 2) {
+                    throw new IllegalStateException("Invalid entry in app.jwt.retired-keys: " + entry);
+                }
+                keyRing.putIfAbsent(parts[0], Keys.hmacShaKeyFor(Decoders.BASE64.decode(parts[1])));
+            }
+        }
+
+        jwtParser = Jwts.parserBuilder()
+                .setSigningKeyResolver(new SigningKeyResolverAdapter() {
+                    @Override
+                    public Key resolveSigningKey(JwsHeader header, Claims claims) {
+                        String keyId = header.getKeyId();
+                        if (keyId == null) {
+                            return signingKey;
+                        }
+                        Key key = keyRing.get(keyId);
+                        if (key == null) {
+                            throw new UnsupportedJwtException("Unknown signing key id: " + keyId);
+                        }
+                        return key;
+                    }
+                })
+                .build();
+    }
+
     public String generateJwtToken(Authentication authentication) {
         UserPrincipal userPrincipal = (UserPrincipal) authentication.getPrincipal();
 
         return Jwts.builder()
+                .setHeaderParam(JwsHeader.KEY_ID, jwtKeyId)
                 .setSubject((userPrincipal.getUsername()))
+                .claim(JwtClaims.USER_ID, userPrincipal.getId())
+                .claim(JwtClaims.EMAIL, userPrincipal.getEmail())
+                .claim(JwtClaims.ROLES, userPrincipal.getRoleNames())
+                .claim(JwtClaims.TOKEN_VERSION, userPrincipal.getTokenVersion())
                 .setIssuedAt(new Date())
                 .setExpiration(new Date((new Date()).getTime() + jwtExpirationMs))
-                .signWith(key(), SignatureAlgorithm.HS256)
+                .signWith(signingKey, SignatureAlgorithm.HS256)
                 .compact();
     }
 
-    private Key key() {
-        return Keys.hmacShaKeyFor(Decoders.BASE64.decode(jwtSecret));
-    }
-
-    public String getUserNameFromJwtToken(String token) {
-        return Jwts.parserBuilder().setSigningKey(key()).build()
-                .parseClaimsJws(token).getBody().getSubject();
-    }
-
-    public boolean validateJwtToken(String authToken) {
+    public JwtClaims verifyJwtToken(String authToken) {
         try {
-            Jwts.parserBuilder().setSigningKey(key()).build().parse(authToken);
-            return true;
+            return JwtClaims.from(jwtParser.parseClaimsJws(authToken).getBody());
         } catch (MalformedJwtException e) {
             logger.error("Invalid JWT token: {}", e.getMessage());
         } catch (ExpiredJwtException e) {
             logger.error("JWT token is expired: {}", e.getMessage());
         } catch (UnsupportedJwtException e) {
             logger.error("JWT token is unsupported: {}", e.getMessage());
+        } catch (JwtException e) {
+            logger.error("Invalid JWT signature: {}", e.getMessage());
         } catch (IllegalArgumentException e) {
             logger.error("JWT claims string is empty: {}", e.getMessage());
         }
 
-        return false;
+        return null;
+    }
+
+    public String getUserNameFromJwtToken(String token) {
+        return jwtParser.parseClaimsJws(token).getBody().getSubject();
+    }
+
+    public boolean validateJwtToken(String authToken) {
+        return verifyJwtToken(authToken) != null;
     }
 }
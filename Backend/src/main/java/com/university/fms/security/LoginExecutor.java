@@ -0,0 +1,103 @@
+package com.university.fms.security;
+
+import com.university.fms.util.LatencySampler;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+// Runs password verification off the Tomcat request threads so login storms cannot starve other requests
+@Component
+public class LoginExecutor {
+
+    @Value("${app.auth.login-executor.threads}")
+    private int threads;
+
+    @Value("${app.auth.login-executor.queue-capacity}")
+    private int queueCapacity;
+
+    @Value("${app.auth.login-executor.timeout}")
+    private long timeoutMs;
+
+    private ThreadPoolExecutor executor;
+
+    private final LatencySampler verificationTimes = new LatencySampler(1024);
+    private final LongAdder rejections = new LongAdder();
+    private final LongAdder timeouts = new LongAdder();
+
+    @PostConstruct
+    public void init() {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger threadNumber = new AtomicInteger();
+        executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "login-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    // Throws RejectedExecutionException straight away when the queue is full
+    public <T> T execute(Callable<T> task) throws Exception {
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                long start = System.nanoTime();
+                try {
+                    return task.call();
+                } finally {
+                    verificationTimes.record(System.nanoTime() - start);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            rejections.increment();
+            throw e;
+        }
+
+        try {
+            return future.get(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof Exception cause) {
+                throw cause;
+            }
+            throw e;
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            timeouts.increment();
+            throw e;
+        }
+    }
+
+    // Time for the work already queued ahead of a new login to drain, rounded up to whole seconds
+    public long getRetryAfterSeconds() {
+        double backlogMs = (executor.getQueue().size() + 1) * verificationTimes.getMeanMillis()
+                / executor.getMaximumPoolSize();
+        return Math.max(1L, (long) Math.ceil(backlogMs / 1000.0));
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("threads", executor.getMaximumPoolSize());
+        stats.put("activeThreads", executor.getActiveCount());
+        stats.put("queueDepth", executor.getQueue().size());
+        stats.put("queueCapacity", queueCapacity);
+        stats.put("completed", executor.getCompletedTaskCount());
+        stats.put("rejections", rejections.sum());
+        stats.put("timeouts", timeouts.sum());
+        stats.put("verificationTimeMs", verificationTimes.getPercentilesMillis());
+        return stats;
+    }
+}
@@ -0,0 +1,176 @@
+package com.university.fms.security;
+
+import com.university.fms.dto.request.EnrollmentRequest;
+import com.university.fms.repository.FacultyProfileRepository;
+import com.university.fms.repository.PublicationRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+// Used from @PreAuthorize as @ownership; answers from the principal and in-memory owner maps. Local writes
+// update the maps after commit; an entry older than the TTL is read again, so changes made on other nodes
+// are picked up within it, and a cached owner that refuses the caller is checked once more against the table.
+@Component("ownership")
+public class OwnershipEvaluator {
+
+    @Autowired
+    private FacultyProfileRepository facultyProfileRepository;
+
+    @Autowired
+    private PublicationRepository publicationRepository;
+
+    @Value("${app.auth.ownership-ttl}")
+    private long ttlMs;
+
+    // faculty profile id -> user id
+    private final Map<Long, Owner> facultyOwners = new ConcurrentHashMap<>();
+
+    // publication id -> faculty profile id
+    private final Map<Long, Owner> publicationAuthors = new ConcurrentHashMap<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        facultyProfileRepository.findAllOwnerIds().forEach(row -> {
+            if (row[1] != null) {
+                facultyOwners.put((Long) row[0], owner((Long) row[1]));
+            }
+        });
+        publicationRepository.findAllFacultyIds().forEach(row -> {
+            if (row[1] != null) {
+                publicationAuthors.put((Long) row[0], owner((Long) row[1]));
+            }
+        });
+    }
+
+    public boolean isSelf(Long userId, Authentication authentication) {
+        Long currentUserId = currentUserId(authentication);
+        return currentUserId != null && currentUserId.equals(userId);
+    }
+
+    public boolean ownsFacultyProfile(Long facultyId, Authentication authentication) {
+        if (facultyId == null) {
+            return false;
+        }
+        Long currentUserId = currentUserId(authentication);
+        if (currentUserId == null) {
+            return false;
+        }
+        Long ownerId = lookup(facultyOwners, facultyId, facultyProfileRepository::findOwnerIdById, false);
+        if (!currentUserId.equals(ownerId)) {
+            // The profile may have been handed to the caller on another node
+            ownerId = lookup(facultyOwners, facultyId, facultyProfileRepository::findOwnerIdById, true);
+        }
+        return currentUserId.equals(ownerId);
+    }
+
+    public boolean ownsPublication(Long publicationId, Authentication authentication) {
+        if (publicationId == null) {
+            return false;
+        }
+        Long facultyId = lookup(publicationAuthors, publicationId, publicationRepository::findFacultyIdById, false);
+        if (ownsFacultyProfile(facultyId, authentication)) {
+            return true;
+        }
+        // The publication may have been moved onto the caller's profile on another node
+        Long currentFacultyId = lookup(publicationAuthors, publicationId, publicationRepository::findFacultyIdById, true);
+        return !Objects.equals(currentFacultyId, facultyId) && ownsFacultyProfile(currentFacultyId, authentication);
+    }
+
+    // Read from the table every time: grades are written rarely and a stale answer would let a former
+    // instructor keep grading
+    public boolean teachesCourse(Long courseId, Authentication authentication) {
+        return courseId != null && teachesCourses(List.of(courseId), authentication);
+    }
+
+    // True only when the caller teaches every course named by the batch items
+    public boolean teachesCoursesOf(List<EnrollmentRequest> items, Authentication authentication) {
+        if (items == null || items.isEmpty()) {
+            return false;
+        }
+        List<Long> courseIds = items.stream().map(EnrollmentRequest::getCourseId).toList();
+        return !courseIds.contains(null) && teachesCourses(courseIds, authentication);
+    }
+
+    public void facultyProfileSaved(Long facultyId, Long userId) {
+        if (userId != null) {
+            facultyOwners.put(facultyId, owner(userId));
+        } else {
+            facultyOwners.remove(facultyId);
+        }
+    }
+
+    public void facultyProfileRemoved(Long facultyId) {
+        facultyOwners.remove(facultyId);
+        publicationAuthors.values().removeIf(author -> facultyId.equals(author.id));
+    }
+
+    public void publicationSaved(Long publicationId, Long facultyId) {
+        if (facultyId != null) {
+            publicationAuthors.put(publicationId, owner(facultyId));
+        } else {
+            publicationAuthors.remove(publicationId);
+        }
+    }
+
+    public void publicationRemoved(Long publicationId) {
+        publicationAuthors.remove(publicationId);
+    }
+
+    private boolean teachesCourses(Collection<Long> courseIds, Authentication authentication) {
+        Long currentUserId = currentUserId(authentication);
+        if (currentUserId == null) {
+            return false;
+        }
+        Set<Long> wanted = new HashSet<>(courseIds);
+        return facultyProfileRepository.findTaughtCourseIds(currentUserId, wanted).size() == wanted.size();
+    }
+
+    // The cached value while it is younger than the TTL, otherwise (or when refresh is set) the row as it is now
+    private Long lookup(Map<Long, Owner> cache, Long key, Function<Long, Optional<Long>> loader, boolean refresh) {
+        Owner owner = cache.get(key);
+        if (!refresh && owner != null && System.currentTimeMillis() - owner.loadedAt < ttlMs) {
+            return owner.id;
+        }
+        Optional<Long> value = loader.apply(key);
+        if (value.isPresent()) {
+            cache.put(key, owner(value.get()));
+        } else {
+            cache.remove(key);
+        }
+        return value.orElse(null);
+    }
+
+    private Long currentUserId(Authentication authentication) {
+        if (authentication != null && authentication.getPrincipal() instanceof UserPrincipal principal) {
+            return principal.getId();
+        }
+        return null;
+    }
+
+    private static Owner owner(Long id) {
+        return new Owner(id, System.currentTimeMillis());
+    }
+
+    private static final class Owner {
+        private final Long id;
+        private final long loadedAt;
+
+        Owner(Long id, long loadedAt) {
+            this.id = id;
+            this.loadedAt = loadedAt;
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.university.fms.security;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+@Component
+public class PrincipalCache {
+
+    @Value("${app.auth.principal-cache.max-size}")
+    private int maxSize;
+
+    @Value("${app.auth.principal-cache.ttl}")
+    private long ttlMs;
+
+    private final ConcurrentHashMap<String, Entry> entries = new ConcurrentHashMap<>();
+
+    // A load takes generation() before reading the user, and put() drops its result when the user was evicted
+    // since. evictedAt holds the generation of each user's last eviction; once it outgrows maxSize it is cleared
+    // and loads that started before that are refused instead.
+    private final AtomicLong generation = new AtomicLong();
+    private final ConcurrentHashMap<Long, Long> evictedAt = new ConcurrentHashMap<>();
+    private final AtomicLong forgottenThrough = new AtomicLong();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public UserPrincipal get(String token) {
+        Entry entry = entries.get(token);
+        if (entry == null) {
+            misses.increment();
+            return null;
+        }
+        if (entry.expiresAt <= System.currentTimeMillis()) {
+            entries.remove(token, entry);
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return entry.principal;
+    }
+
+    public long generation() {
+        return generation.get();
+    }
+
+    public void put(String token, UserPrincipal principal, long tokenExpiresAt, long loadedAtGeneration) {
+        if (maxSize <= 0) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        long expiresAt = Math.min(now + ttlMs, tokenExpiresAt);
+        if (expiresAt <= now) {
+            return;
+        }
+        if (entries.size() >= maxSize) {
+            makeRoom(now);
+        }
+        Entry entry = new Entry(principal, expiresAt);
+        entries.put(token, entry);
+        // Checked after the put: an eviction after it removes the entry itself, one before it shows up here
+        if (evictedSince(principal.getId(), loadedAtGeneration)) {
+            entries.remove(token, entry);
+        }
+    }
+
+    public void evictUser(Long userId) {
+        if (userId == null) {
+            return;
+        }
+        if (evictedAt.size() >= Math.max(maxSize, 1)) {
+            forgottenThrough.set(generation.get());
+            evictedAt.clear();
+        }
+        evictedAt.merge(userId, generation.incrementAndGet(), Math::max);
+        entries.values().removeIf(entry -> userId.equals(entry.principal.getId()));
+    }
+
+    public void clear() {
+        forgottenThrough.set(generation.incrementAndGet());
+        evictedAt.clear();
+        entries.clear();
+    }
+
+    public Map<String, Object> getStats() {
+        long hitCount = hits.sum();
+        long missCount = misses.sum();
+        long total = hitCount + missCount;
+
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("size", entries.size());
+        stats.put("maxSize", maxSize);
+        stats.put("hits", hitCount);
+        stats.put("misses", missCount);
+        stats.put("evictions", evictions.sum());
+        stats.put("hitRatio", total == 0 ? 0.0 : (double) hitCount / total);
+        return stats;
+    }
+
+    private boolean evictedSince(Long userId, long loadedAtGeneration) {
+        Long evicted = evictedAt.get(userId);
+        return loadedAtGeneration < forgottenThrough.get() || (evicted != null && evicted > loadedAtGeneration);
+    }
+
+    private void makeRoom(long now) {
+        entries.values().removeIf(entry -> entry.expiresAt <= now);
+
+        // Still full: drop arbitrary entries, they are only a shortcut for a DB lookup
+        Iterator<String> keys = entries.keySet().iterator();
+        while (entries.size() >= maxSize && keys.hasNext()) {
+            keys.next();
+            keys.remove();
+            evictions.increment();
+        }
+    }
+
+    private static final class Entry {
+        private final UserPrincipal principal;
+        private final long expiresAt;
+
+        private Entry(UserPrincipal principal, long expiresAt) {
+            this.principal = principal;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
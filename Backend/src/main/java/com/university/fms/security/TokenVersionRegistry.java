@@ -0,0 +1,68 @@
+package com.university.fms.security;
+
+import com.university.fms.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+@Component
+public class TokenVersionRegistry {
+    private static final int DELETED = -1;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Value("${app.auth.token-version-refresh}")
+    private long refreshMs;
+
+    // Versions only move forward, so every write merges with the newest seen; a reload that read the database
+    // just before an update() committed cannot bring back the older version
+    private final ConcurrentHashMap<Long, Entry> versions = new ConcurrentHashMap<>();
+
+    public boolean isCurrent(Long userId, int tokenVersion) {
+        long now = System.currentTimeMillis();
+        Entry entry = versions.get(userId);
+        if (entry == null || now - entry.loadedAt > refreshMs) {
+            // Reloaded at most once per refresh interval, so other nodes' updates are picked up eventually
+            int version = userRepository.findTokenVersionById(userId).orElse(DELETED);
+            entry = versions.merge(userId, new Entry(version, now), Entry::newest);
+        }
+        return entry.version != DELETED && entry.version == tokenVersion;
+    }
+
+    public void update(Long userId, int tokenVersion) {
+        versions.merge(userId, new Entry(tokenVersion, System.currentTimeMillis()), Entry::newest);
+    }
+
+    public void remove(Long userId) {
+        versions.put(userId, new Entry(DELETED, System.currentTimeMillis()));
+    }
+
+    // Entries past the refresh interval would be reloaded before use anyway, so only recently seen users are kept
+    @Scheduled(fixedRateString = "${app.auth.token-version-refresh}")
+    public void evictExpired() {
+        long now = System.currentTimeMillis();
+        versions.values().removeIf(entry -> now - entry.loadedAt > refreshMs);
+    }
+
+    private static final class Entry {
+        private final int version;
+        private final long loadedAt;
+
+        private Entry(int version, long loadedAt) {
+            this.version = version;
+            this.loadedAt = loadedAt;
+        }
+
+        // Ids are never reused, so a deletion is final whichever side saw it
+        private static Entry newest(Entry current, Entry incoming) {
+            if (current.version == DELETED || incoming.version == DELETED) {
+                return new Entry(DELETED, incoming.loadedAt);
+            }
+            return new Entry(Math.max(current.version, incoming.version), incoming.loadedAt);
+        }
+    }
+}
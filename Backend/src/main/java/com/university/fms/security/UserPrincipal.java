@@ -15,14 +15,21 @@ public class UserPrincipal implements UserDetails {
     private String email;
     private String password;
     private Collection<? extends GrantedAuthority> authorities;
+    private int tokenVersion;
 
     public UserPrincipal(Long id, String username, String email, String password,
                         Collection<? extends GrantedAuthority> authorities) {
+        this(id, username, email, password, authorities, 0);
+    }
+
+    public UserPrincipal(Long id, String username, String email, String password,
+                        Collection<? extends GrantedAuthority> authorities, int tokenVersion) {
         this.id = id;
         this.username = username;
         this.email = email;
         this.password = password;
         this.authorities = authorities;
+        this.tokenVersion = tokenVersion;
     }
 
     public static UserPrincipal create(User user) {
@@ -35,7 +42,23 @@ public class UserPrincipal implements UserDetails {
                 user.getUsername(),
                 user.getEmail(),
                 user.getPassword(),
-                authorities);
+                authorities,
+                user.getTokenVersion() != null ? user.getTokenVersion() : 0);
+    }
+
+    // Builds the principal from a verified token without a database lookup, so it carries no password
+    public static UserPrincipal fromClaims(JwtClaims claims) {
+        List<GrantedAuthority> authorities = claims.getRoles().stream()
+                .map(role -> new SimpleGrantedAuthority("ROLE_" + role))
+                .collect(Collectors.toList());
+
+        return new UserPrincipal(
+                claims.getUserId(),
+                claims.getSubject(),
+                claims.getEmail(),
+                null,
+                authorities,
+                claims.getTokenVersion() != null ? claims.getTokenVersion() : 0);
     }
 
     public Long getId() {
@@ -46,6 +69,18 @@ public class UserPrincipal implements UserDetails {
         return email;
     }
 
+    public int getTokenVersion() {
+        return tokenVersion;
+    }
+
+    // Role names without the ROLE_ prefix, as stored in the roles table
+    public List<String> getRoleNames() {
+        return authorities.stream()
+                .map(GrantedAuthority::getAuthority)
+                .map(authority -> authority.startsWith("ROLE_") ? authority.substring(5) : authority)
+                .collect(Collectors.toList());
+    }
+
     @Override
     public String getUsername() {
         return username;
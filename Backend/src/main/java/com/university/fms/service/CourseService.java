@@ -1,11 +1,24 @@
 package com.university.fms.service;
 
 import com.university.fms.dto.request.CourseRequest;
+import com.university.fms.dto.response.CourseResponse;
+import com.university.fms.dto.response.CourseSummary;
+import com.university.fms.dto.response.CursorPage;
 import com.university.fms.entity.Course;
 import com.university.fms.entity.Department;
 import com.university.fms.repository.CourseRepository;
+import com.university.fms.repository.DegreeProgramRepository;
 import com.university.fms.repository.DepartmentRepository;
+import com.university.fms.repository.StudentEnrollmentRepository;
+import com.university.fms.search.FullTextSearchIndex;
+import com.university.fms.search.SearchResults;
+import com.university.fms.stats.AcademicRecords;
+import com.university.fms.stats.DashboardCounters;
+import com.university.fms.stats.DashboardCounters.Metric;
+import com.university.fms.stats.EnrollmentCube;
+import com.university.fms.util.TransactionUtils;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -22,31 +35,81 @@ public class CourseService {
     @Autowired
     private DepartmentRepository departmentRepository;
 
-    public List<Course> getAllCourses() {
-        return courseRepository.findAll();
+    @Autowired
+    private FullTextSearchIndex fullTextSearchIndex;
+
+    @Autowired
+    private EnrollmentService enrollmentService;
+
+    @Autowired
+    private StudentEnrollmentRepository enrollmentRepository;
+
+    @Autowired
+    private DashboardCounters dashboardCounters;
+
+    @Autowired
+    private EnrollmentCube enrollmentCube;
+
+    @Autowired
+    private AcademicRecords academicRecords;
+
+    @Autowired
+    private PrerequisiteGraph prerequisiteGraph;
+
+    @Autowired
+    private DegreeProgramRepository programRepository;
+
+    @Value("${app.search.max-results}")
+    private int maxSearchResults;
+
+    public List<CourseSummary> getAllCourses() {
+        return courseRepository.findAllSummaries();
+    }
+
+    public Optional<CourseResponse> getCourseById(Long id) {
+        return courseRepository.findResponseById(id);
     }
 
-    public Optional<Course> getCourseById(Long id) {
-        return courseRepository.findById(id);
+    public List<CourseSummary> getCoursesByDepartment(Long departmentId) {
+        return courseRepository.findSummariesByDepartmentId(departmentId);
     }
 
-    public Optional<Course> getCourseByCode(String code) {
-        return courseRepository.findByCode(code);
+    public List<CourseSummary> getCoursesByFaculty(Long facultyId) {
+        return courseRepository.findSummariesByFacultyId(facultyId);
     }
 
-    public List<Course> getCoursesByDepartment(Long departmentId) {
-        return courseRepository.findByDepartmentId(departmentId);
+    public CursorPage<CourseSummary> getCoursesPage(Long after, Integer limit, boolean includeCount) {
+        int pageSize = CursorPage.clampLimit(limit);
+        List<CourseSummary> rows = courseRepository.findSummariesAfter(
+                CursorPage.startAfter(after), CursorPage.probe(pageSize));
+        return CursorPage.of(rows, pageSize, CourseSummary::getId, includeCount ? courseRepository.count() : null);
     }
 
-    public List<Course> getCoursesByFaculty(Long facultyId) {
-        return courseRepository.findByFacultyId(facultyId);
+    public CursorPage<CourseSummary> getCoursesPageByDepartment(Long departmentId, Long after, Integer limit, boolean includeCount) {
+        int pageSize = CursorPage.clampLimit(limit);
+        List<CourseSummary> rows = courseRepository.findSummariesByDepartmentIdAfter(departmentId,
+                CursorPage.startAfter(after), CursorPage.probe(pageSize));
+        return CursorPage.of(rows, pageSize, CourseSummary::getId,
+                includeCount ? courseRepository.countByDepartmentId(departmentId) : null);
     }
 
-    public List<Course> searchCourses(String keyword) {
-        return courseRepository.searchByKeyword(keyword);
+    public CursorPage<CourseSummary> getCoursesPageByFaculty(Long facultyId, Long after, Integer limit, boolean includeCount) {
+        int pageSize = CursorPage.clampLimit(limit);
+        List<CourseSummary> rows = courseRepository.findSummariesByFacultyIdAfter(facultyId,
+                CursorPage.startAfter(after), CursorPage.probe(pageSize));
+        return CursorPage.of(rows, pageSize, CourseSummary::getId,
+                includeCount ? courseRepository.countByFacultyId(facultyId) : null);
     }
 
-    public Course createCourse(CourseRequest request) {
+    public List<CourseSummary> searchCourses(String keyword) {
+        if (!fullTextSearchIndex.isReady()) {
+            return courseRepository.searchByKeyword(keyword);
+        }
+        List<Long> ids = fullTextSearchIndex.searchCourses(keyword, maxSearchResults);
+        return SearchResults.inRankOrder(ids, courseRepository.findSummariesByIdIn(ids), CourseSummary::getId);
+    }
+
+    public CourseResponse createCourse(CourseRequest request) {
         if (courseRepository.existsByCode(request.getCode())) {
             throw new RuntimeException("Course with code '" + request.getCode() + "' already exists");
         }
@@ -62,15 +125,21 @@ public class CourseService {
         course.setCode(request.getCode());
         course.setDescription(request.getDescription());
         course.setCredits(request.getCredits());
+        course.setCapacity(request.getCapacity());
         course.setDepartment(department);
 
-        return courseRepository.save(course);
+        dashboardCounters.add(Metric.COURSES, department, 1);
+        return CourseResponse.from(courseRepository.save(course));
     }
 
-    public Course updateCourse(Long id, CourseRequest request) {
+    public CourseResponse updateCourse(Long id, CourseRequest request) {
         Course course = courseRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Course not found with id: " + id));
 
+        Integer previousCapacity = course.getCapacity();
+        Integer previousCredits = course.getCredits();
+        Department previousDepartment = course.getDepartment();
+
         // Check if another course with the same code exists
         Optional<Course> existingCourse = courseRepository.findByCode(request.getCode());
         if (existingCourse.isPresent() && !existingCourse.get().getId().equals(id)) {
@@ -81,19 +150,70 @@ public class CourseService {
         course.setCode(request.getCode());
         course.setDescription(request.getDescription());
         course.setCredits(request.getCredits());
+        course.setCapacity(request.getCapacity());
 
         if (request.getDepartmentId() != null) {
             Department department = departmentRepository.findById(request.getDepartmentId())
                     .orElseThrow(() -> new RuntimeException("Department not found with id: " + request.getDepartmentId()));
+            if (dashboardCounters.isMove(course.getDepartment(), department)) {
+                // A course's enrollments count towards its current department
+                dashboardCounters.move(Metric.COURSES, course.getDepartment(), department, 1);
+                dashboardCounters.move(Metric.ENROLLMENTS, course.getDepartment(), department,
+                        enrollmentRepository.countByCourseId(id));
+            }
             course.setDepartment(department);
         }
 
-        return courseRepository.save(course);
+        if (previousCapacity != null && (request.getCapacity() == null || request.getCapacity() > previousCapacity)) {
+            TransactionUtils.afterCommit(() -> enrollmentService.promoteWaitlisted(id));
+        }
+        enrollmentCube.courseSaved(course);
+        academicRecords.courseChanged(id, previousCredits, previousDepartment, course.getCredits(), course.getDepartment());
+        return CourseResponse.from(courseRepository.save(course));
     }
 
     public void deleteCourse(Long id) {
         Course course = courseRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Course not found with id: " + id));
+        List<String> programs = programRepository.findNamesByRequirementCourseIdIn(List.of(id));
+        if (!programs.isEmpty()) {
+            throw new RuntimeException("Course is required by degree programs " + programs);
+        }
+        long enrollments = enrollmentRepository.countByCourseId(id);
+        academicRecords.courseRemoved(id, course.getCredits(), course.getDepartment());
+        // The join rows naming this course as someone else's prerequisite are owned by those courses
+        courseRepository.findDependentsOf(List.of(id)).forEach(dependent -> dependent.getPrerequisites().remove(course));
         courseRepository.delete(course);
+        prerequisiteGraph.coursesRemoved(List.of(id));
+        dashboardCounters.add(Metric.COURSES, course.getDepartment(), -1);
+        dashboardCounters.add(Metric.ENROLLMENTS, course.getDepartment(), -enrollments);
+        enrollmentCube.courseRemoved(id);
+    }
+
+    public List<CourseSummary> getPrerequisites(Long id) {
+        return courseRepository.findPrerequisiteSummaries(id);
+    }
+
+    public List<CourseSummary> addPrerequisite(Long id, Long prerequisiteId) {
+        Course course = courseRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("Course not found with id: " + id));
+        Course prerequisite = courseRepository.findById(prerequisiteId)
+                .orElseThrow(() -> new RuntimeException("Course not found with id: " + prerequisiteId));
+        if (!course.getPrerequisites().contains(prerequisite)) {
+            prerequisiteGraph.addEdge(id, prerequisiteId);
+            course.getPrerequisites().add(prerequisite);
+            courseRepository.flush();
+        }
+        return courseRepository.findPrerequisiteSummaries(id);
+    }
+
+    public List<CourseSummary> removePrerequisite(Long id, Long prerequisiteId) {
+        Course course = courseRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("Course not found with id: " + id));
+        if (course.getPrerequisites().removeIf(prerequisite -> prerequisite.getId().equals(prerequisiteId))) {
+            prerequisiteGraph.removeEdge(id, prerequisiteId);
+            courseRepository.flush();
+        }
+        return courseRepository.findPrerequisiteSummaries(id);
     }
 }
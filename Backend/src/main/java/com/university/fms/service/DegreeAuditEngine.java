@@ -0,0 +1,422 @@
+package com.university.fms.service;
+
+import com.university.fms.dto.response.DegreeAudit;
+import com.university.fms.dto.response.DegreeAuditRun;
+import com.university.fms.dto.response.RequirementProgress;
+import com.university.fms.entity.Course;
+import com.university.fms.entity.DegreeProgram;
+import com.university.fms.entity.DegreeRequirement;
+import com.university.fms.util.GradePoints;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+// Audits a cohort against a degree program in one pass over the enrollment table. Rows arrive ordered by
+// student and are packed into columnar batches of batch-size students; each full batch goes to a fork-join
+// pool while the stream is still being read, and the pool splits it further so idle workers steal from busy
+// ones. The program is compiled to dense course indices first, so checking a course rule is a few bitset words.
+@Component
+public class DegreeAuditEngine {
+
+    private static final Logger logger = LoggerFactory.getLogger(DegreeAuditEngine.class);
+
+    // Students a task evaluates itself rather than splitting further
+    private static final int SPLIT_THRESHOLD = 64;
+
+    @Value("${app.audits.parallelism}")
+    private int parallelism;
+
+    @Value("${app.audits.batch-size}")
+    private int batchSize;
+
+    private ForkJoinPool pool;
+
+    private final AtomicLong runs = new AtomicLong();
+    private final AtomicLong studentsAudited = new AtomicLong();
+    private final AtomicLong enrollmentsRead = new AtomicLong();
+    private volatile DegreeAuditRun lastRun;
+
+    @PostConstruct
+    public void init() {
+        int workers = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        pool = new ForkJoinPool(workers, forkJoinPool -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(forkJoinPool);
+            thread.setName("degree-audit-" + thread.getPoolIndex());
+            return thread;
+        }, null, false);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdownNow();
+    }
+
+    // rows are AUDIT projections ordered by student. Students of the cohort without a graded enrollment are
+    // audited with an empty transcript; a null cohort means whoever appears in the rows. The program's
+    // requirements and their courses must still be loadable, so call this inside the reading transaction.
+    public DegreeAuditRun audit(DegreeProgram program, Stream<Object[]> rows, Collection<Long> cohort,
+                                boolean incompleteOnly) {
+        long started = System.nanoTime();
+        Program compiled = compile(program);
+        List<Batch> batches = new ArrayList<>();
+        List<ForkJoinTask<?>> tasks = new ArrayList<>();
+        Set<Long> seen = cohort != null ? new HashSet<>() : null;
+        Batch batch = new Batch(batchSize);
+        long enrollments = 0;
+
+        Iterator<Object[]> iterator = rows.iterator();
+        while (iterator.hasNext()) {
+            Object[] row = iterator.next();
+            long studentId = (Long) row[0];
+            if (batch.startsStudent(studentId)) {
+                if (batch.isFull()) {
+                    submit(compiled, batch, batches, tasks);
+                    batch = new Batch(batchSize);
+                }
+                batch.addStudent(studentId);
+                if (seen != null) {
+                    seen.add(studentId);
+                }
+            }
+            Long departmentId = (Long) row[2];
+            batch.addRow((Long) row[1], departmentId != null ? departmentId : 0L, (Integer) row[3], (String) row[4]);
+            enrollments++;
+        }
+        if (cohort != null) {
+            for (Long studentId : new TreeSet<>(cohort)) {
+                if (!seen.contains(studentId)) {
+                    if (batch.isFull()) {
+                        submit(compiled, batch, batches, tasks);
+                        batch = new Batch(batchSize);
+                    }
+                    batch.addStudent(studentId);
+                }
+            }
+        }
+        if (batch.size > 0) {
+            submit(compiled, batch, batches, tasks);
+        }
+
+        tasks.forEach(ForkJoinTask::join);
+        List<DegreeAudit> results = new ArrayList<>();
+        int students = 0;
+        int complete = 0;
+        for (Batch done : batches) {
+            for (int i = 0; i < done.size; i++) {
+                DegreeAudit audit = done.audits[i];
+                students++;
+                if (audit.isComplete()) {
+                    complete++;
+                }
+                if (!incompleteOnly || !audit.isComplete()) {
+                    results.add(audit);
+                }
+            }
+        }
+        // Students of the cohort without enrollments were appended after the streamed ones
+        results.sort(Comparator.comparing(DegreeAudit::getStudentId));
+
+        long elapsedMs = (System.nanoTime() - started) / 1_000_000;
+        DegreeAuditRun run = new DegreeAuditRun(compiled.id, compiled.name, students, complete, enrollments,
+                elapsedMs, LocalDateTime.now(), null);
+        runs.incrementAndGet();
+        studentsAudited.addAndGet(students);
+        enrollmentsRead.addAndGet(enrollments);
+        // Kept for the stats without its results, which can run to a whole cohort
+        lastRun = run;
+        run = new DegreeAuditRun(run.getProgramId(), run.getProgramName(), students, complete, enrollments,
+                elapsedMs, run.getAuditedAt(), results);
+        logger.info("Audited {} students ({} enrollments) against program '{}' in {} ms, {} complete",
+                students, enrollments, compiled.name, elapsedMs, complete);
+        return run;
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("parallelism", pool.getParallelism());
+        stats.put("batchSize", batchSize);
+        stats.put("runs", runs.get());
+        stats.put("studentsAudited", studentsAudited.get());
+        stats.put("enrollmentsRead", enrollmentsRead.get());
+        DegreeAuditRun run = lastRun;
+        if (run != null) {
+            stats.put("lastProgram", run.getProgramName());
+            stats.put("lastStudents", run.getStudents());
+            stats.put("lastEnrollments", run.getEnrollments());
+            stats.put("lastElapsedMs", run.getElapsedMs());
+            stats.put("lastStudentsPerSecond", run.getElapsedMs() > 0
+                    ? run.getStudents() * 1000L / run.getElapsedMs() : run.getStudents());
+            stats.put("lastAuditedAt", run.getAuditedAt());
+        }
+        return stats;
+    }
+
+    private void submit(Program program, Batch batch, List<Batch> batches, List<ForkJoinTask<?>> tasks) {
+        batch.seal();
+        batches.add(batch);
+        tasks.add(pool.submit(new AuditTask(program, batch, 0, batch.size)));
+    }
+
+    private static Program compile(DegreeProgram program) {
+        // Indices follow course codes, so missing courses come out in code order
+        SortedMap<String, Long> coursesByCode = new TreeMap<>();
+        Map<Long, Integer> departmentSlots = new HashMap<>();
+        List<DegreeRequirement> requirements = program.getRequirements();
+        for (DegreeRequirement requirement : requirements) {
+            for (Course course : requirement.getCourses()) {
+                coursesByCode.put(course.getCode(), course.getId());
+            }
+            if (requirement.getDepartment() != null) {
+                departmentSlots.putIfAbsent(requirement.getDepartment().getId(), departmentSlots.size());
+            }
+        }
+        Map<Long, Integer> courseIndexes = new HashMap<>();
+        String[] courseCodes = coursesByCode.keySet().toArray(new String[0]);
+        for (int index = 0; index < courseCodes.length; index++) {
+            courseIndexes.put(coursesByCode.get(courseCodes[index]), index);
+        }
+        int words = (courseCodes.length + Long.SIZE - 1) / Long.SIZE;
+        Rule[] rules = new Rule[requirements.size()];
+        for (int i = 0; i < rules.length; i++) {
+            DegreeRequirement requirement = requirements.get(i);
+            long[] courses = new long[words];
+            for (Course course : requirement.getCourses()) {
+                int index = courseIndexes.get(course.getId());
+                courses[index / Long.SIZE] |= 1L << index;
+            }
+            rules[i] = new Rule(requirement, courses,
+                    requirement.getDepartment() != null ? departmentSlots.get(requirement.getDepartment().getId()) : -1);
+        }
+        return new Program(program.getId(), program.getName(), courseIndexes, courseCodes,
+                departmentSlots, rules);
+    }
+
+    private static DegreeAudit evaluate(Program program, Batch batch, int student, Set<Long> counted) {
+        long earned = 0;
+        long gpaCredits = 0;
+        long qualityTenths = 0;
+        long[] departmentCredits = new long[program.departmentSlots.size()];
+        long[] passed = new long[(program.courseCodes.length + Long.SIZE - 1) / Long.SIZE];
+        int[] passedCredits = new int[program.courseCodes.length];
+        counted.clear();
+
+        for (int row = batch.starts[student]; row < batch.starts[student + 1]; row++) {
+            String grade = batch.grades[row];
+            int credits = batch.credits[row];
+            Integer tenths = GradePoints.tenths(grade);
+            if (tenths != null) {
+                gpaCredits += credits;
+                qualityTenths += (long) tenths * credits;
+            }
+            // A course passed more than once counts once
+            if (GradePoints.isEarned(grade) && counted.add(batch.courseIds[row])) {
+                earned += credits;
+                Integer slot = program.departmentSlots.get(batch.departmentIds[row]);
+                if (slot != null) {
+                    departmentCredits[slot] += credits;
+                }
+                Integer index = program.courseIndexes.get(batch.courseIds[row]);
+                if (index != null) {
+                    passed[index / Long.SIZE] |= 1L << index;
+                    passedCredits[index] = credits;
+                }
+            }
+        }
+
+        Double gpa = gpaCredits > 0 ? Math.round(qualityTenths * 100.0 / gpaCredits) / 1000.0 : null;
+        List<RequirementProgress> progress = new ArrayList<>(program.rules.length);
+        boolean complete = true;
+        for (Rule rule : program.rules) {
+            double achieved;
+            List<String> missing = null;
+            switch (rule.type) {
+                case TOTAL_CREDITS -> achieved = earned;
+                case DEPARTMENT_CREDITS -> achieved = departmentCredits[rule.departmentSlot];
+                case REQUIRED_COURSES -> {
+                    achieved = countOf(rule.courses, passed);
+                    missing = new ArrayList<>();
+                    for (int word = 0; word < rule.courses.length; word++) {
+                        long gap = rule.courses[word] & ~passed[word];
+                        while (gap != 0) {
+                            missing.add(program.courseCodes[word * Long.SIZE + Long.numberOfTrailingZeros(gap)]);
+                            gap &= gap - 1;
+                        }
+                    }
+                }
+                case ELECTIVE_POOL -> achieved = rule.byCourses
+                        ? countOf(rule.courses, passed) : creditsOf(rule.courses, passed, passedCredits);
+                case MIN_GPA -> achieved = gpa != null ? gpa : 0;
+                default -> throw new IllegalStateException("Unknown requirement type: " + rule.type);
+            }
+            boolean satisfied = rule.type == DegreeRequirement.Type.MIN_GPA
+                    ? gpa != null && gpa >= rule.required : achieved >= rule.required;
+            complete &= satisfied;
+            progress.add(new RequirementProgress(rule.id, rule.name, rule.type.name(), satisfied, rule.required,
+                    achieved, missing));
+        }
+        return new DegreeAudit(batch.studentIds[student], complete, earned, gpa, progress);
+    }
+
+    private static int countOf(long[] courses, long[] passed) {
+        int count = 0;
+        for (int word = 0; word < courses.length; word++) {
+            count += Long.bitCount(courses[word] & passed[word]);
+        }
+        return count;
+    }
+
+    private static long creditsOf(long[] courses, long[] passed, int[] passedCredits) {
+        long credits = 0;
+        for (int word = 0; word < courses.length; word++) {
+            long hits = courses[word] & passed[word];
+            while (hits != 0) {
+                credits += passedCredits[word * Long.SIZE + Long.numberOfTrailingZeros(hits)];
+                hits &= hits - 1;
+            }
+        }
+        return credits;
+    }
+
+    // Evaluates a range of a batch's students, halving it until it is small enough to do in place
+    private static final class AuditTask extends RecursiveAction {
+        private final Program program;
+        private final Batch batch;
+        private final int from;
+        private final int to;
+
+        AuditTask(Program program, Batch batch, int from, int to) {
+            this.program = program;
+            this.batch = batch;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > SPLIT_THRESHOLD) {
+                int middle = (from + to) >>> 1;
+                invokeAll(new AuditTask(program, batch, from, middle), new AuditTask(program, batch, middle, to));
+                return;
+            }
+            Set<Long> counted = new HashSet<>();
+            for (int student = from; student < to; student++) {
+                batch.audits[student] = evaluate(program, batch, student, counted);
+            }
+        }
+    }
+
+    // Enrollment rows of consecutive students, column by column; student i owns rows starts[i] to starts[i + 1]
+    private static final class Batch {
+        private final long[] studentIds;
+        private final int[] starts;
+        private final DegreeAudit[] audits;
+        private int size;
+        private long[] courseIds;
+        private long[] departmentIds;  // 0 when the course has no department
+        private int[] credits;
+        private String[] grades;
+        private int rows;
+
+        Batch(int capacity) {
+            studentIds = new long[capacity];
+            starts = new int[capacity + 1];
+            audits = new DegreeAudit[capacity];
+            int rowCapacity = capacity * 8;
+            courseIds = new long[rowCapacity];
+            departmentIds = new long[rowCapacity];
+            credits = new int[rowCapacity];
+            grades = new String[rowCapacity];
+        }
+
+        boolean isFull() {
+            return size == studentIds.length;
+        }
+
+        boolean startsStudent(long studentId) {
+            return size == 0 || studentIds[size - 1] != studentId;
+        }
+
+        void addStudent(long studentId) {
+            studentIds[size] = studentId;
+            starts[size] = rows;
+            size++;
+        }
+
+        void addRow(long courseId, long departmentId, int courseCredits, String grade) {
+            if (rows == courseIds.length) {
+                int grown = rows * 2;
+                courseIds = Arrays.copyOf(courseIds, grown);
+                departmentIds = Arrays.copyOf(departmentIds, grown);
+                credits = Arrays.copyOf(credits, grown);
+                grades = Arrays.copyOf(grades, grown);
+            }
+            courseIds[rows] = courseId;
+            departmentIds[rows] = departmentId;
+            credits[rows] = courseCredits;
+            grades[rows] = grade;
+            rows++;
+        }
+
+        // Closes the last student's row range; the batch is read-only from here on
+        void seal() {
+            starts[size] = rows;
+        }
+    }
+
+    // Immutable once compiled
+    private static final class Program {
+        private final Long id;
+        private final String name;
+        private final Map<Long, Integer> courseIndexes;   // course id -> dense index
+        private final String[] courseCodes;               // dense index -> course code
+        private final Map<Long, Integer> departmentSlots; // department id -> slot in the per-student credit totals
+        private final Rule[] rules;
+
+        Program(Long id, String name, Map<Long, Integer> courseIndexes, String[] courseCodes,
+                Map<Long, Integer> departmentSlots, Rule[] rules) {
+            this.id = id;
+            this.name = name;
+            this.courseIndexes = courseIndexes;
+            this.courseCodes = courseCodes;
+            this.departmentSlots = departmentSlots;
+            this.rules = rules;
+        }
+    }
+
+    private static final class Rule {
+        private final Long id;
+        private final String name;
+        private final DegreeRequirement.Type type;
+        private final long[] courses;        // bitset over the program's course indices
+        private final int departmentSlot;    // -1 unless the rule counts a department's credits
+        private final boolean byCourses;     // elective pools count courses when minCourses is set, else credits
+        private final double required;
+
+        Rule(DegreeRequirement requirement, long[] courses, int departmentSlot) {
+            this.id = requirement.getId();
+            this.name = requirement.getName();
+            this.type = requirement.getType();
+            this.courses = courses;
+            this.departmentSlot = departmentSlot;
+            this.byCourses = requirement.getMinCourses() != null;
+            this.required = switch (type) {
+                case REQUIRED_COURSES -> countOf(courses, courses);
+                case ELECTIVE_POOL -> byCourses ? requirement.getMinCourses() : requirement.getMinCredits();
+                case MIN_GPA -> requirement.getMinGpa();
+                default -> requirement.getMinCredits();
+            };
+        }
+    }
+}
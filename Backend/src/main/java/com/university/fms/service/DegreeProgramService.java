@@ -0,0 +1,163 @@
+package com.university.fms.service;
+
+import com.university.fms.dto.request.DegreeProgramRequest;
+import com.university.fms.dto.request.DegreeRequirementRequest;
+import com.university.fms.dto.response.DegreeAudit;
+import com.university.fms.dto.response.DegreeAuditRun;
+import com.university.fms.dto.response.DegreeProgramResponse;
+import com.university.fms.entity.Course;
+import com.university.fms.entity.DegreeProgram;
+import com.university.fms.entity.DegreeRequirement;
+import com.university.fms.entity.Department;
+import com.university.fms.repository.CourseRepository;
+import com.university.fms.repository.DegreeProgramRepository;
+import com.university.fms.repository.DepartmentRepository;
+import com.university.fms.repository.StudentEnrollmentRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+
+@Service
+@Transactional
+public class DegreeProgramService {
+
+    @Autowired
+    private DegreeProgramRepository programRepository;
+
+    @Autowired
+    private DepartmentRepository departmentRepository;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private StudentEnrollmentRepository enrollmentRepository;
+
+    @Autowired
+    private DegreeAuditEngine auditEngine;
+
+    public List<DegreeProgramResponse> getAllPrograms() {
+        return programRepository.findAllByOrderByNameAsc().stream().map(DegreeProgramResponse::from).toList();
+    }
+
+    public Optional<DegreeProgramResponse> getProgramById(Long id) {
+        return programRepository.findById(id).map(DegreeProgramResponse::from);
+    }
+
+    public DegreeProgramResponse createProgram(DegreeProgramRequest request) {
+        if (programRepository.existsByName(request.getName())) {
+            throw new RuntimeException("Degree program '" + request.getName() + "' already exists");
+        }
+
+        DegreeProgram program = new DegreeProgram(request.getName(), request.getDescription());
+        for (DegreeRequirementRequest requirement : request.getRequirements()) {
+            program.getRequirements().add(toRequirement(program, requirement));
+        }
+        return DegreeProgramResponse.from(programRepository.save(program));
+    }
+
+    // Requirements are replaced as a whole
+    public DegreeProgramResponse updateProgram(Long id, DegreeProgramRequest request) {
+        DegreeProgram program = programRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("Degree program not found with id: " + id));
+
+        Optional<DegreeProgram> existingProgram = programRepository.findByName(request.getName());
+        if (existingProgram.isPresent() && !existingProgram.get().getId().equals(id)) {
+            throw new RuntimeException("Degree program '" + request.getName() + "' already exists");
+        }
+
+        program.setName(request.getName());
+        program.setDescription(request.getDescription());
+        program.getRequirements().clear();
+        for (DegreeRequirementRequest requirement : request.getRequirements()) {
+            program.getRequirements().add(toRequirement(program, requirement));
+        }
+        return DegreeProgramResponse.from(programRepository.save(program));
+    }
+
+    public void deleteProgram(Long id) {
+        DegreeProgram program = programRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("Degree program not found with id: " + id));
+        programRepository.delete(program);
+    }
+
+    // Without studentIds every student with a graded enrollment is audited, from a single streamed read
+    @Transactional(readOnly = true)
+    public DegreeAuditRun auditCohort(Long id, List<Long> studentIds, boolean incompleteOnly) {
+        DegreeProgram program = programRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("Degree program not found with id: " + id));
+        Set<Long> cohort = studentIds != null && !studentIds.isEmpty() ? new HashSet<>(studentIds) : null;
+        try (Stream<Object[]> rows = cohort != null
+                ? enrollmentRepository.streamAuditRowsByStudentIdIn(cohort)
+                : enrollmentRepository.streamAuditRows()) {
+            return auditEngine.audit(program, rows, cohort, incompleteOnly);
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public DegreeAudit auditStudent(Long id, Long studentId) {
+        return auditCohort(id, List.of(studentId), false).getResults().get(0);
+    }
+
+    private DegreeRequirement toRequirement(DegreeProgram program, DegreeRequirementRequest request) {
+        DegreeRequirement requirement = new DegreeRequirement(program, request.getName(), request.getType());
+        String label = "Requirement '" + request.getName() + "'";
+        switch (request.getType()) {
+            case TOTAL_CREDITS -> requirement.setMinCredits(require(request.getMinCredits(), label, "minCredits"));
+            case DEPARTMENT_CREDITS -> {
+                Long departmentId = require(request.getDepartmentId(), label, "departmentId");
+                Department department = departmentRepository.findById(departmentId)
+                        .orElseThrow(() -> new RuntimeException("Department not found with id: " + departmentId));
+                requirement.setDepartment(department);
+                requirement.setMinCredits(require(request.getMinCredits(), label, "minCredits"));
+            }
+            case REQUIRED_COURSES -> requirement.setCourses(coursesOf(request, label));
+            case ELECTIVE_POOL -> {
+                if ((request.getMinCourses() == null) == (request.getMinCredits() == null)) {
+                    throw new RuntimeException(label + " needs exactly one of minCourses and minCredits");
+                }
+                requirement.setCourses(coursesOf(request, label));
+                if (request.getMinCourses() != null && request.getMinCourses() > requirement.getCourses().size()) {
+                    throw new RuntimeException(label + " asks for more courses than its pool holds");
+                }
+                requirement.setMinCourses(request.getMinCourses());
+                requirement.setMinCredits(request.getMinCredits());
+            }
+            case MIN_GPA -> {
+                Double minGpa = require(request.getMinGpa(), label, "minGpa");
+                if (minGpa > 4.0) {
+                    throw new RuntimeException(label + " asks for a GPA above 4.0");
+                }
+                requirement.setMinGpa(minGpa);
+            }
+        }
+        return requirement;
+    }
+
+    private Set<Course> coursesOf(DegreeRequirementRequest request, String label) {
+        if (request.getCourseIds() == null || request.getCourseIds().isEmpty()) {
+            throw new RuntimeException(label + " needs courseIds");
+        }
+        Set<Long> courseIds = new LinkedHashSet<>(request.getCourseIds());
+        List<Course> courses = courseRepository.findAllById(courseIds);
+        if (courses.size() != courseIds.size()) {
+            courses.forEach(course -> courseIds.remove(course.getId()));
+            throw new RuntimeException("Course not found with id: " + courseIds.iterator().next());
+        }
+        return new HashSet<>(courses);
+    }
+
+    private static <T> T require(T value, String label, String field) {
+        if (value == null) {
+            throw new RuntimeException(label + " needs " + field);
+        }
+        return value;
+    }
+}
@@ -1,14 +1,23 @@
 package com.university.fms.service;
 
 import com.university.fms.dto.request.DepartmentRequest;
+import com.university.fms.dto.response.CursorPage;
+import com.university.fms.entity.Course;
 import com.university.fms.entity.Department;
+import com.university.fms.repository.CourseRepository;
+import com.university.fms.repository.DegreeProgramRepository;
 import com.university.fms.repository.DepartmentRepository;
+import com.university.fms.stats.AcademicRecords;
+import com.university.fms.stats.DashboardCounters;
+import com.university.fms.stats.EnrollmentCube;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
 
 @Service
 @Transactional
@@ -17,10 +26,36 @@ public class DepartmentService {
     @Autowired
     private DepartmentRepository departmentRepository;
 
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private DashboardCounters dashboardCounters;
+
+    @Autowired
+    private EnrollmentCube enrollmentCube;
+
+    @Autowired
+    private AcademicRecords academicRecords;
+
+    @Autowired
+    private PrerequisiteGraph prerequisiteGraph;
+
+    @Autowired
+    private DegreeProgramRepository programRepository;
+
     public List<Department> getAllDepartments() {
         return departmentRepository.findAll();
     }
 
+    public CursorPage<Department> getDepartmentsPage(Long after, Integer limit, boolean includeCount) {
+        int pageSize = CursorPage.clampLimit(limit);
+        List<Department> rows = departmentRepository.findByIdGreaterThanOrderByIdAsc(
+                CursorPage.startAfter(after), CursorPage.probe(pageSize));
+        return CursorPage.of(rows, pageSize, Department::getId,
+                includeCount ? departmentRepository.count() : null);
+    }
+
     public Optional<Department> getDepartmentById(Long id) {
         return departmentRepository.findById(id);
     }
@@ -38,7 +73,10 @@ public class DepartmentService {
         department.setName(request.getName());
         department.setDescription(request.getDescription());
 
-        return departmentRepository.save(department);
+        Department saved = departmentRepository.save(department);
+        dashboardCounters.departmentSaved(saved.getId(), saved.getName());
+        enrollmentCube.departmentSaved(saved.getId(), saved.getName());
+        return saved;
     }
 
     public Department updateDepartment(Long id, DepartmentRequest request) {
@@ -54,12 +92,31 @@ public class DepartmentService {
         department.setName(request.getName());
         department.setDescription(request.getDescription());
 
+        dashboardCounters.departmentSaved(id, department.getName());
+        enrollmentCube.departmentSaved(id, department.getName());
         return departmentRepository.save(department);
     }
 
     public void deleteDepartment(Long id) {
         Department department = departmentRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Department not found with id: " + id));
+        List<Long> courseIds = department.getCourses().stream().map(Course::getId).toList();
+        Set<String> programs = new TreeSet<>(programRepository.findNamesByRequirementDepartmentId(id));
+        if (!courseIds.isEmpty()) {
+            programs.addAll(programRepository.findNamesByRequirementCourseIdIn(courseIds));
+        }
+        if (!programs.isEmpty()) {
+            throw new RuntimeException("Department or its courses are required by degree programs " + programs);
+        }
+        // Its courses go with it, so other departments' courses must stop listing them as prerequisites
+        if (!courseIds.isEmpty()) {
+            courseRepository.findDependentsOf(courseIds).forEach(dependent ->
+                    dependent.getPrerequisites().removeIf(prerequisite -> courseIds.contains(prerequisite.getId())));
+            prerequisiteGraph.coursesRemoved(courseIds);
+        }
         departmentRepository.delete(department);
+        dashboardCounters.departmentRemoved(id);
+        enrollmentCube.departmentRemoved(id);
+        academicRecords.departmentRemoved();
     }
 }
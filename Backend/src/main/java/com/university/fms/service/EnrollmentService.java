@@ -0,0 +1,482 @@
+package com.university.fms.service;
+
+import com.university.fms.dto.request.EnrollmentRequest;
+import com.university.fms.dto.response.BatchResult;
+import com.university.fms.dto.response.CursorPage;
+import com.university.fms.dto.response.EnrollmentResponse;
+import com.university.fms.entity.Course;
+import com.university.fms.entity.Department;
+import com.university.fms.entity.StudentEnrollment;
+import com.university.fms.entity.StudentEnrollmentId;
+import com.university.fms.entity.User;
+import com.university.fms.entity.WaitlistEntry;
+import com.university.fms.repository.CourseRepository;
+import com.university.fms.repository.StudentEnrollmentRepository;
+import com.university.fms.repository.UserRepository;
+import com.university.fms.repository.WaitlistEntryRepository;
+import com.university.fms.service.SeatAllocator.SectionKey;
+import com.university.fms.stats.AcademicRecords;
+import com.university.fms.stats.DashboardCounters;
+import com.university.fms.stats.DashboardCounters.Metric;
+import com.university.fms.stats.EnrollmentCube;
+import com.university.fms.util.GradePoints;
+import com.university.fms.util.TransactionUtils;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+// Writes run through TransactionTemplate so a transaction that loses a lock wait or a duplicate-key race
+// can be retried as a whole; batches are applied in primary key order so concurrent registrations
+// lock rows in the same sequence and cannot deadlock on each other. Seats are taken from SeatAllocator
+// rather than by counting rows, and a student who finds a section full is put on its waitlist.
+@Service
+public class EnrollmentService {
+
+    private static final Logger logger = LoggerFactory.getLogger(EnrollmentService.class);
+
+    private static final String STUDENT_ROLE = "STUDENT";
+
+    private static final Comparator<EnrollmentRequest> KEY_ORDER = Comparator
+            .comparing(EnrollmentRequest::getStudentId)
+            .thenComparing(EnrollmentRequest::getCourseId)
+            .thenComparing(EnrollmentRequest::getSemester)
+            .thenComparing(EnrollmentRequest::getYear);
+
+    // Public sort keys -> entity paths; anything else is rejected rather than passed into the query
+    private static final Map<String, String> SORTABLE = Map.of(
+            "enrollmentDate", "enrollmentDate",
+            "semester", "semester",
+            "year", "year",
+            "grade", "grade",
+            "courseCode", "course.code",
+            "studentUsername", "student.username");
+
+    @Autowired
+    private StudentEnrollmentRepository enrollmentRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private WaitlistEntryRepository waitlistRepository;
+
+    @Autowired
+    private SeatAllocator seatAllocator;
+
+    @Autowired
+    private PrerequisiteGraph prerequisiteGraph;
+
+    @Autowired
+    private DashboardCounters dashboardCounters;
+
+    @Autowired
+    private EnrollmentCube enrollmentCube;
+
+    @Autowired
+    private AcademicRecords academicRecords;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Value("${app.enrollment.max-attempts}")
+    private int maxAttempts;
+
+    // Promotions run after the freeing transaction has committed, one section at a time
+    private ExecutorService promotionExecutor;
+
+    @PostConstruct
+    public void init() {
+        promotionExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "waitlist-promotion");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        promotionExecutor.shutdownNow();
+    }
+
+    @Transactional(readOnly = true)
+    public Page<EnrollmentResponse> getEnrollmentsByStudent(Long studentId, int page, Integer size, String sort) {
+        return enrollmentRepository.findResponsesByStudentId(studentId, pageRequest(page, size, sort));
+    }
+
+    @Transactional(readOnly = true)
+    public Page<EnrollmentResponse> getEnrollmentsByCourse(Long courseId, String semester, Integer year,
+                                                           int page, Integer size, String sort) {
+        return enrollmentRepository.findResponsesByCourseId(courseId, semester, year, pageRequest(page, size, sort));
+    }
+
+    public EnrollmentResponse enroll(EnrollmentRequest request) {
+        return withRetry(() -> {
+            User student = userRepository.findById(request.getStudentId())
+                    .orElseThrow(() -> new RuntimeException("Student not found with id: " + request.getStudentId()));
+            if (student.getRoles().stream().noneMatch(role -> STUDENT_ROLE.equals(role.getName()))) {
+                throw new RuntimeException("User " + student.getId() + " is not a student");
+            }
+            Course course = courseRepository.findById(request.getCourseId())
+                    .orElseThrow(() -> new RuntimeException("Course not found with id: " + request.getCourseId()));
+            if (enrollmentRepository.existsById(key(request))) {
+                throw new RuntimeException("Student is already enrolled in course " + course.getCode()
+                        + " for " + request.getSemester() + " " + request.getYear());
+            }
+            List<Long> missing = prerequisiteGraph.missingPrerequisites(student.getId(), course.getId());
+            if (!missing.isEmpty()) {
+                throw new RuntimeException(missingPrerequisitesMessage(course, missing));
+            }
+
+            Optional<WaitlistEntry> queued = waitlistRepository.findByStudentIdAndCourseIdAndSemesterAndYear(
+                    student.getId(), course.getId(), request.getSemester(), request.getYear());
+            if (queued.isPresent()) {
+                return waitlisted(queued.get());
+            }
+            // Seats freed while others are queued belong to the queue, not to whoever asks next
+            boolean queueWaiting = course.getCapacity() != null && waitlistRepository
+                    .existsByCourseIdAndSemesterAndYear(course.getId(), request.getSemester(), request.getYear());
+            if (queueWaiting || !seatAllocator.tryReserve(course.getId(), request.getSemester(), request.getYear(),
+                    course.getCapacity())) {
+                return waitlisted(waitlistRepository.saveAndFlush(
+                        new WaitlistEntry(student, course, request.getSemester(), request.getYear())));
+            }
+
+            StudentEnrollment enrollment = enrollmentRepository.saveAndFlush(
+                    new StudentEnrollment(student, course, request.getSemester(), request.getYear()));
+            dashboardCounters.add(Metric.ENROLLMENTS, course.getDepartment(), 1);
+            enrollmentCube.enrolled(enrollment);
+            return EnrollmentResponse.from(enrollment);
+        });
+    }
+
+    // Drops the enrollment, or takes the student off the section's waitlist if they were still queued
+    public void drop(Long studentId, Long courseId, String semester, Integer year) {
+        withRetry(() -> {
+            Optional<StudentEnrollment> enrollment = enrollmentRepository
+                    .findById(new StudentEnrollmentId(studentId, courseId, semester, year));
+            if (enrollment.isPresent()) {
+                enrollmentRepository.delete(enrollment.get());
+                dashboardCounters.add(Metric.ENROLLMENTS, enrollment.get().getCourse().getDepartment(), -1);
+                enrollmentCube.dropped(enrollment.get());
+                academicRecords.dropped(enrollment.get());
+                prerequisiteGraph.dropped(List.of(enrollment.get()));
+                seatAllocator.release(courseId, semester, year);
+                TransactionUtils.afterCommit(() -> promoteWaitlisted(new SectionKey(courseId, semester, year)));
+                return null;
+            }
+            WaitlistEntry entry = waitlistRepository
+                    .findByStudentIdAndCourseIdAndSemesterAndYear(studentId, courseId, semester, year)
+                    .orElseThrow(() -> new RuntimeException("Enrollment not found"));
+            waitlistRepository.delete(entry);
+            return null;
+        });
+    }
+
+    public EnrollmentResponse assignGrade(EnrollmentRequest request) {
+        if (!GradePoints.isKnown(request.getGrade())) {
+            throw new RuntimeException("Unknown grade: " + request.getGrade());
+        }
+        return withRetry(() -> {
+            StudentEnrollment enrollment = enrollmentRepository.findById(key(request))
+                    .orElseThrow(() -> new RuntimeException("Enrollment not found"));
+            String previousGrade = enrollment.getGrade();
+            enrollment.setGrade(GradePoints.normalize(request.getGrade()));
+            enrollmentCube.regraded(enrollment, previousGrade);
+            academicRecords.regraded(enrollment, previousGrade);
+            prerequisiteGraph.regraded(enrollment, previousGrade);
+            return EnrollmentResponse.from(enrollment);
+        });
+    }
+
+    public BatchResult enrollAll(List<EnrollmentRequest> requests) {
+        return withRetry(() -> {
+            BatchResult result = new BatchResult();
+            List<Integer> order = keyOrder(requests);
+            Set<Long> studentIds = requests.stream().map(EnrollmentRequest::getStudentId).collect(Collectors.toSet());
+            Set<Long> courseIds = requests.stream().map(EnrollmentRequest::getCourseId).collect(Collectors.toSet());
+
+            Set<Long> students = new HashSet<>(userRepository.findIdsByRoleNameAndIdIn(STUDENT_ROLE, studentIds));
+            Map<Long, Course> courses = new HashMap<>();
+            courseRepository.findAllById(courseIds).forEach(course -> courses.put(course.getId(), course));
+            Set<StudentEnrollmentId> taken = new HashSet<>();
+            enrollmentRepository.findKeys(studentIds, courseIds).forEach(row ->
+                    taken.add(new StudentEnrollmentId((Long) row[0], (Long) row[1], (String) row[2], (Integer) row[3])));
+            Set<StudentEnrollmentId> queued = new HashSet<>();
+            waitlistRepository.findKeys(studentIds, courseIds).forEach(row ->
+                    queued.add(new StudentEnrollmentId((Long) row[0], (Long) row[1], (String) row[2], (Integer) row[3])));
+
+            List<StudentEnrollment> enrollments = new ArrayList<>(requests.size());
+            List<WaitlistEntry> waitlisted = new ArrayList<>();
+            // Section -> whether it has a queue; as in enroll, freed seats belong to students already waiting
+            Map<SectionKey, Boolean> queueWaiting = new HashMap<>();
+            for (int index : order) {
+                EnrollmentRequest request = requests.get(index);
+                if (!students.contains(request.getStudentId())) {
+                    result.rejected(index, "Student not found with id: " + request.getStudentId());
+                } else if (!courses.containsKey(request.getCourseId())) {
+                    result.rejected(index, "Course not found with id: " + request.getCourseId());
+                } else if (!taken.add(key(request))) {
+                    result.rejected(index, "Student is already enrolled in this course for "
+                            + request.getSemester() + " " + request.getYear());
+                } else if (queued.contains(key(request))) {
+                    result.rejected(index, "Student is already on the waitlist for this course for "
+                            + request.getSemester() + " " + request.getYear());
+                } else {
+                    User student = userRepository.getReferenceById(request.getStudentId());
+                    Course course = courses.get(request.getCourseId());
+                    List<Long> missing = prerequisiteGraph.missingPrerequisites(student.getId(), course.getId());
+                    if (!missing.isEmpty()) {
+                        result.rejected(index, missingPrerequisitesMessage(course, missing));
+                    } else {
+                        SectionKey section = new SectionKey(course.getId(), request.getSemester(), request.getYear());
+                        boolean behindQueue = course.getCapacity() != null && queueWaiting.computeIfAbsent(section, key ->
+                                waitlistRepository.existsByCourseIdAndSemesterAndYear(key.getCourseId(),
+                                        key.getSemester(), key.getYear()));
+                        if (!behindQueue && seatAllocator.tryReserve(course.getId(), request.getSemester(),
+                                request.getYear(), course.getCapacity())) {
+                            enrollments.add(new StudentEnrollment(student, course, request.getSemester(), request.getYear()));
+                        } else {
+                            waitlisted.add(new WaitlistEntry(student, course, request.getSemester(), request.getYear()));
+                            // Later items for the section queue behind this one
+                            queueWaiting.put(section, true);
+                        }
+                    }
+                }
+            }
+
+            enrollmentRepository.saveAll(enrollments);
+            waitlistRepository.saveAll(waitlisted);
+            enrollmentRepository.flush();
+            dashboardCounters.addEach(Metric.ENROLLMENTS, departments(enrollments), 1);
+            enrollmentCube.enrolledAll(enrollments);
+            result.setSucceeded(enrollments.size());
+            result.setWaitlisted(waitlisted.size());
+            return result;
+        });
+    }
+
+    public BatchResult dropAll(List<EnrollmentRequest> requests) {
+        return withRetry(() -> {
+            BatchResult result = new BatchResult();
+            Map<StudentEnrollmentId, StudentEnrollment> existing = lockExisting(requests);
+
+            List<StudentEnrollment> dropped = new ArrayList<>(requests.size());
+            for (int index : keyOrder(requests)) {
+                StudentEnrollment enrollment = existing.remove(key(requests.get(index)));
+                if (enrollment == null) {
+                    result.rejected(index, "Enrollment not found");
+                } else {
+                    dropped.add(enrollment);
+                }
+            }
+
+            enrollmentRepository.deleteAll(dropped);
+            enrollmentRepository.flush();
+            dashboardCounters.addEach(Metric.ENROLLMENTS, departments(dropped), -1);
+            enrollmentCube.droppedAll(dropped);
+            academicRecords.droppedAll(dropped);
+            prerequisiteGraph.dropped(dropped);
+            Set<SectionKey> freed = new LinkedHashSet<>();
+            for (StudentEnrollment enrollment : dropped) {
+                seatAllocator.release(enrollment.getCourse().getId(), enrollment.getSemester(), enrollment.getYear());
+                freed.add(new SectionKey(enrollment.getCourse().getId(), enrollment.getSemester(), enrollment.getYear()));
+            }
+            TransactionUtils.afterCommit(() -> freed.forEach(this::promoteWaitlisted));
+            result.setSucceeded(dropped.size());
+            return result;
+        });
+    }
+
+    public BatchResult assignGrades(List<EnrollmentRequest> requests) {
+        return withRetry(() -> {
+            BatchResult result = new BatchResult();
+            Map<StudentEnrollmentId, StudentEnrollment> existing = lockExisting(requests);
+
+            for (int index : keyOrder(requests)) {
+                EnrollmentRequest request = requests.get(index);
+                StudentEnrollment enrollment = existing.get(key(request));
+                if (enrollment == null) {
+                    result.rejected(index, "Enrollment not found");
+                } else if (!GradePoints.isKnown(request.getGrade())) {
+                    result.rejected(index, "Unknown grade: " + request.getGrade());
+                } else {
+                    String previousGrade = enrollment.getGrade();
+                    enrollment.setGrade(GradePoints.normalize(request.getGrade()));
+                    enrollmentCube.regraded(enrollment, previousGrade);
+                    academicRecords.regraded(enrollment, previousGrade);
+                    prerequisiteGraph.regraded(enrollment, previousGrade);
+                    result.setSucceeded(result.getSucceeded() + 1);
+                }
+            }
+
+            // Dirty entities are written as one batched UPDATE statement group at flush
+            enrollmentRepository.flush();
+            return result;
+        });
+    }
+
+    // Picks up seats freed outside this node's counters (other instances, manual edits, rollbacks that were
+    // missed) and lets the waitlists take any that turned up
+    @Scheduled(fixedDelayString = "${app.enrollment.seat-reconcile-interval}",
+               initialDelayString = "${app.enrollment.seat-reconcile-interval}")
+    public void reconcileSeats() {
+        Set<SectionKey> sections = new LinkedHashSet<>(seatAllocator.reconcile());
+        waitlistRepository.findWaitingSections().forEach(row ->
+                sections.add(new SectionKey((Long) row[0], (String) row[1], (Integer) row[2])));
+        sections.forEach(this::promoteWaitlisted);
+    }
+
+    // Called once a course's capacity has been raised
+    public void promoteWaitlisted(Long courseId) {
+        promotionExecutor.execute(() -> waitlistRepository.findWaitingSectionsByCourseId(courseId).forEach(row ->
+                promoteAll(new SectionKey((Long) row[0], (String) row[1], (Integer) row[2]))));
+    }
+
+    private void promoteWaitlisted(SectionKey section) {
+        promotionExecutor.execute(() -> promoteAll(section));
+    }
+
+    private void promoteAll(SectionKey section) {
+        try {
+            int promoted = 0;
+            while (promoteNext(section)) {
+                promoted++;
+            }
+            if (promoted > 0) {
+                logger.info("Promoted {} waitlisted students into course {} for {} {}", promoted,
+                        section.getCourseId(), section.getSemester(), section.getYear());
+            }
+        } catch (RuntimeException e) {
+            logger.warn("Waitlist promotion failed for course {}: {}", section.getCourseId(), e.getMessage());
+        }
+    }
+
+    // Moves the head of the section's waitlist into the section if a seat is free; false when nothing moved
+    private boolean promoteNext(SectionKey section) {
+        return withRetry(() -> {
+            List<WaitlistEntry> head = waitlistRepository.findHeadForUpdate(section.getCourseId(),
+                    section.getSemester(), section.getYear(), PageRequest.of(0, 1));
+            if (head.isEmpty()) {
+                return false;
+            }
+            WaitlistEntry entry = head.get(0);
+            Course course = entry.getCourse();
+            StudentEnrollmentId key = new StudentEnrollmentId(entry.getStudent().getId(), course.getId(),
+                    entry.getSemester(), entry.getYear());
+            if (!enrollmentRepository.existsById(key)) {
+                if (!seatAllocator.tryReserve(course.getId(), entry.getSemester(), entry.getYear(), course.getCapacity())) {
+                    return false;
+                }
+                StudentEnrollment enrollment = enrollmentRepository.save(new StudentEnrollment(entry.getStudent(),
+                        course, entry.getSemester(), entry.getYear()));
+                dashboardCounters.add(Metric.ENROLLMENTS, course.getDepartment(), 1);
+                enrollmentCube.enrolled(enrollment);
+            }
+            waitlistRepository.delete(entry);
+            return true;
+        });
+    }
+
+    private String missingPrerequisitesMessage(Course course, List<Long> missing) {
+        return "Prerequisites not completed for course " + course.getCode() + ": "
+                + String.join(", ", courseRepository.findCodesByIdIn(missing));
+    }
+
+    private EnrollmentResponse waitlisted(WaitlistEntry entry) {
+        return EnrollmentResponse.waitlisted(entry, waitlistRepository.findPosition(entry.getCourse().getId(),
+                entry.getSemester(), entry.getYear(), entry.getCreatedAt(), entry.getId()));
+    }
+
+    private Map<StudentEnrollmentId, StudentEnrollment> lockExisting(List<EnrollmentRequest> requests) {
+        Set<Long> studentIds = requests.stream().map(EnrollmentRequest::getStudentId).collect(Collectors.toSet());
+        Set<Long> courseIds = requests.stream().map(EnrollmentRequest::getCourseId).collect(Collectors.toSet());
+        Map<StudentEnrollmentId, StudentEnrollment> byKey = new HashMap<>();
+        enrollmentRepository.findForUpdate(studentIds, courseIds)
+                .forEach(enrollment -> byKey.put(enrollment.getId(), enrollment));
+        return byKey;
+    }
+
+    // Runs the whole unit of work again when it lost a deadlock, timed out on a lock or collided with a
+    // concurrent insert of the same key; the retry re-reads state, so a collision becomes a normal rejection
+    private <T> T withRetry(Supplier<T> work) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(status -> work.get());
+            } catch (PessimisticLockingFailureException | DataIntegrityViolationException e) {
+                if (attempt >= maxAttempts) {
+                    throw e;
+                }
+                logger.debug("Enrollment transaction attempt {} failed, retrying: {}", attempt, e.getMessage());
+                backOff(attempt);
+            }
+        }
+    }
+
+    private static void backOff(int attempt) {
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(10L << attempt, 20L << attempt));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while retrying enrollment transaction", e);
+        }
+    }
+
+    private static List<Department> departments(List<StudentEnrollment> enrollments) {
+        return enrollments.stream().map(enrollment -> enrollment.getCourse().getDepartment()).toList();
+    }
+
+    // Indexes of the requests sorted by primary key, so the original positions can still be reported
+    private static List<Integer> keyOrder(List<EnrollmentRequest> requests) {
+        List<Integer> order = new ArrayList<>(requests.size());
+        for (int i = 0; i < requests.size(); i++) {
+            order.add(i);
+        }
+        order.sort(Comparator.comparing(requests::get, KEY_ORDER));
+        return order;
+    }
+
+    private static StudentEnrollmentId key(EnrollmentRequest request) {
+        return new StudentEnrollmentId(request.getStudentId(), request.getCourseId(),
+                request.getSemester(), request.getYear());
+    }
+
+    private static Pageable pageRequest(int page, Integer size, String sort) {
+        Sort order = Sort.by(Sort.Direction.DESC, "year").and(Sort.by("semester"));
+        if (sort != null && !sort.isBlank()) {
+            String[] parts = sort.split(",");
+            String property = SORTABLE.get(parts[0].trim());
+            if (property == null) {
+                throw new IllegalArgumentException("Cannot sort enrollments by: " + parts[0].trim());
+            }
+            Sort.Direction direction = parts.length > 1
+                    ? Sort.Direction.fromString(parts[1].trim()) : Sort.Direction.ASC;
+            order = Sort.by(direction, property);
+        }
+        // Key columns last so offsets stay stable between pages
+        order = order.and(Sort.by("student.id", "course.id", "year", "semester"));
+        return PageRequest.of(Math.max(page, 0), CursorPage.clampLimit(size), order);
+    }
+}
@@ -1,13 +1,25 @@
 package com.university.fms.service;
 
 import com.university.fms.dto.request.FacultyProfileRequest;
+import com.university.fms.dto.response.CursorPage;
+import com.university.fms.dto.response.FacultyProfileResponse;
+import com.university.fms.dto.response.FacultyProfileSummary;
 import com.university.fms.entity.Department;
 import com.university.fms.entity.FacultyProfile;
 import com.university.fms.entity.User;
 import com.university.fms.repository.DepartmentRepository;
 import com.university.fms.repository.FacultyProfileRepository;
+import com.university.fms.repository.PublicationRepository;
 import com.university.fms.repository.UserRepository;
+import com.university.fms.search.FacultyNameFuzzyIndex;
+import com.university.fms.search.FullTextSearchIndex;
+import com.university.fms.search.SearchResults;
+import com.university.fms.security.OwnershipEvaluator;
+import com.university.fms.stats.DashboardCounters;
+import com.university.fms.stats.DashboardCounters.Metric;
+import com.university.fms.util.TransactionUtils;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -27,27 +39,74 @@ public class FacultyProfileService {
     @Autowired
     private DepartmentRepository departmentRepository;
 
-    public List<FacultyProfile> getAllFacultyProfiles() {
-        return facultyProfileRepository.findAll();
+    @Autowired
+    private PublicationRepository publicationRepository;
+
+    @Autowired
+    private OwnershipEvaluator ownershipEvaluator;
+
+    @Autowired
+    private DashboardCounters dashboardCounters;
+
+    @Autowired
+    private FullTextSearchIndex fullTextSearchIndex;
+
+    @Autowired
+    private FacultyNameFuzzyIndex facultyNameFuzzyIndex;
+
+    @Value("${app.search.max-results}")
+    private int maxSearchResults;
+
+    @Value("${app.search.fuzzy.max-distance}")
+    private int fuzzyMaxDistance;
+
+    public List<FacultyProfileSummary> getAllFacultyProfiles() {
+        return facultyProfileRepository.findAllSummaries();
     }
 
-    public Optional<FacultyProfile> getFacultyProfileById(Long id) {
-        return facultyProfileRepository.findById(id);
+    public Optional<FacultyProfileResponse> getFacultyProfileById(Long id) {
+        return facultyProfileRepository.findResponseById(id);
     }
 
-    public Optional<FacultyProfile> getFacultyProfileByUserId(Long userId) {
-        return facultyProfileRepository.findByUserId(userId);
+    public Optional<FacultyProfileResponse> getFacultyProfileByUserId(Long userId) {
+        return facultyProfileRepository.findResponseByUserId(userId);
     }
 
-    public List<FacultyProfile> getFacultyProfilesByDepartment(Long departmentId) {
-        return facultyProfileRepository.findByDepartmentId(departmentId);
+    public List<FacultyProfileSummary> getFacultyProfilesByDepartment(Long departmentId) {
+        return facultyProfileRepository.findSummariesByDepartmentId(departmentId);
+    }
+
+    public CursorPage<FacultyProfileSummary> getFacultyProfilesPage(Long after, Integer limit, boolean includeCount) {
+        int pageSize = CursorPage.clampLimit(limit);
+        List<FacultyProfileSummary> rows = facultyProfileRepository.findSummariesAfter(
+                CursorPage.startAfter(after), CursorPage.probe(pageSize));
+        return CursorPage.of(rows, pageSize, FacultyProfileSummary::getId,
+                includeCount ? facultyProfileRepository.count() : null);
+    }
+
+    public CursorPage<FacultyProfileSummary> getFacultyProfilesPageByDepartment(Long departmentId, Long after, Integer limit, boolean includeCount) {
+        int pageSize = CursorPage.clampLimit(limit);
+        List<FacultyProfileSummary> rows = facultyProfileRepository.findSummariesByDepartmentIdAfter(departmentId,
+                CursorPage.startAfter(after), CursorPage.probe(pageSize));
+        return CursorPage.of(rows, pageSize, FacultyProfileSummary::getId,
+                includeCount ? facultyProfileRepository.countByDepartmentId(departmentId) : null);
+    }
+
+    public List<FacultyProfileSummary> searchFacultyProfiles(String keyword) {
+        if (!fullTextSearchIndex.isReady()) {
+            return facultyProfileRepository.searchByKeyword(keyword);
+        }
+        List<Long> ids = fullTextSearchIndex.searchFacultyProfiles(keyword, maxSearchResults);
+        return SearchResults.inRankOrder(ids, facultyProfileRepository.findSummariesByIdIn(ids), FacultyProfileSummary::getId);
     }
 
-    public List<FacultyProfile> searchFacultyProfiles(String keyword) {
-        return facultyProfileRepository.searchByKeyword(keyword);
+    public List<FacultyProfileSummary> fuzzySearchFacultyProfiles(String keyword, Integer maxDistance) {
+        int distance = maxDistance != null ? Math.max(0, Math.min(maxDistance, fuzzyMaxDistance)) : fuzzyMaxDistance;
+        List<Long> ids = facultyNameFuzzyIndex.search(keyword, distance, maxSearchResults);
+        return SearchResults.inRankOrder(ids, facultyProfileRepository.findSummariesByIdIn(ids), FacultyProfileSummary::getId);
     }
 
-    public FacultyProfile createFacultyProfile(FacultyProfileRequest request) {
+    public FacultyProfileResponse createFacultyProfile(FacultyProfileRequest request) {
         User user = userRepository.findById(request.getUserId())
                 .orElseThrow(() -> new RuntimeException("User not found with id: " + request.getUserId()));
 
@@ -68,10 +127,13 @@ public class FacultyProfileService {
         facultyProfile.setOfficeLocation(request.getOfficeLocation());
         facultyProfile.setHireDate(request.getHireDate());
 
-        return facultyProfileRepository.save(facultyProfile);
+        FacultyProfile saved = facultyProfileRepository.save(facultyProfile);
+        TransactionUtils.afterCommit(() -> ownershipEvaluator.facultyProfileSaved(saved.getId(), user.getId()));
+        dashboardCounters.add(Metric.FACULTY, department, 1);
+        return FacultyProfileResponse.from(saved);
     }
 
-    public FacultyProfile updateFacultyProfile(Long id, FacultyProfileRequest request) {
+    public FacultyProfileResponse updateFacultyProfile(Long id, FacultyProfileRequest request) {
         FacultyProfile facultyProfile = facultyProfileRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Faculty profile not found with id: " + id));
 
@@ -86,15 +148,25 @@ public class FacultyProfileService {
         if (request.getDepartmentId() != null) {
             Department department = departmentRepository.findById(request.getDepartmentId())
                     .orElseThrow(() -> new RuntimeException("Department not found with id: " + request.getDepartmentId()));
+            if (dashboardCounters.isMove(facultyProfile.getDepartment(), department)) {
+                // A faculty member's publications count towards their current department
+                dashboardCounters.move(Metric.FACULTY, facultyProfile.getDepartment(), department, 1);
+                dashboardCounters.move(Metric.PUBLICATIONS, facultyProfile.getDepartment(), department,
+                        publicationRepository.countByFacultyId(id));
+            }
             facultyProfile.setDepartment(department);
         }
 
-        return facultyProfileRepository.save(facultyProfile);
+        return FacultyProfileResponse.from(facultyProfileRepository.save(facultyProfile));
     }
 
     public void deleteFacultyProfile(Long id) {
         FacultyProfile facultyProfile = facultyProfileRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Faculty profile not found with id: " + id));
+        long publications = publicationRepository.countByFacultyId(id);
         facultyProfileRepository.delete(facultyProfile);
+        TransactionUtils.afterCommit(() -> ownershipEvaluator.facultyProfileRemoved(id));
+        dashboardCounters.add(Metric.FACULTY, facultyProfile.getDepartment(), -1);
+        dashboardCounters.add(Metric.PUBLICATIONS, facultyProfile.getDepartment(), -publications);
     }
 }
@@ -0,0 +1,389 @@
+package com.university.fms.service;
+
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.university.fms.dto.request.CourseRequest;
+import com.university.fms.dto.request.FacultyProfileRequest;
+import com.university.fms.dto.request.PublicationRequest;
+import com.university.fms.dto.response.ImportReport;
+import com.university.fms.entity.Course;
+import com.university.fms.entity.Department;
+import com.university.fms.entity.FacultyProfile;
+import com.university.fms.entity.Publication;
+import com.university.fms.entity.User;
+import com.university.fms.repository.CourseRepository;
+import com.university.fms.repository.DepartmentRepository;
+import com.university.fms.repository.FacultyProfileRepository;
+import com.university.fms.repository.PublicationRepository;
+import com.university.fms.repository.UserRepository;
+import com.university.fms.security.OwnershipEvaluator;
+import com.university.fms.stats.DashboardCounters;
+import com.university.fms.stats.DashboardCounters.Metric;
+import com.university.fms.util.CsvReader;
+import com.university.fms.util.TransactionUtils;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// Bulk imports stream the upload row by row and commit every chunk in its own transaction,
+// so this service deliberately has no class-level @Transactional
+@Service
+public class ImportService {
+
+    public enum Format {
+        CSV, NDJSON;
+
+        // An explicit format parameter wins over the request's Content-Type
+        public static Format resolve(String format, String contentType) {
+            String hint = format != null ? format : contentType;
+            if (hint != null) {
+                String normalized = hint.toLowerCase(Locale.ROOT);
+                if (normalized.contains("csv")) {
+                    return CSV;
+                }
+                if (normalized.contains("json")) {
+                    return NDJSON;
+                }
+            }
+            throw new IllegalArgumentException("Unsupported import format: " + hint + " (use csv or ndjson)");
+        }
+    }
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private DepartmentRepository departmentRepository;
+
+    @Autowired
+    private FacultyProfileRepository facultyProfileRepository;
+
+    @Autowired
+    private PublicationRepository publicationRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private OwnershipEvaluator ownershipEvaluator;
+
+    @Autowired
+    private DashboardCounters dashboardCounters;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private Validator validator;
+
+    @Value("${app.import.chunk-size}")
+    private int chunkSize;
+
+    @Value("${app.import.max-reported-errors}")
+    private int maxReportedErrors;
+
+    public ImportReport importCourses(InputStream input, Format format) throws IOException {
+        return runImport(input, format, CourseRequest.class, this::writeCourses);
+    }
+
+    public ImportReport importFacultyProfiles(InputStream input, Format format) throws IOException {
+        return runImport(input, format, FacultyProfileRequest.class, this::writeFacultyProfiles);
+    }
+
+    public ImportReport importPublications(InputStream input, Format format) throws IOException {
+        return runImport(input, format, PublicationRequest.class, this::writePublications);
+    }
+
+    private void writeCourses(List<ImportRow<CourseRequest>> rows, Map<Integer, String> rejections) {
+        Set<String> codes = rows.stream().map(row -> row.request.getCode()).collect(Collectors.toSet());
+        Set<String> takenCodes = new HashSet<>(courseRepository.findExistingCodes(codes));
+        Map<Long, Department> departments = loadById(departmentRepository.findAllById(
+                ids(rows, CourseRequest::getDepartmentId)), Department::getId);
+
+        List<Course> courses = new ArrayList<>(rows.size());
+        for (ImportRow<CourseRequest> row : rows) {
+            CourseRequest request = row.request;
+            if (!takenCodes.add(request.getCode())) {
+                rejections.put(row.number, "Course with code '" + request.getCode() + "' already exists");
+                continue;
+            }
+            Department department = null;
+            if (request.getDepartmentId() != null) {
+                department = departments.get(request.getDepartmentId());
+                if (department == null) {
+                    rejections.put(row.number, "Department not found with id: " + request.getDepartmentId());
+                    continue;
+                }
+            }
+
+            Course course = new Course();
+            course.setName(request.getName());
+            course.setCode(request.getCode());
+            course.setDescription(request.getDescription());
+            course.setCredits(request.getCredits());
+            course.setCapacity(request.getCapacity());
+            course.setDepartment(department);
+            courses.add(course);
+        }
+        courseRepository.saveAll(courses);
+        dashboardCounters.addEach(Metric.COURSES, courses.stream().map(Course::getDepartment).toList(), 1);
+    }
+
+    private void writeFacultyProfiles(List<ImportRow<FacultyProfileRequest>> rows, Map<Integer, String> rejections) {
+        Set<Long> userIds = ids(rows, FacultyProfileRequest::getUserId);
+        Map<Long, User> users = loadById(userRepository.findAllById(userIds), User::getId);
+        Set<Long> usersWithProfile = new HashSet<>(facultyProfileRepository.findUserIdsWithProfile(userIds));
+        Map<Long, Department> departments = loadById(departmentRepository.findAllById(
+                ids(rows, FacultyProfileRequest::getDepartmentId)), Department::getId);
+
+        List<FacultyProfile> profiles = new ArrayList<>(rows.size());
+        for (ImportRow<FacultyProfileRequest> row : rows) {
+            FacultyProfileRequest request = row.request;
+            User user = request.getUserId() != null ? users.get(request.getUserId()) : null;
+            if (user == null) {
+                rejections.put(row.number, "User not found with id: " + request.getUserId());
+                continue;
+            }
+            if (!usersWithProfile.add(user.getId())) {
+                rejections.put(row.number, "User " + user.getId() + " already has a faculty profile");
+                continue;
+            }
+            Department department = null;
+            if (request.getDepartmentId() != null) {
+                department = departments.get(request.getDepartmentId());
+                if (department == null) {
+                    rejections.put(row.number, "Department not found with id: " + request.getDepartmentId());
+                    continue;
+                }
+            }
+
+            FacultyProfile profile = new FacultyProfile();
+            profile.setUser(user);
+            profile.setFirstName(request.getFirstName());
+            profile.setLastName(request.getLastName());
+            profile.setBio(request.getBio());
+            profile.setProfilePictureUrl(request.getProfilePictureUrl());
+            profile.setDepartment(department);
+            profile.setPhone(request.getPhone());
+            profile.setOfficeLocation(request.getOfficeLocation());
+            profile.setHireDate(request.getHireDate());
+            profiles.add(profile);
+        }
+
+        List<FacultyProfile> saved = facultyProfileRepository.saveAll(profiles);
+        dashboardCounters.addEach(Metric.FACULTY, saved.stream().map(FacultyProfile::getDepartment).toList(), 1);
+        TransactionUtils.afterCommit(() -> saved.forEach(profile ->
+                ownershipEvaluator.facultyProfileSaved(profile.getId(), profile.getUser().getId())));
+    }
+
+    private void writePublications(List<ImportRow<PublicationRequest>> rows, Map<Integer, String> rejections) {
+        Map<Long, FacultyProfile> faculty = loadById(facultyProfileRepository.findAllById(
+                ids(rows, PublicationRequest::getFacultyId)), FacultyProfile::getId);
+
+        List<Publication> publications = new ArrayList<>(rows.size());
+        for (ImportRow<PublicationRequest> row : rows) {
+            PublicationRequest request = row.request;
+            FacultyProfile author = request.getFacultyId() != null ? faculty.get(request.getFacultyId()) : null;
+            if (author == null) {
+                rejections.put(row.number, "Faculty not found with id: " + request.getFacultyId());
+                continue;
+            }
+
+            Publication publication = new Publication();
+            publication.setFaculty(author);
+            publication.setTitle(request.getTitle());
+            publication.setPublicationDate(request.getPublicationDate());
+            publication.setJournalName(request.getJournalName());
+            publication.setUrl(request.getUrl());
+            publication.setAbstractText(request.getAbstractText());
+            publication.setDoi(request.getDoi());
+            publications.add(publication);
+        }
+
+        List<Publication> saved = publicationRepository.saveAll(publications);
+        dashboardCounters.addEach(Metric.PUBLICATIONS,
+                saved.stream().map(publication -> publication.getFaculty().getDepartment()).toList(), 1);
+        TransactionUtils.afterCommit(() -> saved.forEach(publication ->
+                ownershipEvaluator.publicationSaved(publication.getId(), publication.getFaculty().getId())));
+    }
+
+    private <T> ImportReport runImport(InputStream input, Format format, Class<T> type,
+                                       ChunkWriter<T> writer) throws IOException {
+        long started = System.nanoTime();
+        ImportReport report = new ImportReport(maxReportedErrors);
+        List<ImportRow<T>> chunk = new ArrayList<>(chunkSize);
+        int rowNumber = 0;
+
+        try (RowSource source = format == Format.CSV ? new CsvRowSource(input) : new NdjsonRowSource(input)) {
+            while (true) {
+                Map<String, ?> values;
+                try {
+                    values = source.next();
+                } catch (IOException e) {
+                    report.rejected(rowNumber + 1, "Malformed input, import stopped: " + e.getMessage());
+                    break;
+                }
+                if (values == null) {
+                    break;
+                }
+                rowNumber++;
+
+                T request;
+                try {
+                    request = objectMapper.convertValue(values, type);
+                } catch (IllegalArgumentException e) {
+                    report.rejected(rowNumber, "Invalid value: " + rootMessage(e));
+                    continue;
+                }
+                Set<ConstraintViolation<T>> violations = validator.validate(request);
+                if (!violations.isEmpty()) {
+                    report.rejected(rowNumber, violations.stream()
+                            .map(violation -> violation.getPropertyPath() + " " + violation.getMessage())
+                            .sorted()
+                            .collect(Collectors.joining(", ")));
+                    continue;
+                }
+
+                chunk.add(new ImportRow<>(rowNumber, request));
+                if (chunk.size() >= chunkSize) {
+                    writeChunk(chunk, writer, report);
+                    chunk.clear();
+                }
+            }
+        }
+        if (!chunk.isEmpty()) {
+            writeChunk(chunk, writer, report);
+        }
+
+        report.setTotalRows(rowNumber);
+        report.setElapsedMillis((System.nanoTime() - started) / 1_000_000);
+        return report;
+    }
+
+    // Rejections are only applied to the report once the chunk has committed
+    private <T> void writeChunk(List<ImportRow<T>> chunk, ChunkWriter<T> writer, ImportReport report) {
+        Map<Integer, String> rejections = new TreeMap<>();
+        try {
+            transactionTemplate.executeWithoutResult(status -> writer.write(chunk, rejections));
+        } catch (RuntimeException e) {
+            String message = "Chunk rolled back: " + rootMessage(e);
+            chunk.forEach(row -> report.rejected(row.number, message));
+            return;
+        }
+        rejections.forEach(report::rejected);
+        report.imported(chunk.size() - rejections.size());
+    }
+
+    private static <T> Set<Long> ids(List<ImportRow<T>> rows, Function<T, Long> idExtractor) {
+        return rows.stream()
+                .map(row -> idExtractor.apply(row.request))
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+    }
+
+    private static <E> Map<Long, E> loadById(List<E> entities, Function<E, Long> idExtractor) {
+        Map<Long, E> byId = new HashMap<>();
+        entities.forEach(entity -> byId.put(idExtractor.apply(entity), entity));
+        return byId;
+    }
+
+    private static String rootMessage(Throwable e) {
+        Throwable root = e;
+        while (root.getCause() != null && root.getCause() != root) {
+            root = root.getCause();
+        }
+        return root.getMessage();
+    }
+
+    @FunctionalInterface
+    private interface ChunkWriter<T> {
+        void write(List<ImportRow<T>> rows, Map<Integer, String> rejections);
+    }
+
+    private static class ImportRow<T> {
+        private final int number;
+        private final T request;
+
+        ImportRow(int number, T request) {
+            this.number = number;
+            this.request = request;
+        }
+    }
+
+    private interface RowSource extends Closeable {
+        // Next row keyed by field name, or null at the end of input
+        Map<String, ?> next() throws IOException;
+    }
+
+    // First record is the header; empty cells are left out so they bind as null
+    private static class CsvRowSource implements RowSource {
+        private final CsvReader reader;
+        private final List<String> header;
+
+        CsvRowSource(InputStream input) throws IOException {
+            reader = new CsvReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+            List<String> names = reader.readRecord();
+            if (names == null) {
+                header = Collections.emptyList();
+                return;
+            }
+            header = new ArrayList<>(names.size());
+            for (String name : names) {
+                header.add(name.replace("\uFEFF", "").trim());
+            }
+        }
+
+        @Override
+        public Map<String, ?> next() throws IOException {
+            List<String> record = reader.readRecord();
+            if (record == null) {
+                return null;
+            }
+            Map<String, String> values = new HashMap<>();
+            for (int i = 0; i < Math.min(header.size(), record.size()); i++) {
+                if (!record.get(i).isEmpty()) {
+                    values.put(header.get(i), record.get(i));
+                }
+            }
+            return values;
+        }
+
+        @Override
+        public void close() throws IOException {
+            reader.close();
+        }
+    }
+
+    private class NdjsonRowSource implements RowSource {
+        private final MappingIterator<Map<String, Object>> iterator;
+
+        NdjsonRowSource(InputStream input) throws IOException {
+            iterator = objectMapper.readerForMapOf(Object.class).readValues(input);
+        }
+
+        @Override
+        public Map<String, ?> next() throws IOException {
+            return iterator.hasNextValue() ? iterator.nextValue() : null;
+        }
+
+        @Override
+        public void close() throws IOException {
+            iterator.close();
+        }
+    }
+}
@@ -0,0 +1,301 @@
+package com.university.fms.service;
+
+import com.university.fms.entity.StudentEnrollment;
+import com.university.fms.repository.CourseRepository;
+import com.university.fms.repository.StudentEnrollmentRepository;
+import com.university.fms.util.GradePoints;
+import com.university.fms.util.TransactionUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Course prerequisites as a DAG over dense course indices. Every edge change recompiles each course's
+// transitive prerequisites into a bitset, and each student's completed courses are kept as a bitset too,
+// loaded from the enrollment table when the student is checked and read again after any change to their
+// passing grades or once completed-ttl has passed. An eligibility check is then one AND-NOT per 64 courses
+// with no database access.
+@Component
+public class PrerequisiteGraph {
+
+    private static final Logger logger = LoggerFactory.getLogger(PrerequisiteGraph.class);
+
+    private static final long[] NONE = new long[0];
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private StudentEnrollmentRepository enrollmentRepository;
+
+    // Bounds how long a grade changed on another node goes unseen here
+    @Value("${app.enrollment.completed-ttl}")
+    private long completedTtlMs;
+
+    // Course id -> dense index; indices are never reused, so cached student bitsets stay valid
+    private final Map<Long, Integer> indexes = new ConcurrentHashMap<>();
+    private final AtomicInteger nextIndex = new AtomicInteger();
+
+    // Course id -> direct prerequisites, as committed; guarded by this
+    private final Map<Long, Set<Long>> edges = new HashMap<>();
+
+    // {course, prerequisite} pairs whose transaction has not completed yet; guarded by this
+    private final List<Long[]> pendingEdges = new ArrayList<>();
+
+    private volatile Compiled compiled = new Compiled(new long[0][], new Long[0]);
+
+    // Student id -> courses completed with a passing grade; replaced, never mutated in place
+    private final Map<Long, Completed> completed = new ConcurrentHashMap<>();
+
+    // Bumped before every invalidation, so a load that overlapped one does not stay cached
+    private final AtomicLong invalidations = new AtomicLong();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void load() {
+        edges.clear();
+        for (Object[] row : courseRepository.findPrerequisiteEdges()) {
+            edges.computeIfAbsent((Long) row[0], missing -> new HashSet<>()).add((Long) row[1]);
+        }
+        recompile();
+        logger.info("Prerequisite graph loaded with {} courses having prerequisites", edges.size());
+    }
+
+    // Refuses the edge when the prerequisite already depends on the course, otherwise holds it as pending
+    // until the current transaction completes. Pending edges take part in the cycle check, so two concurrent
+    // additions cannot close a cycle between them.
+    public synchronized void addEdge(Long courseId, Long prerequisiteId) {
+        if (courseId.equals(prerequisiteId)) {
+            throw new RuntimeException("A course cannot be its own prerequisite");
+        }
+        List<Long> path = pathBetween(prerequisiteId, courseId);
+        if (path != null) {
+            throw new RuntimeException("Prerequisite would create a cycle through courses " + path);
+        }
+        Long[] edge = {courseId, prerequisiteId};
+        pendingEdges.add(edge);
+        TransactionUtils.afterCommit(() -> settle(edge, true));
+        TransactionUtils.afterRollback(() -> settle(edge, false));
+    }
+
+    public void removeEdge(Long courseId, Long prerequisiteId) {
+        TransactionUtils.afterCommit(() -> removeNow(courseId, prerequisiteId));
+    }
+
+    // Drops the courses and every edge touching them once their deletion commits
+    public void coursesRemoved(Collection<Long> courseIds) {
+        Set<Long> removed = new HashSet<>(courseIds);
+        TransactionUtils.afterCommit(() -> {
+            synchronized (this) {
+                edges.keySet().removeAll(removed);
+                edges.values().forEach(prerequisites -> prerequisites.removeAll(removed));
+                edges.values().removeIf(Set::isEmpty);
+                recompile();
+            }
+        });
+    }
+
+    // Courses the student still has to complete before taking the course, directly or further down the chain;
+    // empty when eligible
+    public List<Long> missingPrerequisites(Long studentId, Long courseId) {
+        Compiled current = compiled;
+        Integer index = indexes.get(courseId);
+        long[] required = index != null && index < current.closure.length ? current.closure[index] : null;
+        if (required == null) {
+            return List.of();
+        }
+        long[] done = completedBy(studentId);
+        List<Long> missing = null;
+        for (int word = 0; word < required.length; word++) {
+            long gap = required[word] & ~(word < done.length ? done[word] : 0L);
+            while (gap != 0) {
+                if (missing == null) {
+                    missing = new ArrayList<>();
+                }
+                missing.add(current.courseIds[word * Long.SIZE + Long.numberOfTrailingZeros(gap)]);
+                gap &= gap - 1;
+            }
+        }
+        return missing != null ? missing : List.of();
+    }
+
+    // previousGrade is what the enrollment held before the current transaction changed it
+    public void regraded(StudentEnrollment enrollment, String previousGrade) {
+        Long studentId = enrollment.getStudent().getId();
+        // Read again when next needed rather than patched: a load running concurrently may have read the
+        // enrollments before this commit, and on a lost grade the student may have passed in another term
+        if (GradePoints.isEarned(enrollment.getGrade()) || GradePoints.isEarned(previousGrade)) {
+            TransactionUtils.afterCommit(() -> invalidate(studentId));
+        }
+    }
+
+    public void dropped(Collection<StudentEnrollment> enrollments) {
+        for (StudentEnrollment enrollment : enrollments) {
+            if (GradePoints.isEarned(enrollment.getGrade())) {
+                Long studentId = enrollment.getStudent().getId();
+                TransactionUtils.afterCommit(() -> invalidate(studentId));
+            }
+        }
+    }
+
+    @Scheduled(fixedRateString = "${app.enrollment.completed-ttl}")
+    public void evictExpired() {
+        long now = System.currentTimeMillis();
+        completed.values().removeIf(entry -> now - entry.loadedAt >= completedTtlMs);
+    }
+
+    private void invalidate(Long studentId) {
+        invalidations.incrementAndGet();
+        completed.remove(studentId);
+    }
+
+    private long[] completedBy(Long studentId) {
+        Completed cached = completed.get(studentId);
+        if (cached != null && System.currentTimeMillis() - cached.loadedAt < completedTtlMs) {
+            return cached.bits;
+        }
+        long seen = invalidations.get();
+        long[] bits = NONE;
+        for (Object[] row : enrollmentRepository.findGradedCourseIdsByStudentId(studentId)) {
+            if (GradePoints.isEarned((String) row[1])) {
+                bits = withBit(bits, indexOf((Long) row[0]));
+            }
+        }
+        Completed loaded = new Completed(bits, System.currentTimeMillis());
+        completed.put(studentId, loaded);
+        // An invalidation after the put removes the entry itself; one since the read is caught here
+        if (invalidations.get() != seen) {
+            completed.remove(studentId, loaded);
+        }
+        return bits;
+    }
+
+    private synchronized void settle(Long[] edge, boolean committed) {
+        pendingEdges.remove(edge);
+        if (committed) {
+            edges.computeIfAbsent(edge[0], missing -> new HashSet<>()).add(edge[1]);
+            recompile();
+        }
+    }
+
+    private synchronized void removeNow(Long courseId, Long prerequisiteId) {
+        Set<Long> prerequisites = edges.get(courseId);
+        if (prerequisites != null && prerequisites.remove(prerequisiteId)) {
+            if (prerequisites.isEmpty()) {
+                edges.remove(courseId);
+            }
+            recompile();
+        }
+    }
+
+    // Closure of each course = its direct prerequisites OR their closures, memoized depth first
+    private void recompile() {
+        edges.forEach((courseId, prerequisites) -> {
+            indexOf(courseId);
+            prerequisites.forEach(this::indexOf);
+        });
+        int size = nextIndex.get();
+        long[][] closure = new long[size][];
+        for (Long courseId : edges.keySet()) {
+            closureOf(courseId, closure, size);
+        }
+        Long[] courseIds = new Long[size];
+        indexes.forEach((courseId, index) -> {
+            if (index < size) {
+                courseIds[index] = courseId;
+            }
+        });
+        compiled = new Compiled(closure, courseIds);
+    }
+
+    private long[] closureOf(Long courseId, long[][] closure, int size) {
+        int index = indexes.get(courseId);
+        if (closure[index] != null) {
+            return closure[index];
+        }
+        long[] bits = new long[(size + Long.SIZE - 1) / Long.SIZE];
+        for (Long prerequisiteId : edges.getOrDefault(courseId, Set.of())) {
+            int prerequisite = indexes.get(prerequisiteId);
+            bits[prerequisite / Long.SIZE] |= 1L << prerequisite;
+            if (edges.containsKey(prerequisiteId)) {
+                long[] inherited = closureOf(prerequisiteId, closure, size);
+                for (int word = 0; word < bits.length; word++) {
+                    bits[word] |= inherited[word];
+                }
+            }
+        }
+        closure[index] = bits;
+        return bits;
+    }
+
+    // Prerequisite chain leading from one course down to another, or null when there is none
+    private List<Long> pathBetween(Long fromId, Long toId) {
+        Map<Long, Long> reachedFrom = new HashMap<>();
+        Deque<Long> pending = new ArrayDeque<>();
+        pending.push(fromId);
+        reachedFrom.put(fromId, null);
+        while (!pending.isEmpty()) {
+            Long courseId = pending.pop();
+            if (courseId.equals(toId)) {
+                LinkedList<Long> path = new LinkedList<>();
+                for (Long step = toId; step != null; step = reachedFrom.get(step)) {
+                    path.addFirst(step);
+                }
+                return path;
+            }
+            List<Long> next = new ArrayList<>(edges.getOrDefault(courseId, Set.of()));
+            for (Long[] edge : pendingEdges) {
+                if (edge[0].equals(courseId)) {
+                    next.add(edge[1]);
+                }
+            }
+            for (Long prerequisiteId : next) {
+                if (!reachedFrom.containsKey(prerequisiteId)) {
+                    reachedFrom.put(prerequisiteId, courseId);
+                    pending.push(prerequisiteId);
+                }
+            }
+        }
+        return null;
+    }
+
+    private int indexOf(Long courseId) {
+        return indexes.computeIfAbsent(courseId, missing -> nextIndex.getAndIncrement());
+    }
+
+    private static long[] withBit(long[] bits, int index) {
+        int word = index / Long.SIZE;
+        long[] copy = Arrays.copyOf(bits, Math.max(bits.length, word + 1));
+        copy[word] |= 1L << index;
+        return copy;
+    }
+
+    private static final class Completed {
+        private final long[] bits;
+        private final long loadedAt;
+
+        Completed(long[] bits, long loadedAt) {
+            this.bits = bits;
+            this.loadedAt = loadedAt;
+        }
+    }
+
+    // Immutable once published
+    private static final class Compiled {
+        private final long[][] closure;  // by course index; null when the course has no prerequisites
+        private final Long[] courseIds;  // index -> course id
+
+        Compiled(long[][] closure, Long[] courseIds) {
+            this.closure = closure;
+            this.courseIds = courseIds;
+        }
+    }
+}
@@ -1,11 +1,23 @@
 package com.university.fms.service;
 
 import com.university.fms.dto.request.PublicationRequest;
+import com.university.fms.dto.response.CursorPage;
+import com.university.fms.dto.response.PublicationResponse;
+import com.university.fms.dto.response.PublicationSummary;
 import com.university.fms.entity.FacultyProfile;
 import com.university.fms.entity.Publication;
 import com.university.fms.repository.FacultyProfileRepository;
 import com.university.fms.repository.PublicationRepository;
+import com.university.fms.search.FullTextSearchIndex;
+import com.university.fms.search.PublicationDuplicateIndex;
+import com.university.fms.search.PublicationSimilarityIndex;
+import com.university.fms.search.SearchResults;
+import com.university.fms.security.OwnershipEvaluator;
+import com.university.fms.stats.DashboardCounters;
+import com.university.fms.stats.DashboardCounters.Metric;
+import com.university.fms.util.TransactionUtils;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -22,27 +34,74 @@ public class PublicationService {
     @Autowired
     private FacultyProfileRepository facultyProfileRepository;
 
-    public List<Publication> getAllPublications() {
-        return publicationRepository.findAll();
+    @Autowired
+    private OwnershipEvaluator ownershipEvaluator;
+
+    @Autowired
+    private DashboardCounters dashboardCounters;
+
+    @Autowired
+    private FullTextSearchIndex fullTextSearchIndex;
+
+    @Autowired
+    private PublicationSimilarityIndex publicationSimilarityIndex;
+
+    @Autowired
+    private PublicationDuplicateIndex publicationDuplicateIndex;
+
+    @Value("${app.search.max-results}")
+    private int maxSearchResults;
+
+    public List<PublicationSummary> getAllPublications() {
+        return publicationRepository.findAllSummaries();
     }
 
-    public Optional<Publication> getPublicationById(Long id) {
-        return publicationRepository.findById(id);
+    public Optional<PublicationResponse> getPublicationById(Long id) {
+        return publicationRepository.findResponseById(id);
     }
 
-    public List<Publication> getPublicationsByFaculty(Long facultyId) {
-        return publicationRepository.findByFacultyIdOrderByPublicationDateDesc(facultyId);
+    public List<PublicationSummary> getPublicationsByFaculty(Long facultyId) {
+        return publicationRepository.findSummariesByFacultyId(facultyId);
     }
 
-    public List<Publication> searchPublications(String keyword) {
-        return publicationRepository.searchByKeyword(keyword);
+    public CursorPage<PublicationSummary> getPublicationsPage(Long after, Integer limit, boolean includeCount) {
+        int pageSize = CursorPage.clampLimit(limit);
+        List<PublicationSummary> rows = publicationRepository.findSummariesAfter(
+                CursorPage.startAfter(after), CursorPage.probe(pageSize));
+        return CursorPage.of(rows, pageSize, PublicationSummary::getId,
+                includeCount ? publicationRepository.count() : null);
+    }
+
+    public CursorPage<PublicationSummary> getPublicationsPageByFaculty(Long facultyId, Long after, Integer limit, boolean includeCount) {
+        int pageSize = CursorPage.clampLimit(limit);
+        List<PublicationSummary> rows = publicationRepository.findSummariesByFacultyIdAfter(facultyId,
+                CursorPage.startAfter(after), CursorPage.probe(pageSize));
+        return CursorPage.of(rows, pageSize, PublicationSummary::getId,
+                includeCount ? publicationRepository.countByFacultyId(facultyId) : null);
+    }
+
+    public List<PublicationSummary> searchPublications(String keyword) {
+        if (!fullTextSearchIndex.isReady()) {
+            return publicationRepository.searchByKeyword(keyword);
+        }
+        List<Long> ids = fullTextSearchIndex.searchPublications(keyword, maxSearchResults);
+        return SearchResults.inRankOrder(ids, publicationRepository.findSummariesByIdIn(ids), PublicationSummary::getId);
+    }
+
+    public List<PublicationSummary> getRelatedPublications(Long id, int k) {
+        List<Long> ids = publicationSimilarityIndex.findRelated(id, Math.min(k, maxSearchResults));
+        return SearchResults.inRankOrder(ids, publicationRepository.findSummariesByIdIn(ids), PublicationSummary::getId);
+    }
+
+    public List<List<Long>> getDuplicateClusters() {
+        return publicationDuplicateIndex.findDuplicateClusters();
     }
 
     public Long getPublicationCountByFaculty(Long facultyId) {
         return publicationRepository.countByFacultyId(facultyId);
     }
 
-    public Publication createPublication(PublicationRequest request) {
+    public PublicationResponse createPublication(PublicationRequest request) {
         FacultyProfile faculty = facultyProfileRepository.findById(request.getFacultyId())
                 .orElseThrow(() -> new RuntimeException("Faculty not found with id: " + request.getFacultyId()));
 
@@ -55,10 +114,19 @@ public class PublicationService {
         publication.setAbstractText(request.getAbstractText());
         publication.setDoi(request.getDoi());
 
-        return publicationRepository.save(publication);
+        List<Long> duplicates = publicationDuplicateIndex.findLikelyDuplicates(
+                publication.getTitle(), publication.getAbstractText(), publication.getDoi(), null);
+
+        Publication saved = publicationRepository.save(publication);
+        TransactionUtils.afterCommit(() -> ownershipEvaluator.publicationSaved(saved.getId(), faculty.getId()));
+        dashboardCounters.add(Metric.PUBLICATIONS, faculty.getDepartment(), 1);
+
+        PublicationResponse response = PublicationResponse.from(saved);
+        response.setPossibleDuplicateIds(duplicates);
+        return response;
     }
 
-    public Publication updatePublication(Long id, PublicationRequest request) {
+    public PublicationResponse updatePublication(Long id, PublicationRequest request) {
         Publication publication = publicationRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Publication not found with id: " + id));
 
@@ -72,15 +140,24 @@ public class PublicationService {
         if (request.getFacultyId() != null) {
             FacultyProfile faculty = facultyProfileRepository.findById(request.getFacultyId())
                     .orElseThrow(() -> new RuntimeException("Faculty not found with id: " + request.getFacultyId()));
+            dashboardCounters.move(Metric.PUBLICATIONS, publication.getFaculty() != null
+                    ? publication.getFaculty().getDepartment() : null, faculty.getDepartment(), 1);
             publication.setFaculty(faculty);
+            TransactionUtils.afterCommit(() -> ownershipEvaluator.publicationSaved(id, faculty.getId()));
         }
 
-        return publicationRepository.save(publication);
+        PublicationResponse response = PublicationResponse.from(publicationRepository.save(publication));
+        response.setPossibleDuplicateIds(publicationDuplicateIndex.findLikelyDuplicates(
+                response.getTitle(), response.getAbstractText(), response.getDoi(), id));
+        return response;
     }
 
     public void deletePublication(Long id) {
         Publication publication = publicationRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Publication not found with id: " + id));
         publicationRepository.delete(publication);
+        TransactionUtils.afterCommit(() -> ownershipEvaluator.publicationRemoved(id));
+        dashboardCounters.add(Metric.PUBLICATIONS, publication.getFaculty() != null
+                ? publication.getFaculty().getDepartment() : null, -1);
     }
 }
@@ -0,0 +1,192 @@
+package com.university.fms.service;
+
+import com.university.fms.repository.StudentEnrollmentRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+// In-memory seat counter per course section. A reservation is a single compare-and-set, so a hot section
+// never serializes enrollments on a database lock; seats taken by transactions that roll back are handed
+// back on completion, and reconcile() realigns the counters with the enrollment table.
+@Component
+public class SeatAllocator {
+
+    private static final Logger logger = LoggerFactory.getLogger(SeatAllocator.class);
+
+    @Autowired
+    private StudentEnrollmentRepository enrollmentRepository;
+
+    private final Map<SectionKey, AtomicReference<Seats>> sections = new ConcurrentHashMap<>();
+
+    // Takes a seat for the current transaction; null capacity means unlimited, but the seat is still counted
+    // so the section stays accurate if a limit is set later
+    public boolean tryReserve(Long courseId, String semester, Integer year, Integer capacity) {
+        SectionKey key = new SectionKey(courseId, semester, year);
+        AtomicReference<Seats> seats = section(key);
+        int limit = capacity != null ? capacity : Integer.MAX_VALUE;
+        while (true) {
+            Seats current = seats.get();
+            if (current.taken >= limit) {
+                return false;
+            }
+            if (seats.compareAndSet(current, new Seats(current.taken + 1, current.pending + 1))) {
+                break;
+            }
+        }
+        // A rolled back reservation gives its seat back
+        settleOnCompletion(seats, false, true);
+        return true;
+    }
+
+    // Frees a seat once the current transaction, which deletes the enrollment, commits
+    public void release(Long courseId, String semester, Integer year) {
+        AtomicReference<Seats> seats = sections.get(new SectionKey(courseId, semester, year));
+        if (seats == null) {
+            // Not tracked yet; the first count will read the table as it is then
+            return;
+        }
+        while (true) {
+            Seats current = seats.get();
+            if (seats.compareAndSet(current, new Seats(current.taken, current.pending + 1))) {
+                break;
+            }
+        }
+        settleOnCompletion(seats, true, false);
+    }
+
+    public int available(Long courseId, String semester, Integer year, Integer capacity) {
+        if (capacity == null) {
+            return Integer.MAX_VALUE;
+        }
+        return Math.max(capacity - section(new SectionKey(courseId, semester, year)).get().taken, 0);
+    }
+
+    // Resets every tracked section to the committed row count plus its in-flight changes. Each snapshot is
+    // taken before the count is read and only installed if nothing settled in between; a change whose
+    // transaction has committed but not yet settled is counted one seat high, so any error errs on the side
+    // of not selling a seat until the next pass. Returns the sections whose counters went down.
+    public List<SectionKey> reconcile() {
+        Map<SectionKey, Seats> snapshots = new HashMap<>();
+        sections.forEach((key, seats) -> snapshots.put(key, seats.get()));
+        if (snapshots.isEmpty()) {
+            return List.of();
+        }
+
+        Map<SectionKey, Long> counts = new HashMap<>();
+        Set<Long> courseIds = new HashSet<>();
+        snapshots.keySet().forEach(key -> courseIds.add(key.courseId));
+        enrollmentRepository.countSectionsByCourseIdIn(courseIds).forEach(row -> counts.put(
+                new SectionKey((Long) row[0], (String) row[1], (Integer) row[2]), (Long) row[3]));
+
+        List<SectionKey> freed = new ArrayList<>();
+        int adjusted = 0;
+        for (Map.Entry<SectionKey, Seats> entry : snapshots.entrySet()) {
+            Seats snapshot = entry.getValue();
+            int taken = counts.getOrDefault(entry.getKey(), 0L).intValue() + snapshot.pending;
+            if (taken != snapshot.taken
+                    && sections.get(entry.getKey()).compareAndSet(snapshot, new Seats(taken, snapshot.pending))) {
+                adjusted++;
+                if (taken < snapshot.taken) {
+                    freed.add(entry.getKey());
+                }
+            }
+        }
+        if (adjusted > 0) {
+            logger.info("Seat reconciliation corrected {} of {} sections", adjusted, snapshots.size());
+        }
+        return freed;
+    }
+
+    public int getTrackedSections() {
+        return sections.size();
+    }
+
+    private AtomicReference<Seats> section(SectionKey key) {
+        AtomicReference<Seats> seats = sections.get(key);
+        if (seats != null) {
+            return seats;
+        }
+        // Only the first request for a section pays for the count
+        return sections.computeIfAbsent(key, missing -> new AtomicReference<>(new Seats(
+                (int) enrollmentRepository.countByCourseIdAndSemesterAndYear(key.courseId, key.semester, key.year), 0)));
+    }
+
+    private static void settleOnCompletion(AtomicReference<Seats> seats, boolean freeOnCommit, boolean freeOnRollback) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            settle(seats, freeOnCommit);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                settle(seats, status == STATUS_COMMITTED ? freeOnCommit : freeOnRollback);
+            }
+        });
+    }
+
+    private static void settle(AtomicReference<Seats> seats, boolean free) {
+        while (true) {
+            Seats current = seats.get();
+            Seats next = new Seats(free ? current.taken - 1 : current.taken, current.pending - 1);
+            if (seats.compareAndSet(current, next)) {
+                return;
+            }
+        }
+    }
+
+    // Immutable so compare-and-set on the reference can never mistake a newer state for an older equal one
+    private static final class Seats {
+        private final int taken;   // committed enrollments plus pending reservations
+        private final int pending; // reservations and releases whose transaction has not completed yet
+
+        Seats(int taken, int pending) {
+            this.taken = taken;
+            this.pending = pending;
+        }
+    }
+
+    public static final class SectionKey {
+        private final Long courseId;
+        private final String semester;
+        private final Integer year;
+
+        public SectionKey(Long courseId, String semester, Integer year) {
+            this.courseId = courseId;
+            this.semester = semester;
+            this.year = year;
+        }
+
+        public Long getCourseId() {
+            return courseId;
+        }
+
+        public String getSemester() {
+            return semester;
+        }
+
+        public Integer getYear() {
+            return year;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof SectionKey that)) return false;
+            return Objects.equals(courseId, that.courseId) &&
+                   Objects.equals(semester, that.semester) &&
+                   Objects.equals(year, that.year);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(courseId, semester, year);
+        }
+    }
+}
@@ -1,19 +1,29 @@
 package com.university.fms.service;
 
 import com.university.fms.dto.request.UserCreateRequest;
+import com.university.fms.dto.response.CursorPage;
+import com.university.fms.dto.response.NamedRef;
+import com.university.fms.dto.response.UserResponse;
 import com.university.fms.entity.Role;
 import com.university.fms.entity.User;
 import com.university.fms.repository.RoleRepository;
 import com.university.fms.repository.UserRepository;
+import com.university.fms.security.PrincipalCache;
+import com.university.fms.security.TokenVersionRegistry;
+import com.university.fms.util.TransactionUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 @Service
 @Transactional
@@ -28,19 +38,36 @@ public class UserService {
     @Autowired
     private PasswordEncoder passwordEncoder;
 
-    public List<User> getAllUsers() {
-        return userRepository.findAll();
+    @Autowired
+    private PrincipalCache principalCache;
+
+    @Autowired
+    private TokenVersionRegistry tokenVersionRegistry;
+
+    public List<UserResponse> getAllUsers() {
+        return withRoles(userRepository.findAllResponses());
     }
 
-    public Optional<User> getUserById(Long id) {
-        return userRepository.findById(id);
+    public CursorPage<UserResponse> getUsersPage(Long after, Integer limit, boolean includeCount) {
+        int pageSize = CursorPage.clampLimit(limit);
+        List<UserResponse> rows = userRepository.findResponsesAfter(
+                CursorPage.startAfter(after), CursorPage.probe(pageSize));
+        return CursorPage.of(withRoles(rows), pageSize, UserResponse::getId, includeCount ? userRepository.count() : null);
     }
 
-    public Optional<User> getUserByUsername(String username) {
-        return userRepository.findByUsername(username);
+    public CursorPage<UserResponse> getUsersPageByRole(String roleName, Long after, Integer limit, boolean includeCount) {
+        int pageSize = CursorPage.clampLimit(limit);
+        List<UserResponse> rows = userRepository.findResponsesByRoleNameAfter(roleName,
+                CursorPage.startAfter(after), CursorPage.probe(pageSize));
+        return CursorPage.of(withRoles(rows), pageSize, UserResponse::getId,
+                includeCount ? userRepository.countByRoleName(roleName) : null);
     }
 
-    public User createUser(UserCreateRequest request) {
+    public Optional<UserResponse> getUserById(Long id) {
+        return userRepository.findResponseById(id).map(user -> withRoles(List.of(user)).get(0));
+    }
+
+    public UserResponse createUser(UserCreateRequest request) {
         if (userRepository.existsByUsername(request.getUsername())) {
             throw new RuntimeException("Error: Username is already taken!");
         }
@@ -69,18 +96,23 @@ public class UserService {
         }
 
         user.setRoles(roles);
-        return userRepository.save(user);
+        return UserResponse.from(userRepository.save(user));
     }
 
-    public User updateUser(Long id, UserCreateRequest request) {
+    public UserResponse updateUser(Long id, UserCreateRequest request) {
         User user = userRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("User not found with id: " + id));
 
+        // Anything embedded in issued tokens changing invalidates those tokens
+        boolean tokenClaimsChanged = !Objects.equals(user.getUsername(), request.getUsername())
+                || !Objects.equals(user.getEmail(), request.getEmail());
+
         user.setUsername(request.getUsername());
         user.setEmail(request.getEmail());
 
         if (request.getPassword() != null && !request.getPassword().isEmpty()) {
             user.setPassword(passwordEncoder.encode(request.getPassword()));
+            tokenClaimsChanged = true;
         }
 
         if (request.getRoles() != null) {
@@ -90,19 +122,50 @@ public class UserService {
                         .orElseThrow(() -> new RuntimeException("Error: Role " + roleName + " is not found."));
                 roles.add(role);
             });
+            if (!roleNames(user.getRoles()).equals(roleNames(roles))) {
+                tokenClaimsChanged = true;
+            }
             user.setRoles(roles);
         }
 
-        return userRepository.save(user);
+        if (tokenClaimsChanged) {
+            int tokenVersion = (user.getTokenVersion() != null ? user.getTokenVersion() : 0) + 1;
+            user.setTokenVersion(tokenVersion);
+            TransactionUtils.afterCommit(() -> tokenVersionRegistry.update(id, tokenVersion));
+        }
+
+        TransactionUtils.afterCommit(() -> principalCache.evictUser(id));
+        return UserResponse.from(userRepository.save(user));
     }
 
     public void deleteUser(Long id) {
         User user = userRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("User not found with id: " + id));
         userRepository.delete(user);
+        TransactionUtils.afterCommit(() -> {
+            tokenVersionRegistry.remove(id);
+            principalCache.evictUser(id);
+        });
+    }
+
+    public List<UserResponse> getUsersByRole(String roleName) {
+        return withRoles(userRepository.findResponsesByRoleName(roleName));
+    }
+
+    // One query for the roles of the whole batch instead of the per-user EAGER fetch
+    private List<UserResponse> withRoles(List<UserResponse> users) {
+        if (users.isEmpty()) {
+            return users;
+        }
+        Map<Long, UserResponse> byId = new HashMap<>();
+        users.forEach(user -> byId.put(user.getId(), user));
+        for (Object[] row : userRepository.findRoleRefsByUserIdIn(byId.keySet())) {
+            byId.get((Long) row[0]).getRoles().add(new NamedRef((Long) row[1], (String) row[2]));
+        }
+        return users;
     }
 
-    public List<User> getUsersByRole(String roleName) {
-        return userRepository.findByRoleName(roleName);
+    private Set<String> roleNames(Set<Role> roles) {
+        return roles.stream().map(Role::getName).collect(Collectors.toSet());
     }
 }
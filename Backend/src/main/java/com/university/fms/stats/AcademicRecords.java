@@ -0,0 +1,479 @@
+package com.university.fms.stats;
+
+import com.university.fms.dto.response.AcademicStanding;
+import com.university.fms.dto.response.CursorPage;
+import com.university.fms.dto.response.DepartmentGpa;
+import com.university.fms.dto.response.RankedStudent;
+import com.university.fms.entity.Course;
+import com.university.fms.entity.Department;
+import com.university.fms.entity.StudentEnrollment;
+import com.university.fms.repository.StudentEnrollmentRepository;
+import com.university.fms.repository.UserRepository;
+import com.university.fms.util.GradePoints;
+import com.university.fms.util.TransactionUtils;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RecursiveAction;
+
+// Running GPA aggregates per student, overall and per department of the courses taken, so standings and
+// rankings never scan enrollments. Grade changes land as deltas after commit. rebuild() recomputes the
+// lot on a fork-join pool, one student id range per task, and swaps it in; students graded while it ran
+// are read once more afterwards. Each ranking is a skip list in GPA order, so top-k walks k entries.
+@Component
+public class AcademicRecords {
+
+    private static final Logger logger = LoggerFactory.getLogger(AcademicRecords.class);
+
+    // Bucket for courses without a department
+    private static final Long UNASSIGNED = 0L;
+
+    // Highest GPA first (compared exactly, by cross-multiplying), then most GPA credits, then lowest id
+    private static final Comparator<Rank> GPA_ORDER = (a, b) -> {
+        int byGpa = compareGpa(b, a);
+        if (byGpa != 0) {
+            return byGpa;
+        }
+        int byCredits = Long.compare(b.gpaCredits, a.gpaCredits);
+        return byCredits != 0 ? byCredits : Long.compare(a.studentId, b.studentId);
+    };
+
+    @Autowired
+    private StudentEnrollmentRepository enrollmentRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Value("${app.academics.rebuild-parallelism}")
+    private int parallelism;
+
+    @Value("${app.academics.rebuild-chunk-size}")
+    private long chunkSize;
+
+    @Value("${app.academics.ranking-min-credits}")
+    private long rankingMinCredits;
+
+    @Value("${app.academics.deans-list-gpa}")
+    private double deansListGpa;
+
+    @Value("${app.academics.probation-gpa}")
+    private double probationGpa;
+
+    private ForkJoinPool pool;
+
+    private volatile State state = new State();
+    private volatile boolean rebuilding;
+    private final Set<Long> touched = ConcurrentHashMap.newKeySet();
+    private volatile LocalDateTime rebuiltAt;
+    private volatile long lastRebuildMs;
+
+    @PostConstruct
+    public void init() {
+        int workers = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        pool = new ForkJoinPool(workers, forkJoinPool -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(forkJoinPool);
+            thread.setName("gpa-rebuild-" + thread.getPoolIndex());
+            return thread;
+        }, null, false);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdownNow();
+    }
+
+    // previousGrade is what the enrollment held before the current transaction changed it
+    public void regraded(StudentEnrollment enrollment, String previousGrade) {
+        if (Objects.equals(GradePoints.normalize(previousGrade), GradePoints.normalize(enrollment.getGrade()))) {
+            return;
+        }
+        Course course = enrollment.getCourse();
+        Long studentId = enrollment.getStudent().getId();
+        submit(List.of(
+                new Change(studentId, idOf(course.getDepartment()), course.getCredits(), previousGrade, -1),
+                new Change(studentId, idOf(course.getDepartment()), course.getCredits(), enrollment.getGrade(), 1)));
+    }
+
+    public void dropped(StudentEnrollment enrollment) {
+        droppedAll(List.of(enrollment));
+    }
+
+    public void droppedAll(Collection<StudentEnrollment> enrollments) {
+        List<Change> changes = new ArrayList<>();
+        for (StudentEnrollment enrollment : enrollments) {
+            if (enrollment.getGrade() != null) {
+                Course course = enrollment.getCourse();
+                changes.add(new Change(enrollment.getStudent().getId(), idOf(course.getDepartment()),
+                        course.getCredits(), enrollment.getGrade(), -1));
+            }
+        }
+        submit(changes);
+    }
+
+    // A course's credits or department changed: every grade in it is counted again under the new values
+    public void courseChanged(Long courseId, Integer previousCredits, Department previousDepartment,
+                              Integer credits, Department department) {
+        Long previousDepartmentId = idOf(previousDepartment);
+        Long departmentId = idOf(department);
+        if (Objects.equals(previousCredits, credits) && Objects.equals(previousDepartmentId, departmentId)) {
+            return;
+        }
+        List<Change> changes = new ArrayList<>();
+        for (Object[] row : enrollmentRepository.findGradesByCourseId(courseId)) {
+            changes.add(new Change((Long) row[0], previousDepartmentId, previousCredits, (String) row[1], -1));
+            changes.add(new Change((Long) row[0], departmentId, credits, (String) row[1], 1));
+        }
+        submit(changes);
+    }
+
+    // Call before deleting the course, while its enrollments can still be read
+    public void courseRemoved(Long courseId, Integer credits, Department department) {
+        List<Change> changes = new ArrayList<>();
+        for (Object[] row : enrollmentRepository.findGradesByCourseId(courseId)) {
+            changes.add(new Change((Long) row[0], idOf(department), credits, (String) row[1], -1));
+        }
+        submit(changes);
+    }
+
+    // Deleting a department cascades through all its courses' enrollments; cheaper to recompute than to track
+    public void departmentRemoved() {
+        TransactionUtils.afterCommit(() -> pool.execute(this::rebuild));
+    }
+
+    public AcademicStanding getStanding(Long studentId) {
+        Record record = state.students.get(studentId);
+        if (record == null) {
+            return new AcademicStanding(studentId, AcademicStanding.NO_GPA, 0, 0, 0, 0, null, List.of());
+        }
+        synchronized (record) {
+            List<DepartmentGpa> byDepartment = new ArrayList<>(record.departments.size());
+            record.departments.forEach((departmentId, aggregate) -> byDepartment.add(new DepartmentGpa(
+                    UNASSIGNED.equals(departmentId) ? null : departmentId, aggregate.attempted, aggregate.earned,
+                    aggregate.gpaCredits, aggregate.qualityTenths / 10.0, aggregate.gpa())));
+            byDepartment.sort(Comparator.comparing(DepartmentGpa::getDepartmentId,
+                    Comparator.nullsLast(Comparator.naturalOrder())));
+            Aggregate total = record.total;
+            return new AcademicStanding(studentId, standing(total), total.attempted, total.earned, total.gpaCredits,
+                    total.qualityTenths / 10.0, total.gpa(), byDepartment);
+        }
+    }
+
+    // Highest GPAs overall, or over one department's courses; students tied on GPA share a rank
+    public List<RankedStudent> getTopStudents(Long departmentId, Integer limit) {
+        State current = state;
+        NavigableSet<Rank> ranking = departmentId != null ? current.byDepartment.get(departmentId) : current.overall;
+        if (ranking == null) {
+            return List.of();
+        }
+        int size = CursorPage.clampLimit(limit);
+        List<Rank> top = new ArrayList<>(size);
+        for (Iterator<Rank> it = ranking.iterator(); it.hasNext() && top.size() < size; ) {
+            top.add(it.next());
+        }
+        if (top.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, String> usernames = new HashMap<>();
+        userRepository.findUsernamesByIdIn(top.stream().map(rank -> rank.studentId).toList())
+                .forEach(row -> usernames.put((Long) row[0], (String) row[1]));
+        List<RankedStudent> students = new ArrayList<>(top.size());
+        int position = 0;
+        for (int i = 0; i < top.size(); i++) {
+            Rank rank = top.get(i);
+            if (i == 0 || compareGpa(top.get(i - 1), rank) != 0) {
+                position = i + 1;
+            }
+            students.add(new RankedStudent(position, rank.studentId, usernames.get(rank.studentId), rank.gpa(),
+                    rank.gpaCredits, rank.earned));
+        }
+        return students;
+    }
+
+    public Map<String, Object> getStats() {
+        State current = state;
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("students", current.students.size());
+        stats.put("ranked", current.overall.size());
+        stats.put("departments", current.byDepartment.size());
+        stats.put("rebuiltAt", rebuiltAt);
+        stats.put("lastRebuildMs", lastRebuildMs);
+        stats.put("parallelism", pool.getParallelism());
+        return stats;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${app.academics.rebuild-interval}",
+               initialDelayString = "${app.academics.rebuild-interval}")
+    public synchronized void rebuild() {
+        long started = System.nanoTime();
+        touched.clear();
+        rebuilding = true;
+        State fresh = new State();
+        try {
+            Long fromId = enrollmentRepository.findMinGradedStudentId();
+            Long toId = enrollmentRepository.findMaxGradedStudentId();
+            if (fromId != null) {
+                pool.invoke(new RebuildTask(fresh, fromId, toId));
+            }
+            state = fresh;
+
+            // A grade that committed while its student's range was being read may or may not be in the
+            // fresh aggregate, so those students are read again now that deltas go to the new state
+            List<Long> regraded = new ArrayList<>(touched);
+            for (int i = 0; i < regraded.size(); i += (int) chunkSize) {
+                List<Long> studentIds = regraded.subList(i, (int) Math.min(i + chunkSize, regraded.size()));
+                studentIds.forEach(studentId -> unpublish(fresh, studentId));
+                load(fresh, enrollmentRepository.findGradesByStudentIdIn(studentIds));
+            }
+        } finally {
+            rebuilding = false;
+        }
+
+        lastRebuildMs = (System.nanoTime() - started) / 1_000_000;
+        rebuiltAt = LocalDateTime.now();
+        logger.info("GPA aggregates rebuilt for {} students in {} ms", fresh.students.size(), lastRebuildMs);
+    }
+
+    private void submit(List<Change> changes) {
+        if (changes.isEmpty()) {
+            return;
+        }
+        changes.forEach(change -> touch(change.studentId));
+        TransactionUtils.afterCommit(() -> {
+            State current = state;
+            for (Change change : changes) {
+                touch(change.studentId);
+                apply(current, change);
+            }
+        });
+    }
+
+    private void touch(Long studentId) {
+        if (rebuilding) {
+            touched.add(studentId);
+        }
+    }
+
+    private void apply(State target, Change change) {
+        if (!GradePoints.isAttempted(change.grade) || change.credits == null) {
+            return;
+        }
+        Record record = target.students.computeIfAbsent(change.studentId, Record::new);
+        synchronized (record) {
+            Long departmentId = key(change.departmentId);
+            update(target.overall, record.studentId, record.total, change);
+            update(target.ranking(departmentId), record.studentId, record.department(departmentId), change);
+        }
+    }
+
+    private void update(NavigableSet<Rank> ranking, Long studentId, Aggregate aggregate, Change change) {
+        if (aggregate.rank != null) {
+            ranking.remove(aggregate.rank);
+        }
+        aggregate.add(change.credits, change.grade, change.sign);
+        aggregate.rank = rankOf(studentId, aggregate);
+        if (aggregate.rank != null) {
+            ranking.add(aggregate.rank);
+        }
+    }
+
+    // Aggregates a batch of GRADES rows per student, then publishes each student whole
+    private void load(State target, List<Object[]> rows) {
+        Map<Long, Record> records = new HashMap<>();
+        for (Object[] row : rows) {
+            String grade = (String) row[3];
+            Integer credits = (Integer) row[2];
+            if (!GradePoints.isAttempted(grade) || credits == null) {
+                continue;
+            }
+            Record record = records.computeIfAbsent((Long) row[0], Record::new);
+            record.total.add(credits, grade, 1);
+            record.department(key((Long) row[1])).add(credits, grade, 1);
+        }
+        for (Record record : records.values()) {
+            synchronized (record) {
+                record.total.rank = rankOf(record.studentId, record.total);
+                if (record.total.rank != null) {
+                    target.overall.add(record.total.rank);
+                }
+                record.departments.forEach((departmentId, aggregate) -> {
+                    aggregate.rank = rankOf(record.studentId, aggregate);
+                    if (aggregate.rank != null) {
+                        target.ranking(departmentId).add(aggregate.rank);
+                    }
+                });
+            }
+            target.students.put(record.studentId, record);
+        }
+    }
+
+    private void unpublish(State target, Long studentId) {
+        Record record = target.students.remove(studentId);
+        if (record == null) {
+            return;
+        }
+        synchronized (record) {
+            if (record.total.rank != null) {
+                target.overall.remove(record.total.rank);
+            }
+            record.departments.forEach((departmentId, aggregate) -> {
+                if (aggregate.rank != null) {
+                    target.ranking(departmentId).remove(aggregate.rank);
+                }
+            });
+        }
+    }
+
+    // Only students with enough GPA credits are ranked
+    private Rank rankOf(Long studentId, Aggregate aggregate) {
+        return aggregate.gpaCredits > 0 && aggregate.gpaCredits >= rankingMinCredits
+                ? new Rank(studentId, aggregate.qualityTenths, aggregate.gpaCredits, aggregate.earned) : null;
+    }
+
+    // Cumulative: the dean's list needs the minimum ranked credits, probation applies from the first grade
+    private String standing(Aggregate aggregate) {
+        Double gpa = aggregate.gpa();
+        if (gpa == null) {
+            return AcademicStanding.NO_GPA;
+        } else if (gpa < probationGpa) {
+            return AcademicStanding.PROBATION;
+        } else if (gpa >= deansListGpa && aggregate.gpaCredits >= rankingMinCredits) {
+            return AcademicStanding.DEANS_LIST;
+        }
+        return AcademicStanding.GOOD_STANDING;
+    }
+
+    private static int compareGpa(Rank a, Rank b) {
+        return Long.compare(a.qualityTenths * b.gpaCredits, b.qualityTenths * a.gpaCredits);
+    }
+
+    private static Long idOf(Department department) {
+        return department != null ? department.getId() : null;
+    }
+
+    private static Long key(Long departmentId) {
+        return departmentId != null ? departmentId : UNASSIGNED;
+    }
+
+    private final class RebuildTask extends RecursiveAction {
+        private final State target;
+        private final long fromId;
+        private final long toId;
+
+        RebuildTask(State target, long fromId, long toId) {
+            this.target = target;
+            this.fromId = fromId;
+            this.toId = toId;
+        }
+
+        @Override
+        protected void compute() {
+            if (toId - fromId < chunkSize) {
+                load(target, enrollmentRepository.findGradesByStudentIdBetween(fromId, toId));
+                return;
+            }
+            long middle = fromId + (toId - fromId) / 2;
+            invokeAll(new RebuildTask(target, fromId, middle), new RebuildTask(target, middle + 1, toId));
+        }
+    }
+
+    private static final class State {
+        private final Map<Long, Record> students = new ConcurrentHashMap<>();
+        private final NavigableSet<Rank> overall = new ConcurrentSkipListSet<>(GPA_ORDER);
+        private final Map<Long, NavigableSet<Rank>> byDepartment = new ConcurrentHashMap<>();
+
+        NavigableSet<Rank> ranking(Long departmentId) {
+            return byDepartment.computeIfAbsent(departmentId, missing -> new ConcurrentSkipListSet<>(GPA_ORDER));
+        }
+    }
+
+    // Guarded by its own monitor
+    private static final class Record {
+        private final Long studentId;
+        private final Aggregate total = new Aggregate();
+        private final Map<Long, Aggregate> departments = new HashMap<>();
+
+        Record(Long studentId) {
+            this.studentId = studentId;
+        }
+
+        Aggregate department(Long departmentId) {
+            return departments.computeIfAbsent(departmentId, missing -> new Aggregate());
+        }
+    }
+
+    private static final class Aggregate {
+        private long attempted;
+        private long earned;
+        private long gpaCredits;
+        private long qualityTenths;
+        private Rank rank; // this aggregate's current entry in its ranking, if ranked
+
+        void add(int credits, String grade, int sign) {
+            attempted += (long) sign * credits;
+            if (GradePoints.isEarned(grade)) {
+                earned += (long) sign * credits;
+            }
+            Integer tenths = GradePoints.tenths(grade);
+            if (tenths != null) {
+                gpaCredits += (long) sign * credits;
+                qualityTenths += (long) sign * tenths * credits;
+            }
+        }
+
+        Double gpa() {
+            return gpaCredits > 0 ? Math.round(qualityTenths * 100.0 / gpaCredits) / 1000.0 : null;
+        }
+    }
+
+    // Immutable snapshot of an aggregate as ordered in a ranking
+    private static final class Rank {
+        private final Long studentId;
+        private final long qualityTenths;
+        private final long gpaCredits;
+        private final long earned;
+
+        Rank(Long studentId, long qualityTenths, long gpaCredits, long earned) {
+            this.studentId = studentId;
+            this.qualityTenths = qualityTenths;
+            this.gpaCredits = gpaCredits;
+            this.earned = earned;
+        }
+
+        double gpa() {
+            return Math.round(qualityTenths * 100.0 / gpaCredits) / 1000.0;
+        }
+    }
+
+    // A grade counted in (+1) or out (-1) for one student, captured inside the writing transaction
+    private static final class Change {
+        private final Long studentId;
+        private final Long departmentId;
+        private final Integer credits;
+        private final String grade;
+        private final int sign;
+
+        Change(Long studentId, Long departmentId, Integer credits, String grade, int sign) {
+            this.studentId = studentId;
+            this.departmentId = departmentId;
+            this.credits = credits;
+            this.grade = grade;
+            this.sign = sign;
+        }
+    }
+}
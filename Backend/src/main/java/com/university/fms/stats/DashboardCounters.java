@@ -0,0 +1,224 @@
+package com.university.fms.stats;
+
+import com.university.fms.dto.response.DashboardStats;
+import com.university.fms.dto.response.DepartmentStats;
+import com.university.fms.dto.response.StatCounts;
+import com.university.fms.entity.Department;
+import com.university.fms.repository.CourseRepository;
+import com.university.fms.repository.DepartmentRepository;
+import com.university.fms.repository.FacultyProfileRepository;
+import com.university.fms.repository.PublicationRepository;
+import com.university.fms.repository.StudentEnrollmentRepository;
+import com.university.fms.util.TransactionUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+// Dashboard figures kept as striped counters, global and per department. Services report their writes
+// through add()/move(); the deltas land once the transaction commits, so the dashboard never counts rows.
+// A scheduled pass realigns every counter with the tables. A write that commits while that pass runs can
+// leave a counter one off until the next pass.
+@Component
+public class DashboardCounters {
+
+    public enum Metric {
+        FACULTY, COURSES, PUBLICATIONS, ENROLLMENTS
+    }
+
+    private static final Logger logger = LoggerFactory.getLogger(DashboardCounters.class);
+
+    // Bucket for faculty and courses without a department
+    private static final Long UNASSIGNED = 0L;
+
+    @Autowired
+    private DepartmentRepository departmentRepository;
+
+    @Autowired
+    private FacultyProfileRepository facultyProfileRepository;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private PublicationRepository publicationRepository;
+
+    @Autowired
+    private StudentEnrollmentRepository enrollmentRepository;
+
+    private final Counters totals = new Counters(null);
+    private final Map<Long, Counters> departments = new ConcurrentHashMap<>();
+    private volatile LocalDateTime reconciledAt;
+
+    // department may be null, or an uninitialized proxy: only its id is read
+    public void add(Metric metric, Department department, long delta) {
+        Long departmentId = idOf(department);
+        if (delta == 0) {
+            return;
+        }
+        TransactionUtils.afterCommit(() -> {
+            totals.add(metric, delta);
+            bucket(departmentId).add(metric, delta);
+        });
+    }
+
+    // One delta per element, e.g. the departments of the rows a batch wrote
+    public void addEach(Metric metric, Collection<Department> departments, long delta) {
+        Map<Long, Long> byDepartment = new HashMap<>();
+        departments.forEach(department -> byDepartment.merge(key(idOf(department)), delta, Long::sum));
+        if (byDepartment.isEmpty()) {
+            return;
+        }
+        TransactionUtils.afterCommit(() -> byDepartment.forEach((departmentId, sum) -> {
+            totals.add(metric, sum);
+            bucket(departmentId).add(metric, sum);
+        }));
+    }
+
+    public void move(Metric metric, Department from, Department to, long delta) {
+        Long fromDepartmentId = idOf(from);
+        Long toDepartmentId = idOf(to);
+        if (delta == 0 || Objects.equals(key(fromDepartmentId), key(toDepartmentId))) {
+            return;
+        }
+        TransactionUtils.afterCommit(() -> {
+            bucket(fromDepartmentId).add(metric, -delta);
+            bucket(toDepartmentId).add(metric, delta);
+        });
+    }
+
+    public boolean isMove(Department from, Department to) {
+        return !Objects.equals(key(idOf(from)), key(idOf(to)));
+    }
+
+    public void departmentSaved(Long departmentId, String name) {
+        TransactionUtils.afterCommit(() -> bucket(departmentId).name = name);
+    }
+
+    // Deleting a department cascades to its faculty and courses, so everything it held leaves the totals
+    public void departmentRemoved(Long departmentId) {
+        TransactionUtils.afterCommit(() -> {
+            Counters removed = departments.remove(departmentId);
+            if (removed != null) {
+                for (Metric metric : Metric.values()) {
+                    totals.add(metric, -removed.sum(metric));
+                }
+            }
+        });
+    }
+
+    public DashboardStats getStats() {
+        List<DepartmentStats> byDepartment = new ArrayList<>(departments.size());
+        long departmentCount = 0;
+        for (Map.Entry<Long, Counters> entry : departments.entrySet()) {
+            if (!UNASSIGNED.equals(entry.getKey())) {
+                departmentCount++;
+            }
+            byDepartment.add(entry.getValue().toDepartmentStats(entry.getKey()));
+        }
+        byDepartment.sort(Comparator.comparing(DepartmentStats::getDepartmentId,
+                Comparator.nullsLast(Comparator.naturalOrder())));
+        return new DashboardStats(departmentCount, totals.toStatCounts(), byDepartment, reconciledAt);
+    }
+
+    public Optional<DepartmentStats> getDepartmentStats(Long departmentId) {
+        Counters counters = departments.get(departmentId);
+        return counters != null ? Optional.of(counters.toDepartmentStats(departmentId)) : Optional.empty();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${app.stats.reconcile-interval}",
+               initialDelayString = "${app.stats.reconcile-interval}")
+    public void reconcile() {
+        long started = System.nanoTime();
+        Map<Long, long[]> counts = new HashMap<>();
+        collect(counts, Metric.FACULTY, facultyProfileRepository.countGroupedByDepartmentId());
+        collect(counts, Metric.COURSES, courseRepository.countGroupedByDepartmentId());
+        collect(counts, Metric.PUBLICATIONS, publicationRepository.countGroupedByDepartmentId());
+        collect(counts, Metric.ENROLLMENTS, enrollmentRepository.countGroupedByDepartmentId());
+
+        Map<Long, String> names = new HashMap<>();
+        departmentRepository.findAllNames().forEach(row -> names.put((Long) row[0], (String) row[1]));
+        names.keySet().forEach(id -> counts.computeIfAbsent(id, missing -> new long[Metric.values().length]));
+
+        long[] dbTotals = new long[Metric.values().length];
+        counts.forEach((departmentId, values) -> {
+            Counters counters = bucket(departmentId);
+            counters.name = names.get(departmentId);
+            for (Metric metric : Metric.values()) {
+                counters.set(metric, values[metric.ordinal()]);
+                dbTotals[metric.ordinal()] += values[metric.ordinal()];
+            }
+        });
+        departments.keySet().removeIf(departmentId -> !counts.containsKey(departmentId));
+        for (Metric metric : Metric.values()) {
+            totals.set(metric, dbTotals[metric.ordinal()]);
+        }
+
+        reconciledAt = LocalDateTime.now();
+        logger.debug("Dashboard counters reconciled in {} ms", (System.nanoTime() - started) / 1_000_000);
+    }
+
+    private static void collect(Map<Long, long[]> counts, Metric metric, List<Object[]> rows) {
+        for (Object[] row : rows) {
+            long[] values = counts.computeIfAbsent(key((Long) row[0]), missing -> new long[Metric.values().length]);
+            values[metric.ordinal()] += (Long) row[1];
+        }
+    }
+
+    private Counters bucket(Long departmentId) {
+        return departments.computeIfAbsent(key(departmentId), missing -> new Counters(null));
+    }
+
+    private static Long idOf(Department department) {
+        return department != null ? department.getId() : null;
+    }
+
+    private static Long key(Long departmentId) {
+        return departmentId != null ? departmentId : UNASSIGNED;
+    }
+
+    private static final class Counters {
+        private final LongAdder[] adders = new LongAdder[Metric.values().length];
+        private volatile String name;
+
+        Counters(String name) {
+            this.name = name;
+            for (int i = 0; i < adders.length; i++) {
+                adders[i] = new LongAdder();
+            }
+        }
+
+        void add(Metric metric, long delta) {
+            adders[metric.ordinal()].add(delta);
+        }
+
+        // Adjusts by the difference rather than resetting, so increments racing with it are not lost
+        void set(Metric metric, long value) {
+            LongAdder adder = adders[metric.ordinal()];
+            adder.add(value - adder.sum());
+        }
+
+        long sum(Metric metric) {
+            return adders[metric.ordinal()].sum();
+        }
+
+        StatCounts toStatCounts() {
+            return new StatCounts(sum(Metric.FACULTY), sum(Metric.COURSES), sum(Metric.PUBLICATIONS),
+                    sum(Metric.ENROLLMENTS));
+        }
+
+        DepartmentStats toDepartmentStats(Long departmentId) {
+            return new DepartmentStats(UNASSIGNED.equals(departmentId) ? null : departmentId, name,
+                    sum(Metric.FACULTY), sum(Metric.COURSES), sum(Metric.PUBLICATIONS), sum(Metric.ENROLLMENTS));
+        }
+    }
+}
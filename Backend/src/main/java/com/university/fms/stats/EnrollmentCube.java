@@ -0,0 +1,497 @@
+package com.university.fms.stats;
+
+import com.university.fms.dto.response.EnrollmentReport;
+import com.university.fms.dto.response.EnrollmentReportRow;
+import com.university.fms.entity.Course;
+import com.university.fms.entity.StudentEnrollment;
+import com.university.fms.repository.DepartmentRepository;
+import com.university.fms.repository.StudentEnrollmentRepository;
+import com.university.fms.util.TransactionUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// Enrollment counts rolled up to one cell per course x semester x year x grade and kept column-wise in
+// primitive arrays, every dimension value dictionary-encoded to a small int. Department is a per-course
+// column rather than a cell coordinate, so moving a course re-homes its whole history in one slot. A report
+// scans the cells, never the enrollment rows, so its cost follows the number of distinct cells and not the
+// length of the history. Enrollment writes land as deltas after commit; a scheduled pass rebuilds the cube
+// from one GROUP BY, and a write that commits while that pass runs can leave a cell one off until the next.
+@Component
+public class EnrollmentCube {
+
+    public enum Dimension {
+        DEPARTMENT, COURSE, SEMESTER, YEAR, GRADE;
+
+        public static Dimension parse(String name) {
+            try {
+                return valueOf(name.trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Cannot group enrollments by: " + name.trim());
+            }
+        }
+    }
+
+    private static final Logger logger = LoggerFactory.getLogger(EnrollmentCube.class);
+
+    // Widths of the packed cell key, which also cap the dictionaries
+    private static final int COURSE_BITS = 20;
+    private static final int SEMESTER_BITS = 8;
+    private static final int YEAR_BITS = 11;
+    private static final int GRADE_BITS = 8;
+    private static final int DEPARTMENT_LIMIT = 1 << 15;
+
+    // Reports with at most this many possible groups sum into a flat array instead of a map
+    private static final long DENSE_GROUPS = 1 << 16;
+
+    @Autowired
+    private StudentEnrollmentRepository enrollmentRepository;
+
+    @Autowired
+    private DepartmentRepository departmentRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // Code 0 of every dictionary is null: no department, or not graded yet
+    private final Dictionary<Long> departments = new Dictionary<>("department", DEPARTMENT_LIMIT);
+    private final Dictionary<Long> courses = new Dictionary<>("course", 1 << COURSE_BITS);
+    private final Dictionary<String> semesters = new Dictionary<>("semester", 1 << SEMESTER_BITS);
+    private final Dictionary<Integer> years = new Dictionary<>("year", 1 << YEAR_BITS);
+    private final Dictionary<String> grades = new Dictionary<>("grade", 1 << GRADE_BITS);
+    private final Map<Long, String> departmentNames = new HashMap<>();
+
+    // Indexed by course code
+    private int[] courseDepartment = new int[64];
+    private String[] courseCodes = new String[64];
+
+    // Indexed by cell
+    private int[] cellCourse = new int[1024];
+    private int[] cellSemester = new int[1024];
+    private int[] cellYear = new int[1024];
+    private int[] cellGrade = new int[1024];
+    private long[] cellCount = new long[1024];
+    private int cellSize;
+    private final Map<Long, Integer> cellIndex = new HashMap<>();
+
+    private volatile LocalDateTime rebuiltAt;
+
+    public void enrolled(StudentEnrollment enrollment) {
+        apply(List.of(delta(enrollment, enrollment.getGrade(), 1)));
+    }
+
+    public void enrolledAll(Collection<StudentEnrollment> enrollments) {
+        apply(enrollments.stream().map(enrollment -> delta(enrollment, enrollment.getGrade(), 1)).toList());
+    }
+
+    public void dropped(StudentEnrollment enrollment) {
+        apply(List.of(delta(enrollment, enrollment.getGrade(), -1)));
+    }
+
+    public void droppedAll(Collection<StudentEnrollment> enrollments) {
+        apply(enrollments.stream().map(enrollment -> delta(enrollment, enrollment.getGrade(), -1)).toList());
+    }
+
+    // previousGrade is what the enrollment held before the current transaction changed it
+    public void regraded(StudentEnrollment enrollment, String previousGrade) {
+        if (!Objects.equals(previousGrade, enrollment.getGrade())) {
+            apply(List.of(delta(enrollment, previousGrade, -1), delta(enrollment, enrollment.getGrade(), 1)));
+        }
+    }
+
+    // Picks up a new code or department for a course that already has cells
+    public void courseSaved(Course course) {
+        Long courseId = course.getId();
+        String code = course.getCode();
+        Long departmentId = course.getDepartment() != null ? course.getDepartment().getId() : null;
+        TransactionUtils.afterCommit(() -> {
+            lock.writeLock().lock();
+            try {
+                int courseCode = courses.find(courseId);
+                if (courseCode > 0) {
+                    courseCodes[courseCode] = code;
+                    courseDepartment[courseCode] = departments.encode(departmentId);
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    // The course's enrollments were deleted with it
+    public void courseRemoved(Long courseId) {
+        TransactionUtils.afterCommit(() -> {
+            lock.writeLock().lock();
+            try {
+                int courseCode = courses.find(courseId);
+                for (int cell = 0; courseCode > 0 && cell < cellSize; cell++) {
+                    if (cellCourse[cell] == courseCode) {
+                        cellCount[cell] = 0;
+                    }
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    public void departmentSaved(Long departmentId, String name) {
+        TransactionUtils.afterCommit(() -> {
+            lock.writeLock().lock();
+            try {
+                departmentNames.put(departmentId, name);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    // Deleting a department cascades to its courses and from there to their enrollments
+    public void departmentRemoved(Long departmentId) {
+        TransactionUtils.afterCommit(() -> {
+            lock.writeLock().lock();
+            try {
+                departmentNames.remove(departmentId);
+                int departmentCode = departments.find(departmentId);
+                for (int cell = 0; departmentCode > 0 && cell < cellSize; cell++) {
+                    if (courseDepartment[cellCourse[cell]] == departmentCode) {
+                        cellCount[cell] = 0;
+                    }
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    // Sums the cells matching every non-empty filter into one row per combination of the groupBy dimensions;
+    // an empty groupBy yields a single row holding the filtered total
+    public EnrollmentReport report(List<Dimension> groupBy, Collection<Long> departmentIds, Collection<Long> courseIds,
+                                   Collection<String> semesterValues, Collection<Integer> yearValues,
+                                   Collection<String> gradeValues) {
+        Dimension[] dimensions = new LinkedHashSet<>(groupBy).toArray(new Dimension[0]);
+        List<EnrollmentReportRow> rows = new ArrayList<>();
+        long total = 0;
+
+        lock.readLock().lock();
+        try {
+            boolean[] departmentMask = mask(departments, departmentIds);
+            boolean[] courseMask = mask(courses, courseIds);
+            boolean[] semesterMask = mask(semesters, semesterValues);
+            boolean[] yearMask = mask(years, yearValues);
+            boolean[] gradeMask = mask(grades, gradeValues);
+
+            long[] radix = new long[dimensions.length];
+            long groups = 1;
+            for (int d = 0; d < dimensions.length; d++) {
+                radix[d] = dictionary(dimensions[d]).size();
+                groups *= radix[d];
+            }
+            long[] dense = groups <= DENSE_GROUPS ? new long[(int) groups] : null;
+            Map<Long, Long> sparse = dense == null ? new HashMap<>() : null;
+
+            for (int cell = 0; cell < cellSize; cell++) {
+                long count = cellCount[cell];
+                int course = cellCourse[cell];
+                int department = courseDepartment[course];
+                if (count == 0
+                        || excluded(departmentMask, department) || excluded(courseMask, course)
+                        || excluded(semesterMask, cellSemester[cell]) || excluded(yearMask, cellYear[cell])
+                        || excluded(gradeMask, cellGrade[cell])) {
+                    continue;
+                }
+                long group = 0;
+                for (int d = 0; d < dimensions.length; d++) {
+                    group = group * radix[d] + code(dimensions[d], cell, department);
+                }
+                if (dense != null) {
+                    dense[(int) group] += count;
+                } else {
+                    sparse.merge(group, count, Long::sum);
+                }
+                total += count;
+            }
+
+            if (dense != null) {
+                for (int group = 0; group < dense.length; group++) {
+                    if (dense[group] != 0) {
+                        rows.add(row(dimensions, radix, group, dense[group]));
+                    }
+                }
+            } else {
+                sparse.forEach((group, count) -> {
+                    if (count != 0) {
+                        rows.add(row(dimensions, radix, group, count));
+                    }
+                });
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        rows.sort(rowOrder(dimensions));
+        List<String> names = Arrays.stream(dimensions).map(dimension -> dimension.name().toLowerCase(Locale.ROOT)).toList();
+        return new EnrollmentReport(names, total, rows, rebuiltAt);
+    }
+
+    public int getCellCount() {
+        lock.readLock().lock();
+        try {
+            return cellSize;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${app.reports.rebuild-interval}",
+               initialDelayString = "${app.reports.rebuild-interval}")
+    public void rebuild() {
+        long started = System.nanoTime();
+        List<Object[]> cells = enrollmentRepository.countReportCells();
+        List<Object[]> names = departmentRepository.findAllNames();
+
+        lock.writeLock().lock();
+        try {
+            // Starting over also drops the cells and dictionary entries of deleted courses
+            departments.clear();
+            courses.clear();
+            semesters.clear();
+            years.clear();
+            grades.clear();
+            departmentNames.clear();
+            cellIndex.clear();
+            cellSize = 0;
+            names.forEach(row -> departmentNames.put((Long) row[0], (String) row[1]));
+            for (Object[] row : cells) {
+                addLocked(new Delta((Long) row[0], (String) row[1], (Long) row[2], (String) row[3],
+                        (Integer) row[4], (String) row[5], (Long) row[6]));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        rebuiltAt = LocalDateTime.now();
+        logger.debug("Enrollment cube rebuilt with {} cells in {} ms", cells.size(),
+                (System.nanoTime() - started) / 1_000_000);
+    }
+
+    private void apply(List<Delta> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        TransactionUtils.afterCommit(() -> {
+            lock.writeLock().lock();
+            try {
+                deltas.forEach(this::addLocked);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    private void addLocked(Delta delta) {
+        int course = courses.encode(delta.courseId);
+        if (course >= courseCodes.length) {
+            courseCodes = Arrays.copyOf(courseCodes, courseCodes.length * 2);
+            courseDepartment = Arrays.copyOf(courseDepartment, courseDepartment.length * 2);
+        }
+        courseCodes[course] = delta.courseCode;
+        courseDepartment[course] = departments.encode(delta.departmentId);
+
+        int semester = semesters.encode(delta.semester);
+        int year = years.encode(delta.year);
+        int grade = grades.encode(delta.grade);
+        long key = ((long) course << (SEMESTER_BITS + YEAR_BITS + GRADE_BITS))
+                | ((long) semester << (YEAR_BITS + GRADE_BITS))
+                | ((long) year << GRADE_BITS)
+                | grade;
+        Integer cell = cellIndex.get(key);
+        if (cell == null) {
+            cell = cellSize++;
+            if (cell == cellCount.length) {
+                int capacity = cellCount.length * 2;
+                cellCourse = Arrays.copyOf(cellCourse, capacity);
+                cellSemester = Arrays.copyOf(cellSemester, capacity);
+                cellYear = Arrays.copyOf(cellYear, capacity);
+                cellGrade = Arrays.copyOf(cellGrade, capacity);
+                cellCount = Arrays.copyOf(cellCount, capacity);
+            }
+            cellCourse[cell] = course;
+            cellSemester[cell] = semester;
+            cellYear[cell] = year;
+            cellGrade[cell] = grade;
+            cellCount[cell] = 0;
+            cellIndex.put(key, cell);
+        }
+        cellCount[cell] += delta.count;
+    }
+
+    private int code(Dimension dimension, int cell, int department) {
+        return switch (dimension) {
+            case DEPARTMENT -> department;
+            case COURSE -> cellCourse[cell];
+            case SEMESTER -> cellSemester[cell];
+            case YEAR -> cellYear[cell];
+            case GRADE -> cellGrade[cell];
+        };
+    }
+
+    private Dictionary<?> dictionary(Dimension dimension) {
+        return switch (dimension) {
+            case DEPARTMENT -> departments;
+            case COURSE -> courses;
+            case SEMESTER -> semesters;
+            case YEAR -> years;
+            case GRADE -> grades;
+        };
+    }
+
+    // Splits the mixed-radix group number back into one code per dimension
+    private EnrollmentReportRow row(Dimension[] dimensions, long[] radix, long group, long count) {
+        EnrollmentReportRow row = new EnrollmentReportRow();
+        for (int d = dimensions.length - 1; d >= 0; d--) {
+            int code = (int) (group % radix[d]);
+            group /= radix[d];
+            switch (dimensions[d]) {
+                case DEPARTMENT -> {
+                    row.setDepartmentId(departments.decode(code));
+                    row.setDepartmentName(departmentNames.get(row.getDepartmentId()));
+                }
+                case COURSE -> {
+                    row.setCourseId(courses.decode(code));
+                    row.setCourseCode(courseCodes[code]);
+                }
+                case SEMESTER -> row.setSemester(semesters.decode(code));
+                case YEAR -> row.setYear(years.decode(code));
+                case GRADE -> row.setGrade(grades.decode(code));
+            }
+        }
+        row.setEnrollments(count);
+        return row;
+    }
+
+    private static Comparator<EnrollmentReportRow> rowOrder(Dimension[] dimensions) {
+        Comparator<EnrollmentReportRow> order = (a, b) -> 0;
+        for (Dimension dimension : dimensions) {
+            order = order.thenComparing(switch (dimension) {
+                case DEPARTMENT -> Comparator.comparing(EnrollmentReportRow::getDepartmentName,
+                        Comparator.nullsLast(Comparator.<String>naturalOrder()));
+                case COURSE -> Comparator.comparing(EnrollmentReportRow::getCourseCode,
+                        Comparator.nullsLast(Comparator.<String>naturalOrder()));
+                case SEMESTER -> Comparator.comparing(EnrollmentReportRow::getSemester);
+                case YEAR -> Comparator.comparing(EnrollmentReportRow::getYear);
+                case GRADE -> Comparator.comparing(EnrollmentReportRow::getGrade,
+                        Comparator.nullsLast(Comparator.<String>naturalOrder()));
+            });
+        }
+        return order;
+    }
+
+    // Null when there is nothing to filter on; values the cube has never seen match nothing
+    private static <T> boolean[] mask(Dictionary<T> dictionary, Collection<T> values) {
+        if (values == null || values.isEmpty()) {
+            return null;
+        }
+        boolean[] mask = new boolean[dictionary.size()];
+        for (T value : values) {
+            int code = dictionary.find(value);
+            if (code > 0) {
+                mask[code] = true;
+            }
+        }
+        return mask;
+    }
+
+    private static boolean excluded(boolean[] mask, int code) {
+        return mask != null && !mask[code];
+    }
+
+    private static Delta delta(StudentEnrollment enrollment, String grade, long count) {
+        Course course = enrollment.getCourse();
+        Long departmentId = course.getDepartment() != null ? course.getDepartment().getId() : null;
+        return new Delta(course.getId(), course.getCode(), departmentId, enrollment.getSemester(),
+                enrollment.getYear(), grade, count);
+    }
+
+    // A change captured inside the writing transaction and applied once it commits
+    private static final class Delta {
+        private final Long courseId;
+        private final String courseCode;
+        private final Long departmentId;
+        private final String semester;
+        private final Integer year;
+        private final String grade;
+        private final long count;
+
+        Delta(Long courseId, String courseCode, Long departmentId, String semester, Integer year, String grade,
+              long count) {
+            this.courseId = courseId;
+            this.courseCode = courseCode;
+            this.departmentId = departmentId;
+            this.semester = semester;
+            this.year = year;
+            this.grade = grade;
+            this.count = count;
+        }
+    }
+
+    // Value <-> dense int code, with code 0 reserved for null
+    private static final class Dictionary<T> {
+        private final String name;
+        private final int limit;
+        private final Map<T, Integer> codes = new HashMap<>();
+        private final List<T> values = new ArrayList<>();
+
+        Dictionary(String name, int limit) {
+            this.name = name;
+            this.limit = limit;
+            values.add(null);
+        }
+
+        int encode(T value) {
+            if (value == null) {
+                return 0;
+            }
+            Integer code = codes.get(value);
+            if (code == null) {
+                if (values.size() == limit) {
+                    throw new IllegalStateException("Enrollment cube holds too many distinct " + name + " values");
+                }
+                code = values.size();
+                codes.put(value, code);
+                values.add(value);
+            }
+            return code;
+        }
+
+        // -1 when the value has never been encoded
+        int find(T value) {
+            if (value == null) {
+                return 0;
+            }
+            return codes.getOrDefault(value, -1);
+        }
+
+        T decode(int code) {
+            return values.get(code);
+        }
+
+        int size() {
+            return values.size();
+        }
+
+        void clear() {
+            codes.clear();
+            values.subList(1, values.size()).clear();
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.university.fms.util;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+// Streaming RFC 4180 reader: holds one record in memory at a time
+public class CsvReader implements Closeable {
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final BufferedReader reader;
+    private boolean endOfInput;
+
+    public CsvReader(Reader reader) {
+        this.reader = new BufferedReader(reader, BUFFER_SIZE);
+    }
+
+    // Next record, or null at the end of input; quoted fields may contain commas, doubled quotes and line breaks
+    public List<String> readRecord() throws IOException {
+        if (endOfInput) {
+            return null;
+        }
+
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        boolean recordStarted = false;
+
+        while (true) {
+            int c = reader.read();
+            if (quoted) {
+                if (c == -1) {
+                    throw new IOException("Unterminated quoted field");
+                }
+                if (c == '"') {
+                    reader.mark(1);
+                    if (reader.read() == '"') {
+                        field.append('"');
+                    } else {
+                        reader.reset();
+                        quoted = false;
+                    }
+                } else {
+                    field.append((char) c);
+                }
+                continue;
+            }
+
+            switch (c) {
+                case -1:
+                    endOfInput = true;
+                    if (!recordStarted && field.length() == 0) {
+                        return null;
+                    }
+                    fields.add(field.toString());
+                    return fields;
+                case '\n':
+                    if (!recordStarted && field.length() == 0) {
+                        // Blank line
+                        continue;
+                    }
+                    fields.add(field.toString());
+                    return fields;
+                case '\r':
+                    continue;
+                case ',':
+                    fields.add(field.toString());
+                    field.setLength(0);
+                    recordStarted = true;
+                    continue;
+                case '"':
+                    if (field.length() == 0) {
+                        quoted = true;
+                        recordStarted = true;
+                        continue;
+                    }
+                    field.append('"');
+                    continue;
+                default:
+                    field.append((char) c);
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
@@ -0,0 +1,61 @@
+package com.university.fms.util;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import static java.util.Map.entry;
+
+// Grade -> grade points on the 4.0 scale, in tenths so sums of quality points stay exact. Letter grades
+// and F count towards the GPA; pass/no-pass grades are attempted but carry no points; W, I, IP and AU are
+// recorded but neither attempted nor earned.
+public final class GradePoints {
+
+    private static final Map<String, Integer> TENTHS = Map.ofEntries(
+            entry("A+", 40), entry("A", 40), entry("A-", 37),
+            entry("B+", 33), entry("B", 30), entry("B-", 27),
+            entry("C+", 23), entry("C", 20), entry("C-", 17),
+            entry("D+", 13), entry("D", 10), entry("D-", 7),
+            entry("F", 0));
+
+    private static final Set<String> PASS = Set.of("P", "S", "CR");
+    private static final Set<String> NO_PASS = Set.of("NP", "U", "NC");
+    private static final Set<String> NOT_ATTEMPTED = Set.of("W", "I", "IP", "AU");
+
+    private GradePoints() {}
+
+    // Trimmed and upper-cased; blank means no grade
+    public static String normalize(String grade) {
+        if (grade == null || grade.isBlank()) {
+            return null;
+        }
+        return grade.trim().toUpperCase(Locale.ROOT);
+    }
+
+    public static boolean isKnown(String grade) {
+        String normalized = normalize(grade);
+        return normalized == null || TENTHS.containsKey(normalized) || PASS.contains(normalized)
+                || NO_PASS.contains(normalized) || NOT_ATTEMPTED.contains(normalized);
+    }
+
+    // Grade points times ten, or null when the grade does not count towards the GPA
+    public static Integer tenths(String grade) {
+        String normalized = normalize(grade);
+        return normalized != null ? TENTHS.get(normalized) : null;
+    }
+
+    public static boolean isAttempted(String grade) {
+        String normalized = normalize(grade);
+        return normalized != null && (TENTHS.containsKey(normalized) || PASS.contains(normalized)
+                || NO_PASS.contains(normalized));
+    }
+
+    public static boolean isEarned(String grade) {
+        String normalized = normalize(grade);
+        if (normalized == null) {
+            return false;
+        }
+        Integer tenths = TENTHS.get(normalized);
+        return tenths != null ? tenths > 0 : PASS.contains(normalized);
+    }
+}
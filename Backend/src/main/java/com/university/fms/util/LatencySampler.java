@@ -0,0 +1,63 @@
+package com.university.fms.util;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// Keeps the most recent samples in a fixed ring so percentiles reflect current load
+public class LatencySampler {
+    private final AtomicLongArray samples;
+    private final AtomicLong count = new AtomicLong();
+
+    public LatencySampler(int capacity) {
+        this.samples = new AtomicLongArray(capacity);
+    }
+
+    public void record(long nanos) {
+        long index = count.getAndIncrement();
+        samples.set((int) (index % samples.length()), nanos);
+    }
+
+    public long getCount() {
+        return count.get();
+    }
+
+    public double getMeanMillis() {
+        long[] snapshot = snapshot();
+        if (snapshot.length == 0) {
+            return 0.0;
+        }
+        return Arrays.stream(snapshot).average().orElse(0.0) / 1_000_000.0;
+    }
+
+    public Map<String, Object> getPercentilesMillis() {
+        long[] snapshot = snapshot();
+        Arrays.sort(snapshot);
+
+        Map<String, Object> percentiles = new LinkedHashMap<>();
+        percentiles.put("p50", percentile(snapshot, 0.50));
+        percentiles.put("p95", percentile(snapshot, 0.95));
+        percentiles.put("p99", percentile(snapshot, 0.99));
+        percentiles.put("max", snapshot.length == 0 ? 0.0 : snapshot[snapshot.length - 1] / 1_000_000.0);
+        return percentiles;
+    }
+
+    private long[] snapshot() {
+        int size = (int) Math.min(count.get(), samples.length());
+        long[] snapshot = new long[size];
+        for (int i = 0; i < size; i++) {
+            snapshot[i] = samples.get(i);
+        }
+        return snapshot;
+    }
+
+    private static double percentile(long[] sorted, double quantile) {
+        if (sorted.length == 0) {
+            return 0.0;
+        }
+        int index = (int) Math.ceil(quantile * sorted.length) - 1;
+        return sorted[Math.max(index, 0)] / 1_000_000.0;
+    }
+}
@@ -0,0 +1,175 @@
+package com.university.fms.service;
+
+import com.university.fms.dto.request.EnrollmentRequest;
+import com.university.fms.dto.response.BatchResult;
+import com.university.fms.dto.response.EnrollmentResponse;
+import com.university.fms.entity.Course;
+import com.university.fms.entity.Role;
+import com.university.fms.entity.StudentEnrollment;
+import com.university.fms.entity.User;
+import com.university.fms.entity.WaitlistEntry;
+import com.university.fms.repository.CourseRepository;
+import com.university.fms.repository.StudentEnrollmentRepository;
+import com.university.fms.repository.UserRepository;
+import com.university.fms.repository.WaitlistEntryRepository;
+import com.university.fms.stats.AcademicRecords;
+import com.university.fms.stats.DashboardCounters;
+import com.university.fms.stats.EnrollmentCube;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+// Thousands of students enrolling in one hot course at once, through the service with its repositories
+// mocked and the real SeatAllocator behind it. Only correctness is checked; wall-clock latency here would
+// mostly measure Mockito and the host, so it lives in SeatAllocatorBenchmark instead.
+class EnrollmentServiceConcurrencyTest {
+
+    private static final String SEMESTER = "Fall";
+    private static final Integer YEAR = 2024;
+    private static final int CAPACITY = 150;
+    private static final int STUDENTS = 3000;
+    private static final int THREADS = 64;
+
+    private EnrollmentService enrollmentService;
+    private SeatAllocator seatAllocator;
+    private UserRepository userRepository;
+    private WaitlistEntryRepository waitlistRepository;
+    private Course course;
+    private final Map<Long, User> students = new HashMap<>();
+    private final Queue<StudentEnrollment> enrolled = new ConcurrentLinkedQueue<>();
+    private final Queue<WaitlistEntry> waitlisted = new ConcurrentLinkedQueue<>();
+
+    @BeforeEach
+    void setUp() {
+        course = new Course("Operating Systems", "CS301", null, 3, null);
+        course.setId(1L);
+        course.setCapacity(CAPACITY);
+        Role studentRole = new Role("STUDENT");
+        for (long id = 1; id <= STUDENTS; id++) {
+            User student = new User("student" + id, "secret", "student" + id + "@example.edu");
+            student.setId(id);
+            student.getRoles().add(studentRole);
+            students.put(id, student);
+        }
+
+        StudentEnrollmentRepository enrollmentRepository = mock(StudentEnrollmentRepository.class);
+        userRepository = mock(UserRepository.class);
+        CourseRepository courseRepository = mock(CourseRepository.class);
+        waitlistRepository = mock(WaitlistEntryRepository.class);
+        TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        when(userRepository.findById(anyLong())).thenAnswer(invocation ->
+                Optional.ofNullable(students.get(invocation.<Long>getArgument(0))));
+        when(userRepository.getReferenceById(anyLong())).thenAnswer(invocation ->
+                students.get(invocation.<Long>getArgument(0)));
+        when(courseRepository.findById(course.getId())).thenReturn(Optional.of(course));
+        when(courseRepository.findAllById(any())).thenReturn(List.of(course));
+        when(enrollmentRepository.saveAndFlush(any())).thenAnswer(invocation -> {
+            enrolled.add(invocation.getArgument(0));
+            return invocation.getArgument(0);
+        });
+        when(waitlistRepository.saveAndFlush(any())).thenAnswer(invocation -> {
+            waitlisted.add(invocation.getArgument(0));
+            return invocation.getArgument(0);
+        });
+        when(waitlistRepository.existsByCourseIdAndSemesterAndYear(any(), any(), any()))
+                .thenAnswer(invocation -> !waitlisted.isEmpty());
+
+        seatAllocator = new SeatAllocator();
+        ReflectionTestUtils.setField(seatAllocator, "enrollmentRepository", enrollmentRepository);
+
+        enrollmentService = new EnrollmentService();
+        ReflectionTestUtils.setField(enrollmentService, "enrollmentRepository", enrollmentRepository);
+        ReflectionTestUtils.setField(enrollmentService, "userRepository", userRepository);
+        ReflectionTestUtils.setField(enrollmentService, "courseRepository", courseRepository);
+        ReflectionTestUtils.setField(enrollmentService, "waitlistRepository", waitlistRepository);
+        ReflectionTestUtils.setField(enrollmentService, "seatAllocator", seatAllocator);
+        ReflectionTestUtils.setField(enrollmentService, "prerequisiteGraph", mock(PrerequisiteGraph.class));
+        ReflectionTestUtils.setField(enrollmentService, "dashboardCounters", mock(DashboardCounters.class));
+        ReflectionTestUtils.setField(enrollmentService, "enrollmentCube", mock(EnrollmentCube.class));
+        ReflectionTestUtils.setField(enrollmentService, "academicRecords", mock(AcademicRecords.class));
+        ReflectionTestUtils.setField(enrollmentService, "transactionTemplate", transactionTemplate);
+        ReflectionTestUtils.setField(enrollmentService, "maxAttempts", 3);
+    }
+
+    @Test
+    void concurrentEnrollsInAHotCourseNeverOversell() throws Exception {
+        List<EnrollmentResponse> responses = Collections.synchronizedList(new ArrayList<>());
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<?>> futures = new ArrayList<>();
+            for (long id = 1; id <= STUDENTS; id++) {
+                EnrollmentRequest request = request(id);
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    responses.add(enrollmentService.enroll(request));
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(CAPACITY, enrolled.size());
+        assertEquals(STUDENTS - CAPACITY, waitlisted.size());
+        assertEquals(STUDENTS, responses.size());
+        assertEquals(0, seatAllocator.available(course.getId(), SEMESTER, YEAR, CAPACITY));
+        Set<Long> enrolledStudents = new HashSet<>();
+        enrolled.forEach(enrollment -> assertTrue(enrolledStudents.add(enrollment.getStudent().getId())));
+    }
+
+    @Test
+    void batchEnrollQueuesBehindStudentsAlreadyWaiting() {
+        // Someone is already queued for the section, so the free seats are theirs
+        waitlisted.add(new WaitlistEntry(students.get(1L), course, SEMESTER, YEAR));
+        List<EnrollmentRequest> requests = List.of(request(2), request(3), request(4));
+        when(userRepository.findIdsByRoleNameAndIdIn(any(), any())).thenReturn(List.of(2L, 3L, 4L));
+
+        BatchResult result = enrollmentService.enrollAll(requests);
+
+        assertEquals(0, result.getSucceeded());
+        assertEquals(3, result.getWaitlisted());
+        assertEquals(CAPACITY, seatAllocator.available(course.getId(), SEMESTER, YEAR, CAPACITY));
+    }
+
+    @Test
+    void batchEnrollFillsFreeSeatsAndQueuesTheRest() {
+        course.setCapacity(2);
+        List<EnrollmentRequest> requests = List.of(request(1), request(2), request(3), request(4));
+        when(userRepository.findIdsByRoleNameAndIdIn(any(), any())).thenReturn(List.of(1L, 2L, 3L, 4L));
+
+        BatchResult result = enrollmentService.enrollAll(requests);
+
+        assertEquals(2, result.getSucceeded());
+        assertEquals(2, result.getWaitlisted());
+        assertEquals(0, seatAllocator.available(course.getId(), SEMESTER, YEAR, 2));
+    }
+
+    private EnrollmentRequest request(long studentId) {
+        EnrollmentRequest request = new EnrollmentRequest();
+        request.setStudentId(studentId);
+        request.setCourseId(course.getId());
+        request.setSemester(SEMESTER);
+        request.setYear(YEAR);
+        return request;
+    }
+}
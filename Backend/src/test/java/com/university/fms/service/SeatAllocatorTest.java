@@ -0,0 +1,118 @@
+package com.university.fms.service;
+
+import com.university.fms.repository.StudentEnrollmentRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntConsumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SeatAllocatorTest {
+
+    private static final Long COURSE_ID = 1L;
+    private static final String SEMESTER = "Fall";
+    private static final Integer YEAR = 2024;
+    private static final int CAPACITY = 100;
+    private static final int CALLERS = 5000;
+    private static final int THREADS = 64;
+
+    private SeatAllocator seatAllocator;
+
+    @BeforeEach
+    void setUp() {
+        StudentEnrollmentRepository enrollmentRepository = mock(StudentEnrollmentRepository.class);
+        when(enrollmentRepository.countByCourseIdAndSemesterAndYear(any(), any(), any())).thenReturn(0L);
+        seatAllocator = new SeatAllocator();
+        ReflectionTestUtils.setField(seatAllocator, "enrollmentRepository", enrollmentRepository);
+    }
+
+    @Test
+    void concurrentReservationsOnOneSectionNeverOversell() throws Exception {
+        AtomicInteger reserved = new AtomicInteger();
+        runConcurrently(CALLERS, caller -> {
+            if (seatAllocator.tryReserve(COURSE_ID, SEMESTER, YEAR, CAPACITY)) {
+                reserved.incrementAndGet();
+            }
+        });
+
+        assertEquals(CAPACITY, reserved.get());
+        assertEquals(0, seatAllocator.available(COURSE_ID, SEMESTER, YEAR, CAPACITY));
+    }
+
+    @Test
+    void rolledBackReservationsHandTheirSeatsBack() throws Exception {
+        AtomicInteger committed = new AtomicInteger();
+        runConcurrently(CALLERS, caller -> {
+            // Every other caller's transaction rolls back after taking a seat
+            boolean rollBack = caller % 2 == 0;
+            TransactionSynchronizationManager.initSynchronization();
+            try {
+                boolean reserved = seatAllocator.tryReserve(COURSE_ID, SEMESTER, YEAR, CAPACITY);
+                if (reserved && !rollBack) {
+                    committed.incrementAndGet();
+                }
+                int status = rollBack ? TransactionSynchronization.STATUS_ROLLED_BACK
+                        : TransactionSynchronization.STATUS_COMMITTED;
+                TransactionSynchronizationManager.getSynchronizations().forEach(sync -> sync.afterCompletion(status));
+            } finally {
+                TransactionSynchronizationManager.clearSynchronization();
+            }
+        });
+
+        assertTrue(committed.get() <= CAPACITY, "committed " + committed.get() + " seats of " + CAPACITY);
+        assertEquals(CAPACITY - committed.get(), seatAllocator.available(COURSE_ID, SEMESTER, YEAR, CAPACITY));
+    }
+
+    @Test
+    void releasedSeatsAreResoldWithoutOverselling() throws Exception {
+        AtomicInteger held = new AtomicInteger();
+        AtomicInteger maxHeld = new AtomicInteger();
+        runConcurrently(CALLERS, caller -> {
+            if (seatAllocator.tryReserve(COURSE_ID, SEMESTER, YEAR, CAPACITY)) {
+                maxHeld.accumulateAndGet(held.incrementAndGet(), Math::max);
+                // Drop the seat again straight away so it is sold to someone else
+                held.decrementAndGet();
+                seatAllocator.release(COURSE_ID, SEMESTER, YEAR);
+            }
+        });
+
+        assertTrue(maxHeld.get() <= CAPACITY, "held " + maxHeld.get() + " seats of " + CAPACITY);
+        assertEquals(CAPACITY, seatAllocator.available(COURSE_ID, SEMESTER, YEAR, CAPACITY));
+    }
+
+    // Releases every caller at once from a latch so they all contend for the section together. Latency under
+    // contention is measured by SeatAllocatorBenchmark in the benchmarks profile, not asserted here.
+    private static void runConcurrently(int callers, IntConsumer call) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<?>> futures = new ArrayList<>(callers);
+            for (int caller = 0; caller < callers; caller++) {
+                int id = caller;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    call.accept(id);
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
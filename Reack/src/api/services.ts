@@ -11,6 +11,8 @@ import {
   DepartmentRequest,
   CourseRequest,
   PublicationRequest,
+  DashboardStats,
+  DepartmentStats,
   ApiResponse
 } from '../types';
 
@@ -73,6 +75,12 @@ export const publicationService = {
   delete: (id: number) => api.delete<ApiResponse<void>>(`/publications/${id}`),
 };
 
+// Dashboard Statistics
+export const statsService = {
+  get: () => api.get<ApiResponse<DashboardStats>>('/stats'),
+  getByDepartment: (departmentId: number) => api.get<ApiResponse<DepartmentStats>>(`/stats/departments/${departmentId}`),
+};
+
 // Role Services
 export const roleService = {
   getAll: () => api.get<ApiResponse<Role[]>>('/roles'),
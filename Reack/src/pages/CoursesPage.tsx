@@ -92,14 +92,25 @@ const CoursesPage: React.FC = () => {
     }
   };
 
-  const handleEdit = (course: Course) => {
-    setEditingCourse(course);
+  const handleEdit = async (course: Course) => {
+    // List responses leave out the description, so load the full course before editing
+    let detail = course;
+    try {
+      const response = await courseService.getById(course.id);
+      detail = response.data.data;
+    } catch (error) {
+      toast.error('Failed to load course details');
+      return;
+    }
+
+    setEditingCourse(detail);
     setFormData({
-      name: course.name,
-      code: course.code,
-      description: course.description || '',
-      credits: course.credits,
-      departmentId: course.department?.id,
+      name: detail.name,
+      code: detail.code,
+      description: detail.description || '',
+      credits: detail.credits,
+      capacity: detail.capacity,
+      departmentId: detail.department?.id,
     });
     setIsDialogOpen(true);
   };
@@ -310,6 +321,18 @@ const CoursesPage: React.FC = () => {
                   </Select>
                 </div>
               </div>
+
+              <div className="space-y-2">
+                <Label htmlFor="capacity">Seats per section</Label>
+                <Input
+                  id="capacity"
+                  type="number"
+                  min="1"
+                  value={formData.capacity ?? ''}
+                  onChange={(e) => setFormData({ ...formData, capacity: parseInt(e.target.value) || undefined })}
+                  placeholder="Unlimited"
+                />
+              </div>
               
               <div className="space-y-2">
                 <Label htmlFor="description">Description</Label>
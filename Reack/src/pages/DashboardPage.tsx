@@ -4,7 +4,7 @@ import { Card, CardContent, CardDescription, CardHeader, CardTitle } from '../co
 import { Button } from '../components/ui/button';
 import { Users, BookOpen, Building2, FileText, TrendingUp, Calendar } from 'lucide-react';
 import { Link } from 'react-router-dom';
-import { facultyService, departmentService, courseService, publicationService } from '../api/services';
+import { statsService } from '../api/services';
 import { toast } from 'react-hot-toast';
 
 interface DashboardStats {
@@ -27,18 +27,14 @@ const DashboardPage: React.FC = () => {
   useEffect(() => {
     const fetchStats = async () => {
       try {
-        const [facultyRes, departmentRes, courseRes, publicationRes] = await Promise.all([
-          facultyService.getAll(),
-          departmentService.getAll(),
-          courseService.getAll(),
-          publicationService.getAll(),
-        ]);
+        const response = await statsService.get();
+        const { departments, totals } = response.data.data;
 
         setStats({
-          totalFaculty: facultyRes.data.data.length,
-          totalDepartments: departmentRes.data.data.length,
-          totalCourses: courseRes.data.data.length,
-          totalPublications: publicationRes.data.data.length,
+          totalFaculty: totals.faculty,
+          totalDepartments: departments,
+          totalCourses: totals.courses,
+          totalPublications: totals.publications,
         });
       } catch (error) {
         toast.error('Failed to load dashboard statistics');
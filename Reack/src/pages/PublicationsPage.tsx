@@ -101,16 +101,26 @@ const PublicationsPage: React.FC = () => {
     }
   };
 
-  const handleEdit = (publication: Publication) => {
-    setEditingPublication(publication);
+  const handleEdit = async (publication: Publication) => {
+    // List responses leave out the abstract, so load the full publication before editing
+    let detail = publication;
+    try {
+      const response = await publicationService.getById(publication.id);
+      detail = response.data.data;
+    } catch (error) {
+      toast.error('Failed to load publication details');
+      return;
+    }
+
+    setEditingPublication(detail);
     setFormData({
-      facultyId: publication.faculty.id,
-      title: publication.title,
-      publicationDate: publication.publicationDate.split('T')[0], // Convert to YYYY-MM-DD format
-      journalName: publication.journalName || '',
-      url: publication.url || '',
-      abstractText: publication.abstractText || '',
-      doi: publication.doi || '',
+      facultyId: detail.faculty.id,
+      title: detail.title,
+      publicationDate: detail.publicationDate.split('T')[0], // Convert to YYYY-MM-DD format
+      journalName: detail.journalName || '',
+      url: detail.url || '',
+      abstractText: detail.abstractText || '',
+      doi: detail.doi || '',
     });
     setIsDialogOpen(true);
   };
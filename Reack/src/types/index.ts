@@ -41,6 +41,7 @@ export interface Course {
   code: string;
   description?: string;
   credits: number;
+  capacity?: number;
   department?: Department;
   createdAt: string;
   updatedAt: string;
@@ -73,6 +74,25 @@ export interface LoginResponse {
   roles: string[];
 }
 
+export interface StatCounts {
+  faculty: number;
+  courses: number;
+  publications: number;
+  enrollments: number;
+}
+
+export interface DepartmentStats extends StatCounts {
+  departmentId?: number;
+  departmentName?: string;
+}
+
+export interface DashboardStats {
+  departments: number;
+  totals: StatCounts;
+  byDepartment: DepartmentStats[];
+  reconciledAt?: string;
+}
+
 export interface ApiResponse<T> {
   success: boolean;
   message: string;
@@ -108,6 +128,7 @@ export interface CourseRequest {
   code: string;
   description?: string;
   credits: number;
+  capacity?: number;
   departmentId?: number;
 }
 